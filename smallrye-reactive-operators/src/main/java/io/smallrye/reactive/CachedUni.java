@@ -0,0 +1,45 @@
+package io.smallrye.reactive;
+
+import java.time.Duration;
+
+/**
+ * A {@link Uni} caching the outcome (item or failure) of its upstream for a limited amount of time.
+ * <p>
+ * While the cached outcome is valid, subscribers receive it without subscribing to the upstream. Once expired, the
+ * next subscriber triggers a new subscription to the upstream, and the concurrent subscribers share the result of
+ * this subscription.
+ * <p>
+ * Instances are immutable, the {@code with...} methods return new instances with a fresh cache.
+ *
+ * @param <T> the type of item
+ */
+public interface CachedUni<T> extends Uni<T> {
+
+    /**
+     * Creates a new {@link CachedUni} using a specific time-to-live for the failures. By default, failures use the
+     * same time-to-live as the items.
+     *
+     * @param ttl the time-to-live of the failures, must not be {@code null}, can be zero to avoid caching failures
+     *            (the subscribers waiting for the outcome still share the failure)
+     * @return the new {@link CachedUni}
+     */
+    CachedUni<T> withFailureTtl(Duration ttl);
+
+    /**
+     * Creates a new {@link CachedUni} refreshing the cached item ahead of its expiration. Once the cached item
+     * is older than its time-to-live minus the given duration, the next subscriber triggers a subscription to the
+     * upstream in the background, while the subscribers keep receiving the cached item. The cached item is replaced
+     * when the refresh emits an item. If the refresh fails, the cached item is kept until its expiration.
+     *
+     * @param duration the duration before the expiration at which the item is refreshed, must be strictly positive
+     *                 and shorter than the item time-to-live
+     * @return the new {@link CachedUni}
+     */
+    CachedUni<T> withRefreshAhead(Duration duration);
+
+    /**
+     * Invalidates the cached outcome. The next subscriber triggers a new subscription to the upstream. Subscribers
+     * already waiting for an outcome still receive it.
+     */
+    void invalidate();
+}
@@ -149,6 +149,39 @@ public interface Multi<T> extends Publisher<T> {
      */
     Multi<T> emitOn(Executor executor);
 
+    /**
+     * Like {@link #emitOn(Executor)}, but configures the number of items requested upfront from the upstream and
+     * buffered until the executor emits them downstream.
+     * <p>
+     * Each executor task emits as many buffered items as possible. Larger values reduce the number of tasks
+     * submitted to the executor, smaller values reduce the memory footprint.
+     *
+     * @param executor the executor to use, must not be {@code null}
+     * @param prefetch the number of items requested upfront, must be strictly positive
+     * @return a new {@link Multi}
+     */
+    Multi<T> emitOn(Executor executor, int prefetch);
+
+    /**
+     * Splits this {@link Multi} into {@code parallelism} rails. The items emitted by this {@link Multi} are dispatched
+     * round-robin to the rails.
+     * <p>
+     * The operations applied on the returned {@link ParallelMulti} are executed on each rail independently. Use
+     * {@link ParallelMulti#runOn(Executor)} to process the rails concurrently, and {@link ParallelMulti#sequential()}
+     * to merge the rails back into a {@link Multi}:
+     *
+     * <pre>{@code
+     * Multi<String> hashes = multi.parallel(4)
+     *      .runOn(executor)
+     *      .map(this::hash)
+     *      .sequential();
+     * }</pre>
+     *
+     * @param parallelism the number of rails, must be strictly positive
+     * @return the {@link ParallelMulti}
+     */
+    ParallelMulti<T> parallel(int parallelism);
+
     /**
      * When a subscriber subscribes to this {@link Multi}, execute the subscription to the upstream {@link Multi} on a
      * thread from the given executor. As a result, the {@link Subscriber#onSubscribe(Subscription)} method will be called
@@ -0,0 +1,89 @@
+package io.smallrye.reactive;
+
+import io.smallrye.reactive.infrastructure.Infrastructure;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Represents a {@link Multi} split into several <em>rails</em>. Each item emitted by the upstream {@link Multi} is
+ * dispatched to one of the rails (round-robin, according to the rail requests). The operations applied on a
+ * {@link ParallelMulti} are executed on each rail independently.
+ * <p>
+ * Use {@link #runOn(Executor)} to process each rail on a thread from an executor, and {@link #sequential()} to
+ * merge the rails back into a {@link Multi}. The order of the items is not preserved.
+ *
+ * @param <T> the type of item
+ */
+public interface ParallelMulti<T> {
+
+    /**
+     * @return the number of rails
+     */
+    int parallelism();
+
+    /**
+     * Subscribes the given subscribers, one per rail.
+     * <p>
+     * The number of subscribers must be equal to {@link #parallelism()}, otherwise all the subscribers receive a
+     * failure.
+     *
+     * @param subscribers the subscribers, must not be {@code null}
+     */
+    void subscribe(Subscriber<? super T>[] subscribers);
+
+    /**
+     * Emits the events of each rail on the given {@link Executor}. Each rail gets its own serialized processing, so
+     * the operations applied after this one run concurrently on up to {@link #parallelism()} threads.
+     *
+     * @param executor the executor, must not be {@code null}
+     * @return the new {@link ParallelMulti}
+     */
+    ParallelMulti<T> runOn(Executor executor);
+
+    /**
+     * Emits the events of each rail on the {@link Infrastructure#getDefaultExecutor() default executor}.
+     *
+     * @return the new {@link ParallelMulti}
+     * @see #runOn(Executor)
+     */
+    ParallelMulti<T> runOn();
+
+    /**
+     * Transforms the items of each rail using the given mapper.
+     *
+     * @param mapper the mapper, must not be {@code null}, must not return {@code null}
+     * @param <O>    the type of produced item
+     * @return the new {@link ParallelMulti}
+     */
+    <O> ParallelMulti<O> map(Function<? super T, ? extends O> mapper);
+
+    /**
+     * Only passes the items of each rail accepted by the given predicate.
+     *
+     * @param predicate the predicate, must not be {@code null}
+     * @return the new {@link ParallelMulti}
+     */
+    ParallelMulti<T> filter(Predicate<? super T> predicate);
+
+    /**
+     * Maps each item of each rail to a {@link Publisher} and merges the items emitted by these publishers into the
+     * rail.
+     *
+     * @param mapper the mapper, must not be {@code null}, must not return {@code null}
+     * @param <O>    the type of item emitted by the produced {@link Publisher}
+     * @return the new {@link ParallelMulti}
+     */
+    <O> ParallelMulti<O> flatMap(Function<? super T, ? extends Publisher<? extends O>> mapper);
+
+    /**
+     * Merges the rails back into a {@link Multi}. The items are emitted as they come from the different rails.
+     *
+     * @return the produced {@link Multi}
+     */
+    Multi<T> sequential();
+
+}
@@ -0,0 +1,83 @@
+package io.smallrye.reactive;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.positive;
+import static io.smallrye.reactive.helpers.ParameterValidation.validate;
+
+/**
+ * A token bucket limiting the rate of retries. A single budget can be shared by several pipelines to cap the global
+ * retry rate, for example during an outage of a backend used by many streams.
+ * <p>
+ * Each retry consumes a token. Up to {@code maxRetries} tokens can be consumed in a burst, and the tokens are
+ * refilled at a rate of {@code maxRetries} per {@code period}. When the budget is exhausted, the failure is
+ * propagated instead of being retried.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * RetryBudget budget = RetryBudget.of(100, Duration.ofSeconds(1));
+ * uni.onFailure().retry().withBackOff(Duration.ofMillis(10)).withBudget(budget).atMost(5);
+ * }</pre>
+ * <p>
+ * This class is thread-safe and does not block.
+ */
+public final class RetryBudget {
+
+    /**
+     * The time, in nanoseconds, at which the bucket is full again. Consuming a token moves it forward by
+     * {@link #interval}.
+     */
+    private final AtomicLong fullAt;
+    private final long interval;
+    private final long burst;
+
+    private RetryBudget(long maxRetries, Duration period) {
+        this.interval = Math.max(1, period.toNanos() / maxRetries);
+        this.burst = interval * maxRetries;
+        this.fullAt = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Creates a new {@link RetryBudget}.
+     *
+     * @param maxRetries the maximum number of retries per {@code period}, must be strictly positive
+     * @param period the period, must not be {@code null}, must be strictly positive
+     * @return the new {@link RetryBudget}
+     */
+    public static RetryBudget of(long maxRetries, Duration period) {
+        return new RetryBudget(positive(maxRetries, "maxRetries"), validate(period, "period"));
+    }
+
+    /**
+     * Tries to consume a token.
+     *
+     * @return {@code true} if a token has been consumed and the retry can happen, {@code false} if the budget is
+     * exhausted.
+     */
+    public boolean tryAcquire() {
+        long now = System.nanoTime();
+        for (; ; ) {
+            long current = fullAt.get();
+            long base = current - now < 0 ? now : current;
+            long next = base + interval;
+            if (next - now > burst) {
+                return false;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return the number of retries that can happen right now.
+     */
+    public long available() {
+        long pending = fullAt.get() - System.nanoTime();
+        if (pending <= 0) {
+            return burst / interval;
+        }
+        return (burst - pending) / interval;
+    }
+}
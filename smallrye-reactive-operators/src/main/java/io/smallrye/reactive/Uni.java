@@ -5,6 +5,7 @@ import io.smallrye.reactive.subscription.UniSubscriber;
 import io.smallrye.reactive.subscription.UniSubscription;
 import io.smallrye.reactive.tuples.Tuple2;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
@@ -67,6 +68,18 @@ public interface Uni<T> {
         return UniCombine.INSTANCE;
     }
 
+    /**
+     * Creates a {@link UniMemoizer} memoizing the items produced by {@link Uni unis} per key, such as:
+     * <pre>{@code
+     * UniMemoizer<String, User> users = Uni.memoize().using(id -> fetchUser(id), 1000, Duration.ofMinutes(5));
+     * }</pre>
+     *
+     * @return the factory used to create the {@link UniMemoizer} instances
+     */
+    static UniMemoize memoize() {
+        return UniMemoize.INSTANCE;
+    }
+
     /**
      * Requests the {@link Uni} to start resolving the item and allows configuring how the signals are propagated
      * (using a {@link UniSubscriber}, callbacks, or a {@link CompletionStage}. Unlike {@link #await()}, this method
@@ -239,6 +252,22 @@ public interface Uni<T> {
      */
     UniOnTimeout<T> onNoItem();
 
+    /**
+     * Produces a {@link Uni} hedging this {@link Uni}: if this {@link Uni} does not emit an event within a delay, a
+     * new subscription is made to this {@link Uni}. The first event wins, and the other subscriptions are cancelled.
+     * <p>
+     * Examples:
+     * <code>
+     * uni.hedge().after(Duration.ofMillis(50)).atMost(2) // Subscribe a second time after 50 ms
+     * uni.hedge().atPercentile(0.95, Duration.ofMillis(50)).atMost(3) // Use the observed p95 as delay
+     * </code>
+     * <p>
+     * Only hedge {@link Uni unis} that can safely be subscribed to several times, such as idempotent reads.
+     *
+     * @return the object to configure the hedging
+     */
+    UniHedge<T> hedge();
+
     /**
      * Produces a new {@link Uni} invoking the {@link UniSubscriber#onItem(Object)} and
      * {@link UniSubscriber#onFailure(Throwable)} on the supplied {@link Executor}.
@@ -269,6 +298,19 @@ public interface Uni<T> {
      */
     Uni<T> cache();
 
+    /**
+     * Caches the events (item or failure) of this {@link Uni} for the given duration, and replays them to the
+     * {@link UniSubscriber subscribers} during this period. Once the cached events expire, the next subscriber
+     * re-subscribes to this {@link Uni}.
+     * <p>
+     * The returned {@link CachedUni} allows configuring a specific time-to-live for the failures, enabling
+     * refresh-ahead, and invalidating the cached events.
+     *
+     * @param ttl the time-to-live of the cached events, must not be {@code null}, must be strictly positive
+     * @return the new {@link CachedUni}
+     */
+    CachedUni<T> cache(Duration ttl);
+
     /**
      * Transforms the item (potentially null) emitted by this {@link Uni} by applying a (synchronous) function to it.
      * This method is equivalent to {@code uni.onItem().mapToItem(x -> ...)}
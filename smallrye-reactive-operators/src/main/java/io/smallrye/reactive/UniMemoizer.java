@@ -0,0 +1,104 @@
+package io.smallrye.reactive;
+
+import java.time.Duration;
+
+/**
+ * Memoizes the items produced by a {@link Uni} per key.
+ * <p>
+ * For each key, the {@link Uni} produced by the loader is cached using {@link Uni#cache(Duration)}. So, concurrent
+ * subscribers asking for the same key share a single subscription to the loaded {@link Uni}, and the produced item
+ * is replayed until it expires. Failures are not cached, they are only propagated to the subscribers waiting for
+ * the outcome, and the next subscriber triggers a new load.
+ * <p>
+ * The number of memoized keys is bounded. When the bound is exceeded, keys are evicted using a policy approximating
+ * LRU, expired keys being evicted first.
+ * <p>
+ * Instances are created using {@link Uni#memoize()}:
+ * <pre>{@code
+ * UniMemoizer<String, User> users = Uni.memoize().using(id -> fetchUser(id), 1000, Duration.ofMinutes(5));
+ * Uni<User> user = users.get("luke");
+ * }</pre>
+ *
+ * @param <K> the type of key
+ * @param <V> the type of memoized item
+ */
+public interface UniMemoizer<K, V> {
+
+    /**
+     * Gets the {@link Uni} emitting the item associated with the given key. The lookup happens at subscription time,
+     * so the returned {@link Uni} can be subscribed several times and always returns the current memoized item.
+     *
+     * @param key the key, must not be {@code null}
+     * @return the {@link Uni}
+     */
+    Uni<V> get(K key);
+
+    /**
+     * Invalidates the item associated with the given key, if any. Subscribers already waiting for the item still
+     * receive it.
+     *
+     * @param key the key, must not be {@code null}
+     */
+    void invalidate(K key);
+
+    /**
+     * Invalidates all the memoized items.
+     */
+    void invalidateAll();
+
+    /**
+     * @return the number of memoized keys
+     */
+    int size();
+
+    /**
+     * @return the number of subscriptions served by this memoizer
+     */
+    long requestCount();
+
+    /**
+     * @return the number of subscriptions served from a memoized (or in-flight) item
+     */
+    long hitCount();
+
+    /**
+     * @return the number of subscriptions to {@link Uni} produced by the loader
+     */
+    long loadCount();
+
+    /**
+     * @return the number of keys evicted because the maximum size was exceeded
+     */
+    long evictionCount();
+
+    /**
+     * Gets the statistics of the entry associated with the given key.
+     *
+     * @param key the key, must not be {@code null}
+     * @return the statistics, {@code null} if the key is not memoized
+     */
+    EntryStatistics statistics(K key);
+
+    /**
+     * Statistics about a memoized key.
+     */
+    interface EntryStatistics {
+
+        /**
+         * @return the number of subscriptions for the key
+         */
+        long requestCount();
+
+        /**
+         * @return the number of subscriptions for the key served from a memoized (or in-flight) item
+         */
+        default long hitCount() {
+            return requestCount() - loadCount();
+        }
+
+        /**
+         * @return the number of subscriptions to the {@link Uni} produced by the loader for the key
+         */
+        long loadCount();
+    }
+}
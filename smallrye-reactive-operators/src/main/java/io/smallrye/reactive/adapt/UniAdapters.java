@@ -0,0 +1,151 @@
+package io.smallrye.reactive.adapt;
+
+import io.smallrye.reactive.Uni;
+import org.reactivestreams.Publisher;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.function.Function;
+
+/**
+ * The registry of the conversions to and from {@link Uni}.
+ * <p>
+ * The {@link UniAdapter adapters} are loaded once, and the conversion for a given class is resolved on first use and
+ * then cached, using a {@link ClassValue} so the cache does not prevent the class from being unloaded. When no
+ * adapter accepts the class, the conversion uses the {@code fromPublisher} / {@code from} factory methods (to) or the
+ * {@code toPublisher} / {@code toFlowable} methods (from), invoked through {@link MethodHandle method handles}
+ * looked up once.
+ */
+final class UniAdapters {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+
+    private static final List<UniAdapter> ADAPTERS = load();
+
+    private static final ClassValue<Function<Uni<?>, Object>> TO = new ClassValue<Function<Uni<?>, Object>>() {
+        @Override
+        protected Function<Uni<?>, Object> computeValue(Class<?> type) {
+            return resolveTo(type);
+        }
+    };
+
+    private static final ClassValue<Function<Object, Uni<?>>> FROM = new ClassValue<Function<Object, Uni<?>>>() {
+        @Override
+        protected Function<Object, Uni<?>> computeValue(Class<?> type) {
+            return resolveFrom(type);
+        }
+    };
+
+    private UniAdapters() {
+        // Avoid direct instantiation.
+    }
+
+    /**
+     * @param output the output class
+     * @return the function converting a {@link Uni} into an instance of {@code output}. If no conversion is
+     * available, the function throws an {@link IllegalArgumentException}.
+     */
+    static Function<Uni<?>, Object> to(Class<?> output) {
+        return TO.get(output);
+    }
+
+    /**
+     * @param type the class of the instances to convert
+     * @return the function converting an instance of {@code type} into a {@link Uni}. If no conversion is
+     * available, the function throws a {@link RuntimeException}.
+     */
+    static Function<Object, Uni<?>> from(Class<?> type) {
+        return FROM.get(type);
+    }
+
+    private static List<UniAdapter> load() {
+        List<UniAdapter> adapters = new ArrayList<>();
+        ServiceLoader.load(UniAdapter.class).iterator().forEachRemaining(adapters::add);
+        return adapters;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Uni<?>, Object> resolveTo(Class<?> output) {
+        for (UniAdapter adapter : ADAPTERS) {
+            if (adapter.accept(output)) {
+                return adapter::adaptTo;
+            }
+        }
+
+        MethodHandle factory = findFactory(output, "fromPublisher");
+        if (factory == null) {
+            factory = findFactory(output, "from");
+        }
+        if (factory == null) {
+            return uni -> {
+                throw new IllegalArgumentException(
+                        "Unable to create an instance of " + output.getName() + " from a Uni, no adapter found");
+            };
+        }
+        MethodHandle handle = factory;
+        return uni -> invoke(handle, uni.adapt().toPublisher());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Uni<?>> resolveFrom(Class<?> type) {
+        for (UniAdapter adapter : ADAPTERS) {
+            if (adapter.accept(type)) {
+                return adapter::adaptFrom;
+            }
+        }
+
+        MethodHandle converter = findConverter(type, "toPublisher");
+        if (converter == null) {
+            // Very RX Java specific.
+            converter = findConverter(type, "toFlowable");
+        }
+        if (converter == null) {
+            return instance -> {
+                throw new RuntimeException(
+                        "Unable to create an instance of Uni from an instance of " + type.getName()
+                                + ", no adapter found");
+            };
+        }
+        MethodHandle handle = converter;
+        return instance -> Uni.createFrom().publisher((Publisher<?>) invoke(handle, instance));
+    }
+
+    private static MethodHandle findFactory(Class<?> output, String name) {
+        try {
+            Method method = output.getMethod(name, Publisher.class);
+            if (Modifier.isStatic(method.getModifiers())) {
+                return LOOKUP.unreflect(method);
+            }
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            // Not available
+        }
+        return null;
+    }
+
+    private static MethodHandle findConverter(Class<?> type, String name) {
+        try {
+            Method method = type.getMethod(name);
+            if (!Modifier.isStatic(method.getModifiers())) {
+                return LOOKUP.unreflect(method);
+            }
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            // Not available
+        }
+        return null;
+    }
+
+    private static Object invoke(MethodHandle handle, Object argument) {
+        try {
+            return handle.invoke(argument);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Unable to convert the instance", e);
+        }
+    }
+}
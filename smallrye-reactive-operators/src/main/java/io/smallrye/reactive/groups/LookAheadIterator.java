@@ -0,0 +1,40 @@
+package io.smallrye.reactive.groups;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Base class of the primitive iterators that need to pull values from their upstream to know whether they have a
+ * next value, such as the filtering iterators of {@link MultiInt} and {@link MultiLong}.
+ * <p>
+ * Subclasses store the fetched value in a primitive field, so no boxing happens.
+ */
+abstract class LookAheadIterator {
+
+    private boolean hasValue;
+
+    /**
+     * Pulls values from the upstream until a value to emit is found, and stores it.
+     *
+     * @return {@code true} if a value has been stored, {@code false} if the upstream has no more values
+     */
+    protected abstract boolean fetch();
+
+    public boolean hasNext() {
+        if (!hasValue) {
+            hasValue = fetch();
+        }
+        return hasValue;
+    }
+
+    /**
+     * Marks the stored value as consumed. Subclasses call this method before returning the stored value.
+     *
+     * @throws NoSuchElementException if there is no more value
+     */
+    protected void consume() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        hasValue = false;
+    }
+}
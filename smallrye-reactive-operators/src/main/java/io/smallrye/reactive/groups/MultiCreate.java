@@ -9,18 +9,14 @@ import io.smallrye.reactive.subscription.MultiEmitter;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 
-import java.util.Arrays;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import static io.smallrye.reactive.helpers.ParameterValidation.SUPPLIER_PRODUCED_NULL;
 import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
@@ -206,35 +202,7 @@ public class MultiCreate {
      * @return the new {@link Multi}
      */
     public <T> Multi<T> deferredItems(Supplier<? extends Stream<? extends T>> supplier) {
-        Supplier<? extends Stream<? extends T>> actual = nonNull(supplier, "supplier");
-        return emitter(emitter -> {
-            Stream<? extends T> stream;
-            try {
-                stream = actual.get();
-            } catch (RuntimeException e) {
-                // Exception from the supplier, propagate it.
-                emitter.fail(e);
-                return;
-            }
-            if (stream == null) {
-                emitter.fail(new NullPointerException(SUPPLIER_PRODUCED_NULL));
-                return;
-            }
-            AtomicBoolean failed = new AtomicBoolean();
-            stream
-                    .sequential()
-                    .forEach(it -> {
-                        if (it == null) {
-                            failed.set(true);
-                            emitter.fail(new IllegalArgumentException("The iterable contained a `null` value"));
-                            return;
-                        }
-                        emitter.emit(it);
-                    });
-            if (!failed.get()) {
-                emitter.complete();
-            }
-        });
+        return new MultiCreateFromStream<>(nonNull(supplier, "supplier"));
     }
 
     /**
@@ -266,7 +234,7 @@ public class MultiCreate {
      */
     @SafeVarargs
     public final <T> Multi<T> items(T... items) {
-        return iterable(Arrays.asList(nonNull(items, "items")));
+        return new MultiCreateFromArray<>(nonNull(items, "items"));
     }
 
     /**
@@ -283,8 +251,7 @@ public class MultiCreate {
      * @return the new {@link Multi}
      */
     public <T> Multi<T> iterable(Iterable<T> iterable) {
-        nonNull(iterable, "iterable");
-        return deferredItems(() -> StreamSupport.stream(iterable.spliterator(), false));
+        return new MultiCreateFromIterable<>(nonNull(iterable, "iterable"));
     }
 
     /**
@@ -462,7 +429,8 @@ public class MultiCreate {
      * Be aware that if the subscriber does not request enough item in time, a back pressure failure is fired.
      * The produced {@link Multi} never completes until cancellation by the subscriber.
      * <p>
-     * The callbacks are invoked on the executor passed in {@link MultiTimePeriod#onExecutor(Executor)}.
+     * The callbacks are invoked on the executor passed in {@link MultiTimePeriod#onExecutor(Executor)}. By default,
+     * the ticks are scheduled on the {@link io.smallrye.reactive.infrastructure.Infrastructure#getDefaultTimer() timer}.
      *
      * @return the object to configure the time period (initial delay, executor, interval)
      */
@@ -479,10 +447,34 @@ public class MultiCreate {
      * @return the {@link Multi} emitting the items
      */
     public Multi<Integer> range(int startInclusive, int endExclusive) {
-        if (endExclusive <= startInclusive) {
-            throw new IllegalArgumentException("end must be greater than start");
-        }
-        return Multi.createFrom().iterable(() -> IntStream.range(startInclusive, endExclusive).iterator());
+        return new MultiCreateFromRange(startInclusive, endExclusive);
+    }
+
+    /**
+     * Creates a {@link MultiInt} emitting the sequence of primitive integers from {@code startInclusive} to
+     * {@code endExclusive}. Unlike {@link #range(int, int)}, the values are not boxed until the {@link MultiInt} is
+     * converted into a {@link Multi} (using {@link MultiInt#mapToObj(java.util.function.IntFunction)} or
+     * {@link MultiInt#boxed()}).
+     *
+     * @param startInclusive the start integer (inclusive)
+     * @param endExclusive   the end integer (exclusive)
+     * @return the {@link MultiInt} emitting the values
+     */
+    public MultiInt intRange(int startInclusive, int endExclusive) {
+        return MultiInt.range(startInclusive, endExclusive);
+    }
+
+    /**
+     * Creates a {@link MultiLong} emitting the sequence of primitive longs from {@code startInclusive} to
+     * {@code endExclusive}. The values are not boxed until the {@link MultiLong} is converted into a {@link Multi}
+     * (using {@link MultiLong#mapToObj(java.util.function.LongFunction)} or {@link MultiLong#boxed()}).
+     *
+     * @param startInclusive the start long (inclusive)
+     * @param endExclusive   the end long (exclusive)
+     * @return the {@link MultiLong} emitting the values
+     */
+    public MultiLong longRange(long startInclusive, long endExclusive) {
+        return MultiLong.range(startInclusive, endExclusive);
     }
 
     //    public <T, X> Multi<T> converterOf(X instance) {
@@ -49,14 +49,17 @@ public class MultiFlatMap<I> {
     /**
      * Configures the <em>mapper</em> of the <em>flatMap</em> operation.
      * The mapper returns a {@link Iterable iterable} and is called for each item emitted by the upstream {@link Multi}.
+     * <p>
+     * The iterables are consumed one at a time, in the upstream order, so the concurrency passed to
+     * {@link MultiFlatten#mergeResults(int)} or {@link MultiFlatten#concatenateResults(int)} has no effect. The items
+     * of the upstream are requested in batches of {@value io.smallrye.reactive.helpers.queues.Queues#BUFFER_S}.
      *
      * @param mapper the mapper, must not be {@code null}, must not produce {@code null}
      * @param <O>    the type of item contained by the {@link Iterable} produced by the mapper.
      * @return the object to configure the flatten behavior.
      */
     public <O> MultiFlatten<I, O> iterable(Function<? super I, ? extends Iterable<? extends O>> mapper) {
-        nonNull(mapper, "mapper");
-        return publisher((x -> Multi.createFrom().iterable(mapper.apply(x))));
+        return MultiFlatten.ofIterable(upstream, nonNull(mapper, "mapper"));
     }
 
     /**
@@ -68,9 +71,7 @@ public class MultiFlatMap<I> {
      * @return the object to configure the flatten behavior.
      */
     public <O> MultiFlatten<I, O> uni(Function<? super I, ? extends Uni<? extends O>> mapper) {
-        nonNull(mapper, "mapper");
-        Function<? super I, ? extends Publisher<? extends O>> wrapper = res -> mapper.apply(res).toMulti();
-        return new MultiFlatten<>(upstream, wrapper, 1, false);
+        return MultiFlatten.ofUni(upstream, nonNull(mapper, "mapper"));
     }
 
     /**
@@ -83,8 +84,7 @@ public class MultiFlatMap<I> {
      */
     public <O> MultiFlatten<I, O> completionStage(Function<? super I, ? extends CompletionStage<? extends O>> mapper) {
         nonNull(mapper, "mapper");
-        Function<? super I, ? extends Publisher<? extends O>> wrapper = res -> Multi.createFrom().completionStage(mapper.apply(res));
-        return new MultiFlatten<>(upstream, wrapper, 1, false);
+        return uni(res -> Uni.createFrom().completionStage(mapper.apply(res)));
     }
 
 }
@@ -1,6 +1,12 @@
 package io.smallrye.reactive.groups;
 
 import io.smallrye.reactive.Multi;
+import io.smallrye.reactive.Uni;
+import io.smallrye.reactive.helpers.queues.Queues;
+import io.smallrye.reactive.operators.MultiConcatMapEager;
+import io.smallrye.reactive.operators.MultiFlatMap;
+import io.smallrye.reactive.operators.MultiFlatMapIterable;
+import io.smallrye.reactive.operators.MultiFlatMapToUni;
 import org.reactivestreams.Publisher;
 
 import java.util.function.Function;
@@ -16,6 +22,8 @@ import static io.smallrye.reactive.helpers.ParameterValidation.positive;
 public class MultiFlatten<I, O> {
 
     private final Function<? super I, ? extends Publisher<? extends O>> mapper;
+    private final Function<? super I, ? extends Uni<? extends O>> uniMapper;
+    private final Function<? super I, ? extends Iterable<? extends O>> iterableMapper;
     private final Multi<I> upstream;
 
     private final int requests;
@@ -24,12 +32,56 @@ public class MultiFlatten<I, O> {
     MultiFlatten(Multi<I> upstream,
             Function<? super I, ? extends Publisher<? extends O>> mapper,
             int requests, boolean collectFailures) {
+        this(upstream, mapper, null, null, requests, collectFailures);
+    }
+
+    private MultiFlatten(Multi<I> upstream,
+            Function<? super I, ? extends Publisher<? extends O>> mapper,
+            Function<? super I, ? extends Uni<? extends O>> uniMapper,
+            Function<? super I, ? extends Iterable<? extends O>> iterableMapper,
+            int requests, boolean collectFailures) {
         this.upstream = upstream;
         this.mapper = mapper;
+        this.uniMapper = uniMapper;
+        this.iterableMapper = iterableMapper;
         this.requests = requests;
         this.collectFailureUntilCompletion = collectFailures;
     }
 
+    /**
+     * Creates a {@link MultiFlatten} for a mapper producing {@link Uni}. The {@link Uni} are subscribed directly,
+     * without being converted to {@link Publisher}.
+     */
+    static <I, O> MultiFlatten<I, O> ofUni(Multi<I> upstream, Function<? super I, ? extends Uni<? extends O>> mapper) {
+        return new MultiFlatten<>(upstream, null, mapper, null, 1, false);
+    }
+
+    /**
+     * Creates a {@link MultiFlatten} for a mapper producing {@link Iterable}. The iterators are drained directly,
+     * without creating a {@link Multi} per item.
+     */
+    static <I, O> MultiFlatten<I, O> ofIterable(Multi<I> upstream,
+            Function<? super I, ? extends Iterable<? extends O>> mapper) {
+        return new MultiFlatten<>(upstream, null, null, mapper, 1, false);
+    }
+
+    private Multi<O> flatten(int concurrency, boolean preserveOrdering) {
+        if (iterableMapper != null) {
+            // Iterables are consumed synchronously, the order is always preserved and the concurrency is irrelevant
+            return new MultiFlatMapIterable<>(upstream, iterableMapper, Queues.BUFFER_S,
+                    collectFailureUntilCompletion);
+        }
+        if (uniMapper != null) {
+            return new MultiFlatMapToUni<>(upstream, uniMapper, concurrency, preserveOrdering,
+                    collectFailureUntilCompletion);
+        }
+        if (preserveOrdering && concurrency > 1) {
+            return new MultiConcatMapEager<>(upstream, mapper, concurrency, requests, collectFailureUntilCompletion);
+        }
+        return new MultiFlatMap<>(upstream, mapper, concurrency, requests, collectFailureUntilCompletion,
+                preserveOrdering);
+    }
+
     /**
      * Instructs the <em>flatMap</em> operation to consume all the <em>streams</em> returned by the mapper before
      * propagating a failure if any of the <em>stream</em> has produced a failure.
@@ -40,17 +92,20 @@ public class MultiFlatten<I, O> {
      * @return this {@link MultiFlatten}
      */
     public MultiFlatten<I, O> collectFailures() {
-        return new MultiFlatten<>(upstream, mapper, requests, true);
+        return new MultiFlatten<>(upstream, mapper, uniMapper, iterableMapper, requests, true);
     }
 
     /**
      * Configures the number the items requested to the <em>streams</em> produced by the mapper.
+     * This setting has no effect when the mapper produces {@link Uni}, as they emit at most one item, or
+     * {@link Iterable}, as they are consumed directly.
      *
      * @param req the request, must be strictly positive
      * @return this {@link MultiFlatten}
      */
     public MultiFlatten<I, O> withRequests(int req) {
-        return new MultiFlatten<>(upstream, mapper, positive(req, "req"), collectFailureUntilCompletion);
+        return new MultiFlatten<>(upstream, mapper, uniMapper, iterableMapper, positive(req, "req"),
+                collectFailureUntilCompletion);
     }
 
     /**
@@ -68,8 +123,7 @@ public class MultiFlatten<I, O> {
      * @return the object to configure the {@code flatMap} operation.
      */
     public Multi<O> mergeResults() {
-        return new io.smallrye.reactive.operators.MultiFlatMap<>(upstream, mapper, 2, requests,
-                collectFailureUntilCompletion, false);
+        return flatten(2, false);
     }
 
     /**
@@ -90,8 +144,7 @@ public class MultiFlatten<I, O> {
      * @return the object to configure the {@code flatMap} operation.
      */
     public Multi<O> mergeResults(int concurrency) {
-        return new io.smallrye.reactive.operators.MultiFlatMap<>(upstream, mapper, concurrency, requests,
-                collectFailureUntilCompletion, false);
+        return flatten(concurrency, false);
     }
 
     /**
@@ -109,7 +162,29 @@ public class MultiFlatten<I, O> {
      * @return the object to configure the {@code concatMap} operation.
      */
     public Multi<O> concatenateResults() {
-        return new io.smallrye.reactive.operators.MultiFlatMap<>(upstream, mapper, 1, requests,
-                collectFailureUntilCompletion, true);
+        return flatten(1, true);
+    }
+
+    /**
+     * Produces a {@link Multi} containing the items from {@link Publisher} produced by the {@code mapper} for each
+     * item emitted by this {@link Multi}.
+     * <p>
+     * The operators behaves as follows:
+     * <ul>
+     * <li>for each item emitted by this {@link Multi}, the mapper is called and produces a {@link Publisher}
+     * (potentially a {@code Multi}). The mapper must not return {@code null}</li>
+     * <li>The items contained in each of the produced {@link Publisher} are then <strong>concatenated</strong> in the
+     * produced {@link Multi}, in the order of the upstream items.</li>
+     * </ul>
+     * <p>
+     * This method allows configuring the concurrency, i.e. the maximum number of in-flight/subscribed inner streams.
+     * The inner streams are subscribed eagerly, and their items are buffered (up to the configured number of
+     * requests) until the previous streams have completed.
+     *
+     * @param concurrency the concurrency
+     * @return the object to configure the {@code concatMap} operation.
+     */
+    public Multi<O> concatenateResults(int concurrency) {
+        return flatten(concurrency, true);
     }
 }
@@ -0,0 +1,252 @@
+package io.smallrye.reactive.groups;
+
+import io.smallrye.reactive.Multi;
+import io.smallrye.reactive.operators.MultiCreateFromIterable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.MAPPER_RETURNED_NULL;
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+
+/**
+ * A sequence of primitive {@code int} values, transformed without boxing.
+ * <p>
+ * The transformations ({@link #map(IntUnaryOperator)}, {@link #filter(IntPredicate)},
+ * {@link #scan(int, IntBinaryOperator)}...) are applied on the primitive values. The values are only converted to
+ * objects when bridging to a {@link Multi} using {@link #mapToObj(IntFunction)} or {@link #boxed()}. The produced
+ * {@link Multi} is pull-based: the values are computed when the subscriber requests items.
+ * <p>
+ * Instances are immutable, and each subscriber to the produced {@link Multi} gets its own sequence.
+ */
+public class MultiInt {
+
+    private final Supplier<PrimitiveIterator.OfInt> iterators;
+
+    MultiInt(Supplier<PrimitiveIterator.OfInt> iterators) {
+        this.iterators = iterators;
+    }
+
+    /**
+     * Creates a {@link MultiInt} emitting the integers from {@code startInclusive} to {@code endExclusive}.
+     *
+     * @param startInclusive the start integer (inclusive)
+     * @param endExclusive   the end integer (exclusive)
+     * @return the new {@link MultiInt}
+     */
+    static MultiInt range(int startInclusive, int endExclusive) {
+        if (endExclusive <= startInclusive) {
+            throw new IllegalArgumentException("end must be greater than start");
+        }
+        return new MultiInt(() -> new RangeIterator(startInclusive, endExclusive));
+    }
+
+    /**
+     * Produces a new {@link MultiInt} invoking the given function for each value.
+     *
+     * @param mapper the mapper, must not be {@code null}
+     * @return the new {@link MultiInt}
+     */
+    public MultiInt map(IntUnaryOperator mapper) {
+        nonNull(mapper, "mapper");
+        Supplier<PrimitiveIterator.OfInt> upstream = iterators;
+        return new MultiInt(() -> new MapIterator(upstream.get(), mapper));
+    }
+
+    /**
+     * Produces a new {@link MultiInt} containing the values passing the given predicate.
+     *
+     * @param predicate the predicate, must not be {@code null}
+     * @return the new {@link MultiInt}
+     */
+    public MultiInt filter(IntPredicate predicate) {
+        nonNull(predicate, "predicate");
+        Supplier<PrimitiveIterator.OfInt> upstream = iterators;
+        return new MultiInt(() -> new FilterIterator(upstream.get(), predicate));
+    }
+
+    /**
+     * Produces a new {@link MultiInt} emitting the {@code initial} value followed by the intermediate results of the
+     * reduction of the values by the given {@code scanner}.
+     *
+     * @param initial the initial value
+     * @param scanner the reduction function, must not be {@code null}
+     * @return the new {@link MultiInt}
+     */
+    public MultiInt scan(int initial, IntBinaryOperator scanner) {
+        nonNull(scanner, "scanner");
+        Supplier<PrimitiveIterator.OfInt> upstream = iterators;
+        return new MultiInt(() -> new ScanIterator(upstream.get(), initial, scanner));
+    }
+
+    /**
+     * Converts the values into {@code long}s.
+     *
+     * @param mapper the conversion function, must not be {@code null}
+     * @return the new {@link MultiLong}
+     */
+    public MultiLong mapToLong(IntToLongFunction mapper) {
+        nonNull(mapper, "mapper");
+        Supplier<PrimitiveIterator.OfInt> upstream = iterators;
+        return new MultiLong(() -> new PrimitiveIterator.OfLong() {
+            final PrimitiveIterator.OfInt iterator = upstream.get();
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public long nextLong() {
+                return mapper.applyAsLong(iterator.nextInt());
+            }
+        });
+    }
+
+    /**
+     * Produces a {@link Multi} emitting the objects produced by the given function for each value.
+     *
+     * @param mapper the mapper, must not be {@code null}, must not produce {@code null}
+     * @param <T>    the type of item emitted by the produced {@link Multi}
+     * @return the new {@link Multi}
+     */
+    public <T> Multi<T> mapToObj(IntFunction<? extends T> mapper) {
+        nonNull(mapper, "mapper");
+        Supplier<PrimitiveIterator.OfInt> upstream = iterators;
+        return new MultiCreateFromIterable<>(() -> new Iterator<T>() {
+            final PrimitiveIterator.OfInt iterator = upstream.get();
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                T item = mapper.apply(iterator.nextInt());
+                if (item == null) {
+                    throw new NullPointerException(MAPPER_RETURNED_NULL);
+                }
+                return item;
+            }
+        });
+    }
+
+    /**
+     * Produces a {@link Multi} emitting the values as {@link Integer}.
+     *
+     * @return the new {@link Multi}
+     */
+    public Multi<Integer> boxed() {
+        return mapToObj(Integer::valueOf);
+    }
+
+    private static final class RangeIterator implements PrimitiveIterator.OfInt {
+        private final int end;
+        private int index;
+
+        RangeIterator(int start, int end) {
+            this.index = start;
+            this.end = end;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index != end;
+        }
+
+        @Override
+        public int nextInt() {
+            int i = index;
+            if (i == end) {
+                throw new NoSuchElementException();
+            }
+            index = i + 1;
+            return i;
+        }
+    }
+
+    private static final class MapIterator implements PrimitiveIterator.OfInt {
+        private final PrimitiveIterator.OfInt upstream;
+        private final IntUnaryOperator mapper;
+
+        MapIterator(PrimitiveIterator.OfInt upstream, IntUnaryOperator mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return upstream.hasNext();
+        }
+
+        @Override
+        public int nextInt() {
+            return mapper.applyAsInt(upstream.nextInt());
+        }
+    }
+
+    private static final class FilterIterator extends LookAheadIterator implements PrimitiveIterator.OfInt {
+        private final PrimitiveIterator.OfInt upstream;
+        private final IntPredicate predicate;
+        private int value;
+
+        FilterIterator(PrimitiveIterator.OfInt upstream, IntPredicate predicate) {
+            this.upstream = upstream;
+            this.predicate = predicate;
+        }
+
+        @Override
+        protected boolean fetch() {
+            while (upstream.hasNext()) {
+                int candidate = upstream.nextInt();
+                if (predicate.test(candidate)) {
+                    value = candidate;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public int nextInt() {
+            consume();
+            return value;
+        }
+    }
+
+    private static final class ScanIterator implements PrimitiveIterator.OfInt {
+        private final PrimitiveIterator.OfInt upstream;
+        private final IntBinaryOperator scanner;
+        private boolean initialEmitted;
+        private int state;
+
+        ScanIterator(PrimitiveIterator.OfInt upstream, int initial, IntBinaryOperator scanner) {
+            this.upstream = upstream;
+            this.scanner = scanner;
+            this.state = initial;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !initialEmitted || upstream.hasNext();
+        }
+
+        @Override
+        public int nextInt() {
+            if (!initialEmitted) {
+                initialEmitted = true;
+                return state;
+            }
+            state = scanner.applyAsInt(state, upstream.nextInt());
+            return state;
+        }
+    }
+}
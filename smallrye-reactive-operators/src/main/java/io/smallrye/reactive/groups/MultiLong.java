@@ -0,0 +1,227 @@
+package io.smallrye.reactive.groups;
+
+import io.smallrye.reactive.Multi;
+import io.smallrye.reactive.operators.MultiCreateFromIterable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.MAPPER_RETURNED_NULL;
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+
+/**
+ * A sequence of primitive {@code long} values, transformed without boxing.
+ * <p>
+ * The transformations ({@link #map(LongUnaryOperator)}, {@link #filter(LongPredicate)},
+ * {@link #scan(long, LongBinaryOperator)}...) are applied on the primitive values. The values are only converted to
+ * objects when bridging to a {@link Multi} using {@link #mapToObj(LongFunction)} or {@link #boxed()}. The produced
+ * {@link Multi} is pull-based: the values are computed when the subscriber requests items.
+ * <p>
+ * Instances are immutable, and each subscriber to the produced {@link Multi} gets its own sequence.
+ */
+public class MultiLong {
+
+    private final Supplier<PrimitiveIterator.OfLong> iterators;
+
+    MultiLong(Supplier<PrimitiveIterator.OfLong> iterators) {
+        this.iterators = iterators;
+    }
+
+    /**
+     * Creates a {@link MultiLong} emitting the longs from {@code startInclusive} to {@code endExclusive}.
+     *
+     * @param startInclusive the start long (inclusive)
+     * @param endExclusive   the end long (exclusive)
+     * @return the new {@link MultiLong}
+     */
+    static MultiLong range(long startInclusive, long endExclusive) {
+        if (endExclusive <= startInclusive) {
+            throw new IllegalArgumentException("end must be greater than start");
+        }
+        return new MultiLong(() -> new RangeIterator(startInclusive, endExclusive));
+    }
+
+    /**
+     * Produces a new {@link MultiLong} invoking the given function for each value.
+     *
+     * @param mapper the mapper, must not be {@code null}
+     * @return the new {@link MultiLong}
+     */
+    public MultiLong map(LongUnaryOperator mapper) {
+        nonNull(mapper, "mapper");
+        Supplier<PrimitiveIterator.OfLong> upstream = iterators;
+        return new MultiLong(() -> new MapIterator(upstream.get(), mapper));
+    }
+
+    /**
+     * Produces a new {@link MultiLong} containing the values passing the given predicate.
+     *
+     * @param predicate the predicate, must not be {@code null}
+     * @return the new {@link MultiLong}
+     */
+    public MultiLong filter(LongPredicate predicate) {
+        nonNull(predicate, "predicate");
+        Supplier<PrimitiveIterator.OfLong> upstream = iterators;
+        return new MultiLong(() -> new FilterIterator(upstream.get(), predicate));
+    }
+
+    /**
+     * Produces a new {@link MultiLong} emitting the {@code initial} value followed by the intermediate results of the
+     * reduction of the values by the given {@code scanner}.
+     *
+     * @param initial the initial value
+     * @param scanner the reduction function, must not be {@code null}
+     * @return the new {@link MultiLong}
+     */
+    public MultiLong scan(long initial, LongBinaryOperator scanner) {
+        nonNull(scanner, "scanner");
+        Supplier<PrimitiveIterator.OfLong> upstream = iterators;
+        return new MultiLong(() -> new ScanIterator(upstream.get(), initial, scanner));
+    }
+
+    /**
+     * Produces a {@link Multi} emitting the objects produced by the given function for each value.
+     *
+     * @param mapper the mapper, must not be {@code null}, must not produce {@code null}
+     * @param <T>    the type of item emitted by the produced {@link Multi}
+     * @return the new {@link Multi}
+     */
+    public <T> Multi<T> mapToObj(LongFunction<? extends T> mapper) {
+        nonNull(mapper, "mapper");
+        Supplier<PrimitiveIterator.OfLong> upstream = iterators;
+        return new MultiCreateFromIterable<>(() -> new Iterator<T>() {
+            final PrimitiveIterator.OfLong iterator = upstream.get();
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                T item = mapper.apply(iterator.nextLong());
+                if (item == null) {
+                    throw new NullPointerException(MAPPER_RETURNED_NULL);
+                }
+                return item;
+            }
+        });
+    }
+
+    /**
+     * Produces a {@link Multi} emitting the values as {@link Long}.
+     *
+     * @return the new {@link Multi}
+     */
+    public Multi<Long> boxed() {
+        return mapToObj(Long::valueOf);
+    }
+
+    private static final class RangeIterator implements PrimitiveIterator.OfLong {
+        private final long end;
+        private long index;
+
+        RangeIterator(long start, long end) {
+            this.index = start;
+            this.end = end;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index != end;
+        }
+
+        @Override
+        public long nextLong() {
+            long i = index;
+            if (i == end) {
+                throw new NoSuchElementException();
+            }
+            index = i + 1;
+            return i;
+        }
+    }
+
+    private static final class MapIterator implements PrimitiveIterator.OfLong {
+        private final PrimitiveIterator.OfLong upstream;
+        private final LongUnaryOperator mapper;
+
+        MapIterator(PrimitiveIterator.OfLong upstream, LongUnaryOperator mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return upstream.hasNext();
+        }
+
+        @Override
+        public long nextLong() {
+            return mapper.applyAsLong(upstream.nextLong());
+        }
+    }
+
+    private static final class FilterIterator extends LookAheadIterator implements PrimitiveIterator.OfLong {
+        private final PrimitiveIterator.OfLong upstream;
+        private final LongPredicate predicate;
+        private long value;
+
+        FilterIterator(PrimitiveIterator.OfLong upstream, LongPredicate predicate) {
+            this.upstream = upstream;
+            this.predicate = predicate;
+        }
+
+        @Override
+        protected boolean fetch() {
+            while (upstream.hasNext()) {
+                long candidate = upstream.nextLong();
+                if (predicate.test(candidate)) {
+                    value = candidate;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public long nextLong() {
+            consume();
+            return value;
+        }
+    }
+
+    private static final class ScanIterator implements PrimitiveIterator.OfLong {
+        private final PrimitiveIterator.OfLong upstream;
+        private final LongBinaryOperator scanner;
+        private boolean initialEmitted;
+        private long state;
+
+        ScanIterator(PrimitiveIterator.OfLong upstream, long initial, LongBinaryOperator scanner) {
+            this.upstream = upstream;
+            this.scanner = scanner;
+            this.state = initial;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !initialEmitted || upstream.hasNext();
+        }
+
+        @Override
+        public long nextLong() {
+            if (!initialEmitted) {
+                initialEmitted = true;
+                return state;
+            }
+            state = scanner.applyAsLong(state, upstream.nextLong());
+            return state;
+        }
+    }
+}
@@ -29,7 +29,7 @@ public class MultiOnItem<T> {
      * @return the new {@link Multi}
      */
     public <R> Multi<R> mapToItem(Function<? super T, ? extends R> mapper) {
-        return new MultiMapOnResult<>(upstream, nonNull(mapper, "mapper"));
+        return MultiFusedStages.fuse(new MultiMapOnResult<>(upstream, nonNull(mapper, "mapper")));
     }
 
     /**
@@ -39,7 +39,7 @@ public class MultiOnItem<T> {
      * @return the new {@link Uni}
      */
     public Multi<T> consume(Consumer<T> callback) {
-        return new MultiOnResultPeek<>(upstream, nonNull(callback, "callback"));
+        return MultiFusedStages.fuse(new MultiOnResultPeek<>(upstream, nonNull(callback, "callback")));
     }
 
     /**
@@ -170,7 +170,7 @@ public class MultiOnItem<T> {
      * @return the produced {@link Multi}
      */
     public Multi<T> filterWith(Predicate<? super T> predicate) {
-        return new MultiFilter<>(upstream, nonNull(predicate, "predicate"));
+        return MultiFusedStages.fuse(new MultiFilter<>(upstream, nonNull(predicate, "predicate")));
     }
 
     /**
@@ -183,7 +183,7 @@ public class MultiOnItem<T> {
      */
     public Multi<T> testWith(Function<? super T, ? extends Uni<Boolean>> tester) {
         nonNull(tester, "tester");
-        return flatMap().multi(res -> {
+        return flatMap().uni(res -> {
             Uni<Boolean> uni = tester.apply(res);
             return uni.map(pass -> {
                 if (pass) {
@@ -191,7 +191,7 @@ public class MultiOnItem<T> {
                 } else {
                     return null;
                 }
-            }).toMulti();
+            });
         }).concatenateResults();
     }
 
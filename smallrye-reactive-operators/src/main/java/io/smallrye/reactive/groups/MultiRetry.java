@@ -1,17 +1,29 @@
 package io.smallrye.reactive.groups;
 
 import io.smallrye.reactive.Multi;
+import io.smallrye.reactive.RetryBudget;
+import io.smallrye.reactive.helpers.ExponentialBackOff;
 import io.smallrye.reactive.operators.MultiRetryAtMost;
+import io.smallrye.reactive.operators.MultiRetryWithBackOff;
 
+import java.time.Duration;
 import java.util.function.Predicate;
 
 import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+import static io.smallrye.reactive.helpers.ParameterValidation.validate;
 
 public class MultiRetry<T> {
 
+    private static final double DEFAULT_JITTER = 0.5;
+
     private final Multi<T> upstream;
     private final Predicate<? super Throwable> predicate;
 
+    private Duration initialBackOff;
+    private Duration maxBackOff;
+    private double jitter = DEFAULT_JITTER;
+    private RetryBudget budget;
+
     public MultiRetry(Multi<T> upstream, Predicate<? super Throwable> predicate) {
         this.upstream = nonNull(upstream, "upstream");
         this.predicate = nonNull(predicate, "predicate");
@@ -40,12 +52,80 @@ public class MultiRetry<T> {
      * {@link Multi} until it gets an item. When the number of attempt is reached, the last failure is propagated.
      */
     public Multi<T> atMost(long numberOfAttempts) {
-        return new MultiRetryAtMost<>(upstream, predicate, numberOfAttempts);
+        if (initialBackOff == null && budget == null) {
+            return new MultiRetryAtMost<>(upstream, predicate, numberOfAttempts);
+        }
+        return new MultiRetryWithBackOff<>(upstream, predicate, numberOfAttempts, backOff(), budget, null);
+    }
+
+    /**
+     * Configures an exponential back-off between the retries. The first retry happens after the {@code initialBackOff}
+     * and the delay doubles on every retry, with a jitter of {@code 0.5} by default. The delays are scheduled on the
+     * default timer, so no thread is blocked while waiting.
+     *
+     * @param initialBackOff the delay before the first retry, must not be {@code null}, must be strictly positive
+     * @return this {@link MultiRetry}
+     */
+    public MultiRetry<T> withBackOff(Duration initialBackOff) {
+        return withBackOff(initialBackOff, Duration.ofNanos(Long.MAX_VALUE));
+    }
+
+    /**
+     * Configures an exponential back-off between the retries. The first retry happens after the {@code initialBackOff}
+     * and the delay doubles on every retry, up to {@code maxBackOff}, with a jitter of {@code 0.5} by default. The
+     * delays are scheduled on the default timer, so no thread is blocked while waiting.
+     *
+     * @param initialBackOff the delay before the first retry, must not be {@code null}, must be strictly positive
+     * @param maxBackOff the maximum delay between two retries, must not be {@code null}, must be greater or equal to
+     *        {@code initialBackOff}
+     * @return this {@link MultiRetry}
+     */
+    public MultiRetry<T> withBackOff(Duration initialBackOff, Duration maxBackOff) {
+        validate(initialBackOff, "initialBackOff");
+        validate(maxBackOff, "maxBackOff");
+        if (maxBackOff.compareTo(initialBackOff) < 0) {
+            throw new IllegalArgumentException("`maxBackOff` must be greater or equal to `initialBackOff`");
+        }
+        this.initialBackOff = initialBackOff;
+        this.maxBackOff = maxBackOff;
+        return this;
+    }
+
+    /**
+     * Configures the random jitter applied to the back-off delays. With a jitter of {@code 0.5}, a delay of 100 ms
+     * becomes a random delay between 50 and 150 ms. The jitter spreads the retries of many subscribers in time.
+     *
+     * @param jitter the jitter, must be in {@code [0, 1]}
+     * @return this {@link MultiRetry}
+     */
+    public MultiRetry<T> withJitter(double jitter) {
+        if (jitter < 0 || jitter > 1) {
+            throw new IllegalArgumentException("`jitter` must be between 0 and 1");
+        }
+        this.jitter = jitter;
+        return this;
+    }
+
+    /**
+     * Configures a {@link RetryBudget} limiting the rate of retries. The budget can be shared between several
+     * pipelines. When the budget is exhausted, the failure is propagated instead of being retried.
+     *
+     * @param budget the budget, must not be {@code null}
+     * @return this {@link MultiRetry}
+     */
+    public MultiRetry<T> withBudget(RetryBudget budget) {
+        this.budget = nonNull(budget, "budget");
+        return this;
+    }
+
+    private ExponentialBackOff backOff() {
+        if (initialBackOff == null) {
+            return ExponentialBackOff.NONE;
+        }
+        return new ExponentialBackOff(initialBackOff, maxBackOff, jitter);
     }
 
     public Multi<T> until(Predicate<? super Throwable> predicate) {
         throw new UnsupportedOperationException("not yet implemented");
     }
-
-    // TODO backOff such as withInitialBackOff(Duration first) withMaxBackOff(Duration max) withJitter(double jitter)
 }
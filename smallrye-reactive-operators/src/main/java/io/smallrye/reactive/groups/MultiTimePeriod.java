@@ -1,6 +1,7 @@
 package io.smallrye.reactive.groups;
 
 import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
 import io.reactivex.schedulers.Schedulers;
 import io.smallrye.reactive.Multi;
 import io.smallrye.reactive.infrastructure.Infrastructure;
@@ -17,7 +18,7 @@ import static io.smallrye.reactive.helpers.ParameterValidation.validate;
 public class MultiTimePeriod {
 
     private Duration initialDelay;
-    private Executor executor = Infrastructure.getDefaultExecutor();
+    private Executor executor;
 
     public MultiTimePeriod startingAfter(Duration duration) {
         this.initialDelay = validate(duration, "duration");
@@ -34,11 +35,13 @@ public class MultiTimePeriod {
         return new AbstractMulti<Long>() {
             @Override
             protected Flowable<Long> flowable() {
+                // By default, the ticks are scheduled on the timer, which dispatches them to the default executor
+                Scheduler scheduler = Schedulers.from(executor == null ? Infrastructure.getDefaultTimer() : executor);
                 if (initialDelay == null) {
-                    return Flowable.interval(duration.toMillis(), TimeUnit.MILLISECONDS, Schedulers.from(executor));
+                    return Flowable.interval(duration.toMillis(), TimeUnit.MILLISECONDS, scheduler);
                 } else {
                     return Flowable.interval(initialDelay.toMillis(), duration.toMillis(), TimeUnit.MILLISECONDS,
-                            Schedulers.from(executor));
+                            scheduler);
                 }
 
             }
@@ -1,15 +1,19 @@
 package io.smallrye.reactive.groups;
 
+import io.smallrye.reactive.Multi;
 import io.smallrye.reactive.Uni;
 import io.smallrye.reactive.infrastructure.Infrastructure;
 import io.smallrye.reactive.operators.UniAndCombination;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+import static io.smallrye.reactive.helpers.ParameterValidation.positive;
 
 public class UniAndGroupIterable<T1> {
 
@@ -17,6 +21,7 @@ public class UniAndGroupIterable<T1> {
     private final List<? extends Uni<?>> unis;
 
     private boolean collectFailures;
+    private int concurrency = Integer.MAX_VALUE;
 
     public UniAndGroupIterable(Iterable<? extends Uni<?>> iterable) {
         this(null, iterable, false);
@@ -44,10 +49,61 @@ public class UniAndGroupIterable<T1> {
         return this;
     }
 
+    /**
+     * Limits the number of {@link Uni unis} subscribed concurrently. By default, all the {@link Uni unis} are
+     * subscribed immediately. With a limit, the next {@link Uni} is subscribed when one of the in-flight
+     * {@link Uni unis} fires an event. The items are still combined in the order of the {@link Uni unis}.
+     *
+     * @param concurrency the maximum number of in-flight {@link Uni unis}, must be strictly positive
+     * @return the current {@link UniAndGroupIterable}
+     */
+    public UniAndGroupIterable<T1> usingConcurrencyOf(int concurrency) {
+        this.concurrency = positive(concurrency, "concurrency");
+        return this;
+    }
+
+    /**
+     * Creates a {@link Multi} emitting the items of the {@link Uni unis} as soon as they are available, so in the
+     * order in which the {@link Uni unis} fire their item, and not in the order of the {@link Uni unis}. The
+     * concurrency limit configured with {@link #usingConcurrencyOf(int)} applies, and the {@link Uni unis} are
+     * subscribed in order. {@code null} items are not emitted.
+     * <p>
+     * The first failure is propagated immediately and cancels the other {@link Uni unis}, unless
+     * {@link #collectFailures()} is used, in which case the failures are propagated once all the {@link Uni unis}
+     * have fired their events.
+     *
+     * @return the {@link Multi} emitting the items as they come
+     */
+    public Multi<Object> toMulti() {
+        List<Uni<?>> all = new ArrayList<>(unis.size() + 1);
+        if (source != null) {
+            all.add(source);
+        }
+        all.addAll(unis);
+        MultiFlatten<Uni<?>, Object> flatten = Multi.createFrom().iterable(all).onItem().flatMap().uni(u -> u);
+        if (collectFailures) {
+            flatten = flatten.collectFailures();
+        }
+        return flatten.mergeResults(concurrency);
+    }
+
     public <O> Uni<O> combinedWith(Function<List<?>, O> function) {
+        nonNull(function, "function");
+        return combinedWithArray(items -> function.apply(Arrays.asList(items)));
+    }
+
+    /**
+     * Creates the resulting {@link Uni}. The items are passed to the given combinator function as an array, in the
+     * same order as the {@link Uni unis}. Unlike {@link #combinedWith(Function)}, no {@link List} is created.
+     *
+     * @param function the combinator function, must not be {@code null}
+     * @param <O>      the type of item
+     * @return the resulting {@link Uni}
+     */
+    public <O> Uni<O> combinedWithArray(Function<Object[], O> function) {
         return Infrastructure
-                .onUniCreation(new UniAndCombination<>(source, unis, nonNull(function, "function"), collectFailures)
-                );
+                .onUniCreation(new UniAndCombination<>(source, unis, nonNull(function, "function"), collectFailures,
+                        concurrency));
     }
 
 }
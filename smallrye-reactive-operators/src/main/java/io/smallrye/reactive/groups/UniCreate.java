@@ -49,6 +49,13 @@ public class UniCreate {
      */
     public <T> Uni<T> completionStage(CompletionStage<? extends T> stage) {
         CompletionStage<? extends T> actual = nonNull(stage, "stage");
+        if (actual instanceof CompletableFuture) {
+            CompletableFuture<? extends T> future = (CompletableFuture<? extends T>) actual;
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                // Already resolved, no need to register a callback for each subscriber.
+                return item(future.join());
+            }
+        }
         return deferredCompletionStage(() -> actual);
     }
 
@@ -138,7 +145,7 @@ public class UniCreate {
      * @return the new {@link Uni}
      */
     public <T> Uni<T> item(T item) {
-        return deferredItem(() -> item);
+        return Infrastructure.onUniCreation(new UniCreateFromKnownItem<>(item));
     }
 
     /**
@@ -152,7 +159,7 @@ public class UniCreate {
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
     public <T> Uni<T> optional(Optional<T> optional) {
         Optional<T> actual = nonNull(optional, "optional");
-        return deferredOptional(() -> actual);
+        return item(actual.orElse(null));
     }
 
     /**
@@ -227,7 +234,7 @@ public class UniCreate {
      */
     public <T> Uni<T> failure(Throwable failure) {
         Throwable exception = nonNull(failure, "failure");
-        return deferredFailure(() -> exception);
+        return Infrastructure.onUniCreation(new UniCreateFromKnownFailure<>(exception));
     }
 
     /**
@@ -0,0 +1,94 @@
+package io.smallrye.reactive.groups;
+
+import io.smallrye.reactive.Uni;
+import io.smallrye.reactive.infrastructure.Infrastructure;
+import io.smallrye.reactive.operators.UniHedged;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+import static io.smallrye.reactive.helpers.ParameterValidation.positive;
+import static io.smallrye.reactive.helpers.ParameterValidation.validate;
+
+/**
+ * Configures the hedging of a {@link Uni}: if the {@link Uni} does not emit an event within a delay, a new
+ * subscription is made to the {@link Uni}. The first event (item or failure) wins, and the other subscriptions are
+ * cancelled.
+ * <p>
+ * Examples:
+ * <pre>{@code
+ * uni.hedge().after(Duration.ofMillis(50)).atMost(2); // Hedge once after 50 ms
+ * uni.hedge().atPercentile(0.95, Duration.ofMillis(50)).atMost(3); // Hedge at the observed p95
+ * }</pre>
+ *
+ * @param <T> the type of item
+ */
+public class UniHedge<T> {
+
+    private final Uni<T> upstream;
+    private final Duration delay;
+    private final double percentile;
+    private final ScheduledExecutorService executor;
+
+    public UniHedge(Uni<T> upstream, Duration delay, double percentile, ScheduledExecutorService executor) {
+        this.upstream = nonNull(upstream, "upstream");
+        this.delay = delay;
+        this.percentile = percentile;
+        this.executor = executor;
+    }
+
+    /**
+     * Configures a fixed delay between the subscriptions to the upstream {@link Uni}.
+     *
+     * @param delay the delay, must not be {@code null}, must be strictly positive
+     * @return a new {@link UniHedge}
+     */
+    public UniHedge<T> after(Duration delay) {
+        return new UniHedge<>(upstream, validate(delay, "delay"), 0, executor);
+    }
+
+    /**
+     * Configures the delay between the subscriptions to the upstream {@link Uni} from the latency observed on the
+     * previous subscriptions. For example, with a percentile of {@code 0.95}, a new subscription is made when the
+     * upstream {@link Uni} takes longer than 95% of the recent successful subscriptions.
+     * <p>
+     * The {@code initialDelay} is used until enough latencies have been observed. The observed delay is never
+     * lower than 1 millisecond.
+     *
+     * @param percentile the percentile, must be in {@code ]0, 1[}
+     * @param initialDelay the delay used until enough latencies have been observed, must not be {@code null}, must
+     *        be strictly positive
+     * @return a new {@link UniHedge}
+     */
+    public UniHedge<T> atPercentile(double percentile, Duration initialDelay) {
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("`percentile` must be greater than 0 and less than 1");
+        }
+        return new UniHedge<>(upstream, validate(initialDelay, "initialDelay"), percentile, executor);
+    }
+
+    /**
+     * Configures the executor used to measure the delay and to make the additional subscriptions.
+     *
+     * @param executor the executor, must not be {@code null}
+     * @return a new {@link UniHedge}
+     */
+    public UniHedge<T> on(ScheduledExecutorService executor) {
+        return new UniHedge<>(upstream, delay, percentile, nonNull(executor, "executor"));
+    }
+
+    /**
+     * Produces a {@link Uni} subscribing at most {@code numberOfAttempts} times to the upstream {@link Uni}, waiting
+     * for the configured delay between each subscription.
+     *
+     * @param numberOfAttempts the maximum number of concurrent subscriptions, including the first one, must be
+     *        strictly positive
+     * @return the new {@link Uni}
+     */
+    public Uni<T> atMost(int numberOfAttempts) {
+        validate(delay, "delay");
+        return Infrastructure.onUniCreation(new UniHedged<>(upstream, delay, percentile,
+                positive(numberOfAttempts, "numberOfAttempts"), executor));
+    }
+}
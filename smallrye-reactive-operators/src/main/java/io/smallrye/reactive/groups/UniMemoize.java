@@ -0,0 +1,40 @@
+package io.smallrye.reactive.groups;
+
+import io.smallrye.reactive.Uni;
+import io.smallrye.reactive.UniMemoizer;
+import io.smallrye.reactive.operators.DefaultUniMemoizer;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Creates {@link UniMemoizer memoizers}.
+ *
+ * @see Uni#memoize()
+ */
+public class UniMemoize {
+
+    public static final UniMemoize INSTANCE = new UniMemoize();
+
+    private UniMemoize() {
+        // avoid direct instantiation
+    }
+
+    /**
+     * Creates a new {@link UniMemoizer} computing the items using the given loader. For each key, the {@link Uni}
+     * produced by the loader is subscribed once, and its item is memoized for the given duration. Failures are not
+     * memoized.
+     *
+     * @param loader      the function producing the {@link Uni} computing the item for a given key, must not be
+     *                    {@code null}, must not produce {@code null}
+     * @param maximumSize the maximum number of memoized keys, must be strictly positive
+     * @param ttl         the time-to-live of the memoized items, must not be {@code null}, must be strictly positive
+     * @param <K>         the type of key
+     * @param <V>         the type of memoized item
+     * @return the new {@link UniMemoizer}
+     */
+    public <K, V> UniMemoizer<K, V> using(Function<? super K, ? extends Uni<? extends V>> loader, int maximumSize,
+            Duration ttl) {
+        return new DefaultUniMemoizer<>(loader, maximumSize, ttl);
+    }
+}
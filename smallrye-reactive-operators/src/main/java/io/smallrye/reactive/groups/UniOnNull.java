@@ -2,6 +2,7 @@ package io.smallrye.reactive.groups;
 
 import io.smallrye.reactive.Uni;
 import io.smallrye.reactive.infrastructure.Infrastructure;
+import io.smallrye.reactive.operators.UniFailOnNull;
 
 import java.util.NoSuchElementException;
 import java.util.function.Supplier;
@@ -38,25 +39,7 @@ public class UniOnNull<T> {
     public Uni<T> failWith(Supplier<Throwable> supplier) {
         nonNull(supplier, "supplier");
 
-        return Infrastructure.onUniCreation(upstream.onItem().mapToUni((item, emitter) -> {
-            if (item != null) {
-                emitter.complete(item);
-                return;
-            }
-            Throwable throwable;
-            try {
-                throwable = supplier.get();
-            } catch (Exception e) {
-                emitter.fail(e);
-                return;
-            }
-
-            if (throwable == null) {
-                emitter.fail(new NullPointerException(SUPPLIER_PRODUCED_NULL));
-            } else {
-                emitter.fail(throwable);
-            }
-        }));
+        return Infrastructure.onUniCreation(new UniFailOnNull<>(upstream, supplier));
     }
 
     /**
@@ -17,7 +17,7 @@ public class UniOnResultDelay<T> {
 
     public UniOnResultDelay(Uni<T> upstream, ScheduledExecutorService executor) {
         this.upstream = upstream;
-        this.executor = executor == null ? Infrastructure.getDefaultWorkerPool() : executor;
+        this.executor = executor;
     }
 
     public UniOnResultDelay<T> onExecutor(ScheduledExecutorService executor) {
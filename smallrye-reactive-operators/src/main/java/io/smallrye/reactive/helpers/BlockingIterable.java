@@ -1,6 +1,7 @@
 package io.smallrye.reactive.helpers;
 
 import io.smallrye.reactive.infrastructure.Infrastructure;
+import io.smallrye.reactive.subscription.QueueSubscription;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
@@ -48,7 +49,8 @@ public class BlockingIterable<T> implements Iterable<T> {
         // On close cancel the subscription.
         Stream<T> stream = StreamSupport.stream(sp, false)
                 .onClose(iterator::terminate);
-        Infrastructure.getDefaultExecutor().execute(() -> upstream.subscribe(iterator));
+        // The subscription may block (for example when the upstream is a blocking iterator).
+        Infrastructure.getDefaultBlockingExecutor().execute(() -> upstream.subscribe(iterator));
         return stream;
     }
 
@@ -79,7 +81,9 @@ public class BlockingIterable<T> implements Iterable<T> {
     @SuppressWarnings("SubscriberImplementation")
     private static final class SubscriberIterator<T> implements Subscriber<T>, Iterator<T> {
 
-        private final Queue<T> queue;
+        private volatile Queue<T> queue;
+
+        private int sourceMode;
 
         private final int batchSize;
 
@@ -155,6 +159,11 @@ public class BlockingIterable<T> implements Iterable<T> {
                     propagateFailure(new IllegalArgumentException("`null` is not an accepted value"));
                 }
 
+                if (sourceMode == QueueSubscription.SYNC) {
+                    // No request in synchronous fusion mode.
+                    return v;
+                }
+
                 long numberOfProducedItems = produced + 1;
                 if (numberOfProducedItems == limit) {
                     produced = 0;
@@ -190,15 +199,36 @@ public class BlockingIterable<T> implements Iterable<T> {
             }
         }
 
+        @SuppressWarnings("unchecked")
         @Override
         public void onSubscribe(Subscription s) {
             if (subscription.compareAndSet(null, s)) {
+                if (s instanceof QueueSubscription) {
+                    // Poll the items from the upstream directly instead of copying them into our own queue.
+                    QueueSubscription<T> qs = (QueueSubscription<T>) s;
+                    int mode = qs.requestFusion(QueueSubscription.ANY);
+                    if (mode == QueueSubscription.SYNC) {
+                        sourceMode = mode;
+                        queue = qs;
+                        done.set(true);
+                        fire();
+                        return;
+                    }
+                    if (mode == QueueSubscription.ASYNC) {
+                        sourceMode = mode;
+                        queue = qs;
+                    }
+                }
                 s.request(batchSize);
             }
         }
 
         @Override
         public void onNext(T t) {
+            if (sourceMode == QueueSubscription.ASYNC) {
+                fire();
+                return;
+            }
             if (!queue.offer(t)) {
                 subscription.getAndSet(EmptyUniSubscription.CANCELLED).cancel();
                 onError(new IllegalStateException("Buffer is full, cannot deliver the item"));
@@ -0,0 +1,45 @@
+package io.smallrye.reactive.helpers;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Computes the delays between retries. The delay doubles on every attempt, starting from the initial back-off and
+ * capped by the maximum back-off. A random jitter is then applied, so retries from many subscribers do not happen at
+ * the same time.
+ */
+public class ExponentialBackOff {
+
+    /**
+     * No back-off, retries happen immediately.
+     */
+    public static final ExponentialBackOff NONE = new ExponentialBackOff(Duration.ZERO, Duration.ZERO, 0);
+
+    private final long initialInNanos;
+    private final long maxInNanos;
+    private final double jitter;
+
+    public ExponentialBackOff(Duration initial, Duration max, double jitter) {
+        this.initialInNanos = initial.toNanos();
+        this.maxInNanos = max.toNanos();
+        this.jitter = jitter;
+    }
+
+    /**
+     * Computes the delay before the given attempt.
+     *
+     * @param attempt the attempt, starting from 1 for the first retry
+     * @return the delay in nanoseconds, {@code 0} if the retry must happen immediately
+     */
+    public long delayInNanos(long attempt) {
+        if (initialInNanos == 0) {
+            return 0;
+        }
+        double delay = Math.min(maxInNanos, initialInNanos * Math.pow(2, Math.min(attempt - 1, 62)));
+        if (jitter > 0) {
+            double offset = delay * jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+            delay = Math.min(maxInNanos, delay + offset);
+        }
+        return Math.max(0, (long) delay);
+    }
+}
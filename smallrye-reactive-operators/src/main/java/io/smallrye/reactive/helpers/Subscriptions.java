@@ -0,0 +1,212 @@
+package io.smallrye.reactive.helpers;
+
+import io.smallrye.reactive.CompositeException;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A set of helpers to implement Reactive Streams {@link Subscription} and {@link Subscriber} directly, without relying
+ * on an external reactive library.
+ */
+public class Subscriptions {
+
+    /**
+     * A {@link Subscription} ignoring the requests and cancellations.
+     * It is used as a marker to indicate that a subscription has been cancelled or that the stream is done.
+     */
+    public static final Subscription CANCELLED = new EmptySubscription();
+
+    /**
+     * A failure used as a marker to indicate that no more failures are accepted.
+     */
+    public static final Throwable TERMINATED = new Exception("Terminated");
+
+    private Subscriptions() {
+        // avoid direct instantiation
+    }
+
+    public static IllegalArgumentException getInvalidRequestException() {
+        return new IllegalArgumentException("Invalid request number, must be greater than 0");
+    }
+
+    /**
+     * Invokes {@link Subscriber#onSubscribe(Subscription)} on the given subscriber with the {@link #CANCELLED}
+     * subscription and then fire the completion event.
+     *
+     * @param subscriber the subscriber, must not be {@code null}
+     */
+    public static void complete(Subscriber<?> subscriber) {
+        subscriber.onSubscribe(CANCELLED);
+        subscriber.onComplete();
+    }
+
+    /**
+     * Invokes {@link Subscriber#onSubscribe(Subscription)} on the given subscriber with the {@link #CANCELLED}
+     * subscription and then fire the given failure.
+     *
+     * @param subscriber the subscriber, must not be {@code null}
+     * @param failure    the failure, if {@code null}, a {@link NullPointerException} is propagated instead
+     */
+    public static void fail(Subscriber<?> subscriber, Throwable failure) {
+        subscriber.onSubscribe(CANCELLED);
+        subscriber.onError(failure == null ? new NullPointerException() : failure);
+    }
+
+    /**
+     * Adds {@code n} to the given requested counter, capping the result to {@link Long#MAX_VALUE}.
+     *
+     * @param requested the requested counter
+     * @param n         the number of items to add, must be positive
+     * @return the value of the counter before the addition
+     */
+    public static long add(AtomicLong requested, long n) {
+        for (; ; ) {
+            long current = requested.get();
+            if (current == Long.MAX_VALUE) {
+                return Long.MAX_VALUE;
+            }
+            long update = add(current, n);
+            if (requested.compareAndSet(current, update)) {
+                return current;
+            }
+        }
+    }
+
+    /**
+     * Adds two positive longs, capping the result to {@link Long#MAX_VALUE}.
+     *
+     * @param a the first value
+     * @param b the second value
+     * @return the sum, or {@link Long#MAX_VALUE} on overflow
+     */
+    public static long add(long a, long b) {
+        long u = a + b;
+        if (u < 0L) {
+            return Long.MAX_VALUE;
+        }
+        return u;
+    }
+
+    /**
+     * Removes {@code n} emitted items from the given requested counter, unless the counter is unbounded
+     * ({@link Long#MAX_VALUE}).
+     *
+     * @param requested the requested counter
+     * @param n         the number of emitted items
+     * @return the new value of the counter
+     */
+    public static long produced(AtomicLong requested, long n) {
+        for (; ; ) {
+            long current = requested.get();
+            if (current == Long.MAX_VALUE) {
+                return Long.MAX_VALUE;
+            }
+            long update = current - n;
+            if (update < 0L) {
+                update = 0L;
+            }
+            if (requested.compareAndSet(current, update)) {
+                return update;
+            }
+        }
+    }
+
+    /**
+     * Sets the given subscription in the given reference if the reference is empty.
+     * If the reference is not empty, the passed subscription is cancelled.
+     *
+     * @param reference    the reference
+     * @param subscription the subscription
+     * @return {@code true} if the subscription has been set, {@code false} otherwise
+     */
+    public static boolean setIfEmpty(AtomicReference<Subscription> reference, Subscription subscription) {
+        if (!reference.compareAndSet(null, subscription)) {
+            subscription.cancel();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Cancels the subscription stored in the given reference (if any) and replaces it with {@link #CANCELLED}.
+     *
+     * @param reference the reference
+     * @return {@code true} if this call has cancelled the subscription, {@code false} if it was already cancelled.
+     */
+    public static boolean cancel(AtomicReference<Subscription> reference) {
+        Subscription current = reference.get();
+        if (current != CANCELLED) {
+            current = reference.getAndSet(CANCELLED);
+            if (current != CANCELLED) {
+                if (current != null) {
+                    current.cancel();
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds a failure to the given container. If the container already stores a failure, a {@link CompositeException}
+     * is created. If the container has been terminated (using {@link #terminate(AtomicReference)}), the failure is
+     * ignored.
+     *
+     * @param container the container
+     * @param failure   the failure
+     * @return {@code true} if the failure has been added, {@code false} if the container was terminated
+     */
+    public static boolean addFailure(AtomicReference<Throwable> container, Throwable failure) {
+        for (; ; ) {
+            Throwable current = container.get();
+            if (current == TERMINATED) {
+                return false;
+            }
+            Throwable update;
+            if (current == null) {
+                update = failure;
+            } else if (current instanceof CompositeException) {
+                List<Throwable> causes = new ArrayList<>(((CompositeException) current).getCauses());
+                causes.add(failure);
+                update = new CompositeException(causes);
+            } else {
+                update = new CompositeException(current, failure);
+            }
+            if (container.compareAndSet(current, update)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Marks the given container as terminated and returns the failure it contained.
+     *
+     * @param container the container
+     * @return the stored failure, {@code null} if none, {@link #TERMINATED} if the container was already terminated.
+     */
+    public static Throwable terminate(AtomicReference<Throwable> container) {
+        Throwable current = container.get();
+        if (current != TERMINATED) {
+            current = container.getAndSet(TERMINATED);
+        }
+        return current;
+    }
+
+    private static final class EmptySubscription implements Subscription {
+
+        @Override
+        public void request(long n) {
+            // Ignored.
+        }
+
+        @Override
+        public void cancel() {
+            // Ignored.
+        }
+    }
+}
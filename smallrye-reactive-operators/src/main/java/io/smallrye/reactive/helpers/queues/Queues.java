@@ -0,0 +1,55 @@
+package io.smallrye.reactive.helpers.queues;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Factory methods creating the queues used by the operators.
+ */
+public class Queues {
+
+    /**
+     * Buffer sizes above this value do not pre-allocate an array and use an unbounded linked queue instead.
+     */
+    public static final int MAX_BOUNDED_SIZE = 1 << 16;
+
+    /**
+     * The default buffer size used by the operators storing items before passing them downstream.
+     */
+    public static final int BUFFER_S = 256;
+
+    private Queues() {
+        // avoid direct instantiation
+    }
+
+    /**
+     * Creates a single-producer single-consumer queue able to store at least {@code bufferSize} items.
+     *
+     * @param bufferSize the expected number of items, must be strictly positive
+     * @param <T>        the type of item
+     * @return the queue
+     */
+    public static <T> Queue<T> get(int bufferSize) {
+        if (bufferSize > MAX_BOUNDED_SIZE) {
+            return unbounded();
+        }
+        return new SpscArrayQueue<>(bufferSize);
+    }
+
+    /**
+     * Creates an unbounded thread-safe queue.
+     *
+     * @param <T> the type of item
+     * @return the queue
+     */
+    public static <T> Queue<T> unbounded() {
+        return new ConcurrentLinkedQueue<>();
+    }
+
+    static int roundToPowerOfTwo(int value) {
+        if (value > 1 << 30) {
+            return 1 << 30;
+        }
+        return 1 << (32 - Integer.numberOfLeadingZeros(value - 1));
+    }
+}
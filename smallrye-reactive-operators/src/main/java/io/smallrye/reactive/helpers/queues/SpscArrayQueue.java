@@ -0,0 +1,105 @@
+package io.smallrye.reactive.helpers.queues;
+
+import java.util.AbstractQueue;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+
+/**
+ * A bounded, array-backed, single-producer single-consumer queue.
+ * <p>
+ * The capacity is rounded up to the next power of two. {@code null} items are not accepted.
+ * Only {@link #offer(Object)}, {@link #poll()}, {@link #peek()}, {@link #isEmpty()}, {@link #size()} and
+ * {@link #clear()} are supported. {@link #offer(Object)} must only be called from the producer thread, while
+ * {@link #poll()}, {@link #peek()} and {@link #clear()} must only be called from the consumer thread.
+ *
+ * @param <E> the type of item
+ */
+public final class SpscArrayQueue<E> extends AbstractQueue<E> {
+
+    private static final int MAX_LOOK_AHEAD_STEP = 4096;
+
+    private final AtomicReferenceArray<E> buffer;
+    private final int mask;
+    private final int lookAheadStep;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    // Only accessed by the producer
+    private long producerLookAhead;
+
+    public SpscArrayQueue(int capacity) {
+        int actual = Queues.roundToPowerOfTwo(Math.max(1, capacity));
+        this.buffer = new AtomicReferenceArray<>(actual);
+        this.mask = actual - 1;
+        this.lookAheadStep = Math.min(actual / 4, MAX_LOOK_AHEAD_STEP);
+    }
+
+    @Override
+    public boolean offer(E item) {
+        nonNull(item, "item");
+        long index = producerIndex.get();
+        int offset = (int) index & mask;
+        if (index >= producerLookAhead) {
+            int step = lookAheadStep;
+            if (buffer.get((int) (index + step) & mask) == null) {
+                producerLookAhead = index + step;
+            } else if (buffer.get(offset) != null) {
+                return false;
+            }
+        }
+        buffer.lazySet(offset, item);
+        producerIndex.lazySet(index + 1);
+        return true;
+    }
+
+    @Override
+    public E poll() {
+        long index = consumerIndex.get();
+        int offset = (int) index & mask;
+        E item = buffer.get(offset);
+        if (item == null) {
+            return null;
+        }
+        consumerIndex.lazySet(index + 1);
+        buffer.lazySet(offset, null);
+        return item;
+    }
+
+    @Override
+    public E peek() {
+        return buffer.get((int) consumerIndex.get() & mask);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return producerIndex.get() == consumerIndex.get();
+    }
+
+    @Override
+    public int size() {
+        long before;
+        long after = consumerIndex.get();
+        long current;
+        do {
+            before = after;
+            current = producerIndex.get();
+            after = consumerIndex.get();
+        } while (before != after);
+        return (int) (current - after);
+    }
+
+    @Override
+    public void clear() {
+        while (poll() != null || !isEmpty()) {
+            // Drain.
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        throw new UnsupportedOperationException("Iterating over a single-producer single-consumer queue");
+    }
+}
@@ -0,0 +1,229 @@
+package io.smallrye.reactive.infrastructure;
+
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+
+/**
+ * The {@link ExecutorConfiguration} used when no implementation is registered using the {@link java.util.ServiceLoader}
+ * mechanism. It creates three distinct pools, so timers do not fire late when the workers are busy:
+ * <ul>
+ * <li>the worker pool, running the user callbacks, a work-stealing {@link ForkJoinPool} by default,</li>
+ * <li>the scheduler, a {@link ScheduledThreadPoolExecutor} returned by
+ * {@link Infrastructure#getDefaultWorkerPool()},</li>
+ * <li>the timer, a {@link HashedWheelTimer} dispatching the expired tasks to a small dedicated pool, so timeouts
+ * still fire when blocking code holds all the workers.</li>
+ * </ul>
+ * <p>
+ * The pools can be tuned using the following properties, generally passed as system properties:
+ * <ul>
+ * <li>{@code smallrye.reactive.worker.pool}: {@code fork-join} (default) or {@code fixed}</li>
+ * <li>{@code smallrye.reactive.worker.size}: the number of worker threads, the number of processors by default</li>
+ * <li>{@code smallrye.reactive.worker.queue-size}: the capacity of the queue of the {@code fixed} worker pool,
+ * unbounded by default. Tasks submitted when the queue is full are rejected.</li>
+ * <li>{@code smallrye.reactive.scheduler.size}: the number of scheduler threads, half the number of processors by
+ * default</li>
+ * <li>{@code smallrye.reactive.timer.size}: the number of threads running the expired timer tasks, half the number of
+ * processors by default</li>
+ * <li>{@code smallrye.reactive.timer.tick}: the duration of a timer tick in milliseconds, {@code 1} by default</li>
+ * <li>{@code smallrye.reactive.timer.wheel-size}: the number of buckets of the timer wheel, {@code 512} by
+ * default</li>
+ * <li>{@code smallrye.reactive.virtual-threads}: {@code true} to enable the virtual-thread mode, {@code false} by
+ * default. In this mode, and if the JVM supports virtual threads, the
+ * {@link #getDefaultBlockingExecutor() blocking executor} starts a virtual thread per task. Otherwise, the blocking
+ * executor is the worker pool. The library uses the blocking executor for its own blocking paths, such as the
+ * subscription of the streams returned by {@code multi.subscribe().asStream()}. Other blocking code runs on a
+ * virtual thread only if it is explicitly moved to the blocking executor, for example using
+ * {@code uni.subscribeOn(Infrastructure.getDefaultBlockingExecutor())}.</li>
+ * </ul>
+ * <p>
+ * All the threads are daemon threads. The number of rejected tasks is available from {@link #getRejectedTaskCount()}.
+ */
+public class DefaultExecutorConfiguration implements ExecutorConfiguration {
+
+    public static final String WORKER_POOL = "smallrye.reactive.worker.pool";
+    public static final String WORKER_SIZE = "smallrye.reactive.worker.size";
+    public static final String WORKER_QUEUE_SIZE = "smallrye.reactive.worker.queue-size";
+    public static final String SCHEDULER_SIZE = "smallrye.reactive.scheduler.size";
+    public static final String TIMER_SIZE = "smallrye.reactive.timer.size";
+    public static final String TIMER_TICK = "smallrye.reactive.timer.tick";
+    public static final String TIMER_WHEEL_SIZE = "smallrye.reactive.timer.wheel-size";
+    public static final String VIRTUAL_THREADS = "smallrye.reactive.virtual-threads";
+
+    private static final String FORK_JOIN = "fork-join";
+    private static final String FIXED = "fixed";
+
+    private final LongAdder rejected = new LongAdder();
+    private final ExecutorService workers;
+    private final Executor worker;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final ThreadPoolExecutor expirations;
+    private final HashedWheelTimer timer;
+    private final ExecutorService virtual;
+
+    /**
+     * Creates the pools using the system properties.
+     */
+    public DefaultExecutorConfiguration() {
+        this(System.getProperties());
+    }
+
+    /**
+     * Creates the pools using the given properties.
+     *
+     * @param properties the properties, must not be {@code null}
+     */
+    public DefaultExecutorConfiguration(Properties properties) {
+        nonNull(properties, "properties");
+        int processors = Runtime.getRuntime().availableProcessors();
+        String pool = properties.getProperty(WORKER_POOL, FORK_JOIN);
+        int workerSize = positiveInt(properties, WORKER_SIZE, processors);
+        int queueSize = positiveInt(properties, WORKER_QUEUE_SIZE, Integer.MAX_VALUE);
+        int schedulerSize = positiveInt(properties, SCHEDULER_SIZE, Math.max(1, processors / 2));
+        int timerSize = positiveInt(properties, TIMER_SIZE, Math.max(1, processors / 2));
+        int tick = positiveInt(properties, TIMER_TICK, 1);
+        int wheelSize = positiveInt(properties, TIMER_WHEEL_SIZE, 512);
+
+        if (FORK_JOIN.equals(pool)) {
+            this.workers = new ForkJoinPool(workerSize, new WorkerThreadFactory(), null, true);
+        } else if (FIXED.equals(pool)) {
+            this.workers = new ThreadPoolExecutor(workerSize, workerSize, 0, TimeUnit.MILLISECONDS,
+                    queueSize == Integer.MAX_VALUE ? new LinkedBlockingQueue<>() : new ArrayBlockingQueue<>(queueSize),
+                    new DaemonThreadFactory("smallrye-reactive-worker-"));
+        } else {
+            throw new IllegalArgumentException(
+                    String.format("`%s` must be `%s` or `%s`, found `%s`", WORKER_POOL, FORK_JOIN, FIXED, pool));
+        }
+        this.worker = command -> {
+            try {
+                workers.execute(command);
+            } catch (RejectedExecutionException e) {
+                rejected.increment();
+                throw e;
+            }
+        };
+
+        this.scheduler = new ScheduledThreadPoolExecutor(schedulerSize,
+                new DaemonThreadFactory("smallrye-reactive-scheduler-"), (task, executor) -> {
+            rejected.increment();
+            throw new RejectedExecutionException("Task rejected by the scheduler");
+        });
+        this.scheduler.setRemoveOnCancelPolicy(true);
+
+        this.expirations = new ThreadPoolExecutor(timerSize, timerSize, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new DaemonThreadFactory("smallrye-reactive-timer-worker-"),
+                (task, executor) -> {
+                    rejected.increment();
+                    throw new RejectedExecutionException("Task rejected by the timer");
+                });
+        // Expiring timers are bursty, do not keep the threads when no timer fires.
+        this.expirations.allowCoreThreadTimeOut(true);
+        this.timer = new HashedWheelTimer(tick, TimeUnit.MILLISECONDS, wheelSize, expirations,
+                new DaemonThreadFactory("smallrye-reactive-timer-"));
+
+        if (Boolean.parseBoolean(properties.getProperty(VIRTUAL_THREADS, "false")) && VirtualThreads.isAvailable()) {
+            this.virtual = VirtualThreads.newVirtualThreadPerTaskExecutor();
+        } else {
+            this.virtual = null;
+        }
+    }
+
+    private static int positiveInt(Properties properties, String name, int defaultValue) {
+        String value = properties.getProperty(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // Handled below
+        }
+        throw new IllegalArgumentException(
+                String.format("`%s` must be a positive integer, found `%s`", name, value));
+    }
+
+    @Override
+    public Executor getDefaultWorkerExecutor() {
+        return worker;
+    }
+
+    @Override
+    public ScheduledExecutorService getDefaultScheduledExecutor() {
+        return scheduler;
+    }
+
+    @Override
+    public ScheduledExecutorService getDefaultTimer() {
+        return timer;
+    }
+
+    @Override
+    public Executor getDefaultBlockingExecutor() {
+        return virtual != null ? virtual : worker;
+    }
+
+    /**
+     * @return the number of tasks rejected by the worker pool, the scheduler and the timer.
+     */
+    public long getRejectedTaskCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Shuts down the pools.
+     */
+    public void shutdown() {
+        timer.shutdown();
+        expirations.shutdown();
+        scheduler.shutdown();
+        workers.shutdown();
+        if (virtual != null) {
+            virtual.shutdown();
+        }
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger count = new AtomicInteger();
+
+        DaemonThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    private static class WorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("smallrye-reactive-worker-" + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
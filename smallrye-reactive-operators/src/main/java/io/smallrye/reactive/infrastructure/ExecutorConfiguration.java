@@ -26,4 +26,30 @@ public interface ExecutorConfiguration {
      */
     ScheduledExecutorService getDefaultScheduledExecutor();
 
+    /**
+     * Gets the executor used for the timers, such as timeouts, delays, time windows and ticks. These timers are
+     * scheduled at a high rate and most of them are cancelled, so the executor should offer cheap scheduling and
+     * cancellation, like {@link HashedWheelTimer}.
+     * <p>
+     * Returns the {@link #getDefaultScheduledExecutor() default scheduler} by default.
+     *
+     * @return the default timer.
+     */
+    default ScheduledExecutorService getDefaultTimer() {
+        return getDefaultScheduledExecutor();
+    }
+
+    /**
+     * Gets the executor used to run blocking code, such as the subscriptions of {@link io.smallrye.reactive.Uni unis}
+     * wrapping blocking calls. On JDK 21+, a virtual-thread-per-task executor lets this code scale without large
+     * platform thread pools, see {@link VirtualThreads}.
+     * <p>
+     * Returns the {@link #getDefaultWorkerExecutor() default executor} by default.
+     *
+     * @return the default blocking executor.
+     */
+    default Executor getDefaultBlockingExecutor() {
+        return getDefaultWorkerExecutor();
+    }
+
 }
@@ -0,0 +1,376 @@
+package io.smallrye.reactive.infrastructure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+import static io.smallrye.reactive.helpers.ParameterValidation.positive;
+
+/**
+ * A {@link ScheduledExecutorService} backed by a hashed timing wheel.
+ * <p>
+ * Scheduling and cancelling a task are {@code O(1)}: the calling thread only enqueues the task (or the cancellation)
+ * in a lock-free queue, and a single timer thread moves the tasks into the wheel buckets, and removes the cancelled
+ * tasks, on every tick. Unlike a {@link java.util.concurrent.ScheduledThreadPoolExecutor}, a cancelled task is
+ * released on the next tick and not when its delay expires, which matters when most timers are cancelled, such as
+ * timeouts.
+ * <p>
+ * The precision is bounded by the tick duration: a task never runs before its delay, but may run up to one tick
+ * after. Expired tasks are not executed on the timer thread, but dispatched to the given {@link Executor}. When no
+ * task is scheduled, the timer thread parks and does not consume CPU.
+ */
+public class HashedWheelTimer extends AbstractExecutorService implements ScheduledExecutorService {
+
+    private static final int STATE_RUNNING = 0;
+    private static final int STATE_SHUTDOWN = 1;
+
+    private final long tickInNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Executor dispatcher;
+    private final Thread thread;
+    private final long origin = System.nanoTime();
+
+    private final Queue<TimerTask<?>> added = new ConcurrentLinkedQueue<>();
+    private final Queue<TimerTask<?>> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger scheduled = new AtomicInteger();
+    private final AtomicInteger state = new AtomicInteger(STATE_RUNNING);
+
+    /**
+     * Set by the timer thread before parking, when no task is scheduled.
+     */
+    private volatile boolean idle;
+
+    /**
+     * Creates a new {@link HashedWheelTimer}.
+     *
+     * @param tick the duration of a tick, must be strictly positive
+     * @param unit the unit of {@code tick}, must not be {@code null}
+     * @param ticksPerWheel the number of buckets in the wheel, rounded to the next power of 2, must be strictly
+     *        positive
+     * @param dispatcher the executor running the expired tasks, must not be {@code null}
+     * @param threadFactory the factory creating the timer thread, must not be {@code null}
+     */
+    public HashedWheelTimer(long tick, TimeUnit unit, int ticksPerWheel, Executor dispatcher,
+            ThreadFactory threadFactory) {
+        this.tickInNanos = nonNull(unit, "unit").toNanos(positive(tick, "tick"));
+        int size = Integer.highestOneBit(positive(ticksPerWheel, "ticksPerWheel") - 1) << 1;
+        this.wheel = new Bucket[Math.max(1, size)];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = wheel.length - 1;
+        this.dispatcher = nonNull(dispatcher, "dispatcher");
+        this.thread = nonNull(threadFactory, "threadFactory").newThread(this::loop);
+        this.thread.start();
+    }
+
+    /**
+     * Creates a new {@link HashedWheelTimer} with a tick of 1 millisecond, 512 buckets and a daemon thread.
+     *
+     * @param dispatcher the executor running the expired tasks, must not be {@code null}
+     */
+    public HashedWheelTimer(Executor dispatcher) {
+        this(1, TimeUnit.MILLISECONDS, 512, dispatcher, runnable -> {
+            Thread thread = new Thread(runnable, "smallrye-reactive-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @return the number of scheduled tasks, including the tasks not yet moved into the wheel.
+     */
+    public int size() {
+        return scheduled.get();
+    }
+
+    // ---- Scheduling
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        nonNull(command, "command");
+        return enqueue(new TimerTask<Void>(Executors.callable(command, null), deadline(delay, unit), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        return enqueue(new TimerTask<>(nonNull(callable, "callable"), deadline(delay, unit), 0));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        nonNull(command, "command");
+        return enqueue(new TimerTask<Void>(Executors.callable(command, null), deadline(initialDelay, unit),
+                nonNull(unit, "unit").toNanos(positive(period, "period"))));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay,
+            TimeUnit unit) {
+        nonNull(command, "command");
+        return enqueue(new TimerTask<Void>(Executors.callable(command, null), deadline(initialDelay, unit),
+                -nonNull(unit, "unit").toNanos(positive(delay, "delay"))));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (isShutdown()) {
+            throw new RejectedExecutionException("Timer shut down");
+        }
+        dispatcher.execute(nonNull(command, "command"));
+    }
+
+    private long now() {
+        return System.nanoTime() - origin;
+    }
+
+    private long deadline(long delay, TimeUnit unit) {
+        return now() + Math.max(0, nonNull(unit, "unit").toNanos(delay));
+    }
+
+    private <V> TimerTask<V> enqueue(TimerTask<V> task) {
+        if (isShutdown()) {
+            throw new RejectedExecutionException("Timer shut down");
+        }
+        scheduled.incrementAndGet();
+        added.add(task);
+        if (idle) {
+            LockSupport.unpark(thread);
+        }
+        return task;
+    }
+
+    // ---- Timer thread
+
+    private void loop() {
+        long tick = 0;
+        while (state.get() == STATE_RUNNING) {
+            if (scheduled.get() == 0) {
+                idle = true;
+                // Re-check after publishing the flag, as a task may have been added in between
+                if (scheduled.get() == 0 && state.get() == STATE_RUNNING) {
+                    LockSupport.park(this);
+                }
+                idle = false;
+                // The wheel is empty, restart from the current time
+                tick = now() / tickInNanos;
+                continue;
+            }
+
+            long deadline = tickInNanos * (tick + 1);
+            long sleep = deadline - now();
+            if (sleep > 0) {
+                LockSupport.parkNanos(this, sleep);
+                continue;
+            }
+
+            removeCancelledTasks();
+            transferAddedTasks(tick);
+            wheel[(int) (tick & mask)].expire(deadline);
+            tick++;
+        }
+    }
+
+    private void removeCancelledTasks() {
+        TimerTask<?> task;
+        while ((task = cancelled.poll()) != null) {
+            if (task.bucket != null) {
+                task.bucket.remove(task);
+                scheduled.decrementAndGet();
+            }
+        }
+    }
+
+    private void transferAddedTasks(long tick) {
+        TimerTask<?> task;
+        while ((task = added.poll()) != null) {
+            if (task.isCancelled()) {
+                scheduled.decrementAndGet();
+                continue;
+            }
+            long target = Math.max(task.deadline / tickInNanos, tick);
+            task.rounds = (target - tick) / wheel.length;
+            wheel[(int) (target & mask)].add(task);
+        }
+    }
+
+    private void dispatch(TimerTask<?> task) {
+        scheduled.decrementAndGet();
+        try {
+            dispatcher.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.cancel(false);
+        }
+    }
+
+    // ---- Lifecycle
+
+    @Override
+    public void shutdown() {
+        if (state.compareAndSet(STATE_RUNNING, STATE_SHUTDOWN)) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        List<Runnable> tasks = new ArrayList<>(added);
+        added.clear();
+        if (!thread.isAlive()) {
+            for (Bucket bucket : wheel) {
+                bucket.drainTo(tasks);
+            }
+        }
+        return tasks;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return state.get() == STATE_SHUTDOWN;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return isShutdown() && !thread.isAlive();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        thread.join(Math.max(1, unit.toMillis(timeout)));
+        return !thread.isAlive();
+    }
+
+    /**
+     * A bucket of the wheel, a doubly-linked list of tasks. Only accessed from the timer thread.
+     */
+    private final class Bucket {
+        private TimerTask<?> head;
+        private TimerTask<?> tail;
+
+        void add(TimerTask<?> task) {
+            task.bucket = this;
+            if (head == null) {
+                head = tail = task;
+            } else {
+                tail.next = task;
+                task.prev = tail;
+                tail = task;
+            }
+        }
+
+        void remove(TimerTask<?> task) {
+            if (task.prev != null) {
+                task.prev.next = task.next;
+            } else {
+                head = task.next;
+            }
+            if (task.next != null) {
+                task.next.prev = task.prev;
+            } else {
+                tail = task.prev;
+            }
+            task.prev = null;
+            task.next = null;
+            task.bucket = null;
+        }
+
+        void expire(long deadline) {
+            TimerTask<?> task = head;
+            while (task != null) {
+                TimerTask<?> next = task.next;
+                if (task.rounds <= 0 && task.deadline <= deadline) {
+                    remove(task);
+                    dispatch(task);
+                } else {
+                    task.rounds--;
+                }
+                task = next;
+            }
+        }
+
+        void drainTo(List<Runnable> tasks) {
+            TimerTask<?> task = head;
+            while (task != null) {
+                tasks.add(task);
+                task = task.next;
+            }
+            head = tail = null;
+        }
+    }
+
+    private final class TimerTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+
+        /**
+         * Positive for a fixed rate, negative for a fixed delay, 0 for a one-shot task.
+         */
+        private final long period;
+        private volatile long deadline;
+
+        // Only accessed from the timer thread
+        private long rounds;
+        private Bucket bucket;
+        private TimerTask<?> prev;
+        private TimerTask<?> next;
+
+        TimerTask(Callable<V> callable, long deadline, long period) {
+            super(callable);
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return period != 0;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - now(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public void run() {
+            if (!isPeriodic()) {
+                super.run();
+            } else if (runAndReset() && !isShutdown()) {
+                deadline = period > 0 ? deadline + period : now() - period;
+                enqueue(this);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean done = super.cancel(mayInterruptIfRunning);
+            if (done) {
+                cancelled.add(this);
+            }
+            return done;
+        }
+    }
+}
@@ -4,82 +4,215 @@ import io.smallrye.reactive.Uni;
 import io.smallrye.reactive.subscription.UniSubscriber;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ServiceLoader;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 
 import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
 
+/**
+ * Gives access to the default executors and to the {@link UniInterceptor interceptors}.
+ * <p>
+ * Nothing is created when this class is loaded: the executors are created on first use, and the interceptors are
+ * loaded when the first {@link Uni} is created. Short-lived applications that never use an executor do not pay for
+ * the thread pools. Applications preferring to pay this cost upfront call {@link #initialize()}, and
+ * {@link #shutdown()} releases the default executors.
+ */
 public class Infrastructure {
 
-    static {
-        ServiceLoader<ExecutorConfiguration> executorLoader = ServiceLoader.load(ExecutorConfiguration.class);
-        Iterator<ExecutorConfiguration> iterator = executorLoader.iterator();
-        if (iterator.hasNext()) {
-            ExecutorConfiguration next = iterator.next();
-            DEFAULT_EXECUTOR = nonNull(next.getDefaultWorkerExecutor(), "executor");
-            DEFAULT_SCHEDULER = nonNull(next.getDefaultScheduledExecutor(), "scheduler");
-        } else {
-            ScheduledExecutorService scheduler = Executors
-                    .newScheduledThreadPool(Runtime.getRuntime().availableProcessors());
-            DEFAULT_SCHEDULER = scheduler;
-            DEFAULT_EXECUTOR = scheduler;
+    private static final UniInterceptor[] NO_INTERCEPTORS = new UniInterceptor[0];
+
+    /**
+     * The executors, {@code null} until first used or after {@link #shutdown()}.
+     */
+    private static volatile DefaultExecutors EXECUTORS;
+    /**
+     * The sorted interceptors, {@code null} until loaded. The array is never modified, a new array is set when the
+     * interceptors change.
+     */
+    private static volatile UniInterceptor[] UNI_INTERCEPTORS;
+
+    /**
+     * Creates the default executors and loads the interceptors, if not already done. Calling this method is not
+     * required, but avoids paying the initialization cost on the first operation using an executor.
+     */
+    public static void initialize() {
+        executors();
+        interceptors();
+    }
+
+    /**
+     * Shuts down the default executors, if created. The executors provided by a custom {@link ExecutorConfiguration}
+     * are not shut down, the implementation is responsible for terminating them. Operations using an executor after
+     * this call create new executors.
+     */
+    public static synchronized void shutdown() {
+        DefaultExecutors executors = EXECUTORS;
+        EXECUTORS = null;
+        if (executors != null && executors.configuration instanceof DefaultExecutorConfiguration) {
+            ((DefaultExecutorConfiguration) executors.configuration).shutdown();
         }
+    }
 
-        // Interceptor
-        ServiceLoader<UniInterceptor> interceptorLoader = ServiceLoader.load(UniInterceptor.class);
-        List<UniInterceptor> interceptors = new ArrayList<>();
-        interceptorLoader.iterator().forEachRemaining(interceptors::add);
-        interceptors.sort(Comparator.comparingInt(UniInterceptor::ordinal));
-        UNI_INTERCEPTORS = interceptors;
+    private static DefaultExecutors executors() {
+        DefaultExecutors executors = EXECUTORS;
+        if (executors == null) {
+            synchronized (Infrastructure.class) {
+                executors = EXECUTORS;
+                if (executors == null) {
+                    ServiceLoader<ExecutorConfiguration> executorLoader = ServiceLoader
+                            .load(ExecutorConfiguration.class);
+                    Iterator<ExecutorConfiguration> iterator = executorLoader.iterator();
+                    ExecutorConfiguration configuration = iterator.hasNext() ? iterator.next()
+                            : new DefaultExecutorConfiguration(System.getProperties());
+                    executors = new DefaultExecutors(configuration);
+                    EXECUTORS = executors;
+                }
+            }
+        }
+        return executors;
     }
 
-    private static final ScheduledExecutorService DEFAULT_SCHEDULER;
-    private static final Executor DEFAULT_EXECUTOR;
-    private static final List<UniInterceptor> UNI_INTERCEPTORS;
+    private static UniInterceptor[] interceptors() {
+        UniInterceptor[] interceptors = UNI_INTERCEPTORS;
+        if (interceptors == null) {
+            synchronized (Infrastructure.class) {
+                interceptors = UNI_INTERCEPTORS;
+                if (interceptors == null) {
+                    ServiceLoader<UniInterceptor> interceptorLoader = ServiceLoader.load(UniInterceptor.class);
+                    List<UniInterceptor> list = new ArrayList<>();
+                    interceptorLoader.iterator().forEachRemaining(list::add);
+                    list.sort(Comparator.comparingInt(UniInterceptor::ordinal));
+                    interceptors = list.toArray(NO_INTERCEPTORS);
+                    UNI_INTERCEPTORS = interceptors;
+                }
+            }
+        }
+        return interceptors;
+    }
 
+    /**
+     * @return the default {@link ScheduledExecutorService}. Unless configured otherwise, it is distinct from the
+     * {@link #getDefaultExecutor() default executor} and from the {@link #getDefaultTimer() timer}.
+     * @see DefaultExecutorConfiguration
+     */
     public static ScheduledExecutorService getDefaultWorkerPool() {
-        return DEFAULT_SCHEDULER;
+        return executors().scheduler;
     }
 
     public static Executor getDefaultExecutor() {
-        return DEFAULT_EXECUTOR;
+        return executors().worker;
+    }
+
+    /**
+     * @return the executor used for the timers, such as timeouts, delays, time windows and ticks. By default, a
+     * {@link HashedWheelTimer} running the expired tasks on a dedicated pool, distinct from the
+     * {@link #getDefaultExecutor() default executor}.
+     */
+    public static ScheduledExecutorService getDefaultTimer() {
+        return executors().timer;
+    }
+
+    /**
+     * @return the executor to use for blocking code, for example with
+     * {@code uni.subscribeOn(Infrastructure.getDefaultBlockingExecutor())}. It also runs the subscriptions of the
+     * streams returned by {@code multi.subscribe().asStream()}. In the virtual-thread mode, each task runs on a new
+     * virtual thread, otherwise it is the {@link #getDefaultExecutor() default executor}.
+     * @see DefaultExecutorConfiguration#VIRTUAL_THREADS
+     */
+    public static Executor getDefaultBlockingExecutor() {
+        return executors().blocking;
+    }
+
+    /**
+     * @return the number of tasks rejected by the default pools, {@code 0} if the pools are not created yet or are
+     * provided by a custom {@link ExecutorConfiguration}.
+     */
+    public static long getRejectedTaskCount() {
+        DefaultExecutors executors = EXECUTORS;
+        if (executors != null && executors.configuration instanceof DefaultExecutorConfiguration) {
+            return ((DefaultExecutorConfiguration) executors.configuration).getRejectedTaskCount();
+        }
+        return 0;
+    }
+
+    /**
+     * @return {@code true} if at least one {@link UniInterceptor} is registered. Operators must not bypass the
+     * subscription to their upstream when interceptors are registered.
+     */
+    public static boolean hasUniInterceptors() {
+        return interceptors().length != 0;
     }
 
     public static <T> Uni<T> onUniCreation(Uni<T> instance) {
+        UniInterceptor[] interceptors = interceptors();
+        if (interceptors.length == 0) {
+            return instance;
+        }
         Uni<T> current = instance;
-        for (UniInterceptor itcp : UNI_INTERCEPTORS) {
+        for (UniInterceptor itcp : interceptors) {
             current = itcp.onUniCreation(current);
         }
         return current;
     }
 
     public static <T> UniSubscriber<? super T> onUniSubscription(Uni<T> instance, UniSubscriber<? super T> subscriber) {
+        UniInterceptor[] interceptors = interceptors();
+        if (interceptors.length == 0) {
+            return subscriber;
+        }
         UniSubscriber<? super T> current = subscriber;
-        for (UniInterceptor itcp : UNI_INTERCEPTORS) {
+        for (UniInterceptor itcp : interceptors) {
             current = itcp.onSubscription(instance, current);
         }
         return current;
     }
 
     // For testing purpose only
-    static void registerUniInterceptor(UniInterceptor e) {
-        UNI_INTERCEPTORS.add(e);
-        UNI_INTERCEPTORS.sort(Comparator.comparingInt(UniInterceptor::ordinal));
+    static synchronized void registerUniInterceptor(UniInterceptor e) {
+        List<UniInterceptor> interceptors = new ArrayList<>(Arrays.asList(interceptors()));
+        interceptors.add(e);
+        interceptors.sort(Comparator.comparingInt(UniInterceptor::ordinal));
+        UNI_INTERCEPTORS = interceptors.toArray(NO_INTERCEPTORS);
     }
 
     // For testing purpose only
-    static void clearUniInterceptors() {
-        UNI_INTERCEPTORS.clear();
+    static synchronized void clearUniInterceptors() {
+        UNI_INTERCEPTORS = NO_INTERCEPTORS;
     }
 
     // For testing purpose only
     static List<UniInterceptor> getUniInterceptors() {
-        return UNI_INTERCEPTORS;
+        return Collections.unmodifiableList(Arrays.asList(interceptors()));
+    }
+
+    // For testing purpose only
+    static boolean isInitialized() {
+        return EXECUTORS != null;
+    }
+
+    /**
+     * The executors provided by an {@link ExecutorConfiguration}.
+     */
+    private static final class DefaultExecutors {
+        private final ExecutorConfiguration configuration;
+        private final Executor worker;
+        private final ScheduledExecutorService scheduler;
+        private final ScheduledExecutorService timer;
+        private final Executor blocking;
+
+        DefaultExecutors(ExecutorConfiguration configuration) {
+            this.configuration = configuration;
+            this.worker = nonNull(configuration.getDefaultWorkerExecutor(), "executor");
+            this.scheduler = nonNull(configuration.getDefaultScheduledExecutor(), "scheduler");
+            this.timer = nonNull(configuration.getDefaultTimer(), "timer");
+            this.blocking = nonNull(configuration.getDefaultBlockingExecutor(), "blockingExecutor");
+        }
     }
 
     private Infrastructure() {
@@ -0,0 +1,82 @@
+package io.smallrye.reactive.infrastructure;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+
+/**
+ * Detects, at runtime, whether the JVM supports virtual threads (JDK 21+). The virtual thread methods are looked up
+ * once and invoked using {@link MethodHandle method handles}, so this class can be compiled and used on older JDKs.
+ */
+public final class VirtualThreads {
+
+    private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR;
+    private static final MethodHandle IS_VIRTUAL;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        MethodHandle factory;
+        MethodHandle isVirtual;
+        try {
+            factory = lookup.findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+            isVirtual = lookup.findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            factory = null;
+            isVirtual = null;
+        }
+        NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = factory;
+        IS_VIRTUAL = isVirtual;
+    }
+
+    private VirtualThreads() {
+        // Avoid direct instantiation.
+    }
+
+    /**
+     * @return {@code true} if the JVM supports virtual threads.
+     */
+    public static boolean isAvailable() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Creates an {@link ExecutorService} starting a new virtual thread for each task.
+     *
+     * @return the new {@link ExecutorService}
+     * @throws UnsupportedOperationException if the JVM does not support virtual threads
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (!isAvailable()) {
+            throw new UnsupportedOperationException("Virtual threads require JDK 21 or later");
+        }
+        try {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Unable to create the virtual thread executor", e);
+        }
+    }
+
+    /**
+     * @param thread the thread, must not be {@code null}
+     * @return {@code true} if the given thread is a virtual thread, {@code false} otherwise or if the JVM does not
+     * support virtual threads.
+     */
+    public static boolean isVirtual(Thread thread) {
+        nonNull(thread, "thread");
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invoke(thread);
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+}
@@ -5,10 +5,12 @@ import io.reactivex.exceptions.CompositeException;
 import io.reactivex.exceptions.MissingBackpressureException;
 import io.reactivex.schedulers.Schedulers;
 import io.smallrye.reactive.Multi;
+import io.smallrye.reactive.ParallelMulti;
 import io.smallrye.reactive.Uni;
 import io.smallrye.reactive.groups.*;
-import io.smallrye.reactive.operators.flowable.ThreadSwitchFlowable;
+import io.smallrye.reactive.helpers.queues.Queues;
 import io.smallrye.reactive.subscription.BackPressureFailure;
+import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
@@ -23,8 +25,16 @@ public abstract class AbstractMulti<T> implements Multi<T> {
 
     protected abstract Flowable<T> flowable();
 
-    @Override
-    public void subscribe(Subscriber<? super T> subscriber) {
+    /**
+     * Subscribes the given subscriber to this {@link Multi}.
+     * <p>
+     * By default, it subscribes to the {@link Flowable} returned by {@link #flowable()} and adapts the RX Java
+     * failures. Operators implemented directly on top of the Reactive Streams {@link Subscriber} override this
+     * method (see {@link AbstractMultiOperator}).
+     *
+     * @param subscriber the subscriber, not {@code null}
+     */
+    protected void subscribing(Subscriber<? super T> subscriber) {
         Flowable<T> flowable = flowable();
         if (flowable == null) {
             throw new IllegalStateException("Invalid call to subscription, we don't have a stream");
@@ -97,6 +107,29 @@ public abstract class AbstractMulti<T> implements Multi<T> {
         });
     }
 
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        subscribing(nonNull(subscriber, "subscriber"));
+    }
+
+    /**
+     * Subscribes the given subscriber to the given publisher. If the publisher is an {@link AbstractMulti}, the
+     * subscriber is passed directly to {@link #subscribing(Subscriber)}, avoiding the RX Java bridge when the
+     * publisher is implemented natively.
+     *
+     * @param publisher  the publisher
+     * @param subscriber the subscriber
+     * @param <T>        the type of item
+     */
+    @SuppressWarnings("unchecked")
+    static <T> void subscribeDirectly(Publisher<? extends T> publisher, Subscriber<? super T> subscriber) {
+        if (publisher instanceof AbstractMulti) {
+            ((AbstractMulti<T>) publisher).subscribing(subscriber);
+        } else {
+            publisher.subscribe(subscriber);
+        }
+    }
+
     @Override
     public MultiOnItem<T> onItem() {
         return new MultiOnItem<>(this);
@@ -162,9 +195,17 @@ public abstract class AbstractMulti<T> implements Multi<T> {
 
     @Override
     public Multi<T> emitOn(Executor executor) {
-        return new DefaultMulti<>(
-                flowable().observeOn(Schedulers.from(nonNull(executor, "executor")))
-        );
+        return emitOn(executor, Queues.BUFFER_S);
+    }
+
+    @Override
+    public Multi<T> emitOn(Executor executor, int prefetch) {
+        return new MultiEmitOn<>(this, nonNull(executor, "executor"), prefetch);
+    }
+
+    @Override
+    public ParallelMulti<T> parallel(int parallelism) {
+        return new ParallelMultiSource<>(this, parallelism, Queues.BUFFER_S);
     }
 
     @Override
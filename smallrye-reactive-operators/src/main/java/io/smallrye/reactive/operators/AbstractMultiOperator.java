@@ -0,0 +1,43 @@
+package io.smallrye.reactive.operators;
+
+import io.reactivex.Flowable;
+import io.smallrye.reactive.Multi;
+import org.reactivestreams.Subscriber;
+
+/**
+ * Base class for the {@link Multi} operators implemented directly on top of the Reactive Streams
+ * {@link Subscriber} / {@link org.reactivestreams.Subscription} protocol, without delegating to a {@link Flowable}.
+ * <p>
+ * Implementations override {@link #subscribing(Subscriber)} and subscribe to the upstream using
+ * {@link #subscribeToUpstream(Subscriber)}. When the upstream is also a native operator, no intermediate
+ * {@link Flowable} and no extra subscriber are created.
+ * <p>
+ * To ease the migration, {@link #flowable()} is still available and wraps this operator, so operators still based on
+ * {@link Flowable} can be placed downstream.
+ *
+ * @param <I> the type of item received from the upstream
+ * @param <O> the type of item emitted by this operator
+ */
+public abstract class AbstractMultiOperator<I, O> extends MultiOperator<I, O> {
+
+    public AbstractMultiOperator(Multi<I> upstream) {
+        super(upstream);
+    }
+
+    @Override
+    protected abstract void subscribing(Subscriber<? super O> downstream);
+
+    @Override
+    protected Flowable<O> flowable() {
+        return Flowable.fromPublisher(this);
+    }
+
+    /**
+     * Subscribes the given subscriber to the upstream.
+     *
+     * @param subscriber the subscriber
+     */
+    protected void subscribeToUpstream(Subscriber<? super I> subscriber) {
+        subscribeDirectly(upstream(), subscriber);
+    }
+}
@@ -0,0 +1,78 @@
+package io.smallrye.reactive.operators;
+
+import io.smallrye.reactive.Multi;
+import io.smallrye.reactive.ParallelMulti;
+import io.smallrye.reactive.helpers.Subscriptions;
+import io.smallrye.reactive.helpers.queues.Queues;
+import io.smallrye.reactive.infrastructure.Infrastructure;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+
+public abstract class AbstractParallelMulti<T> implements ParallelMulti<T> {
+
+    /**
+     * Checks that the number of subscribers matches the number of rails. If not, all the subscribers receive an
+     * {@link IllegalArgumentException}.
+     *
+     * @param subscribers the subscribers
+     * @return {@code true} if the subscribers are valid, {@code false} otherwise
+     */
+    protected boolean validate(Subscriber<?>[] subscribers) {
+        nonNull(subscribers, "subscribers");
+        int parallelism = parallelism();
+        if (subscribers.length != parallelism) {
+            IllegalArgumentException failure = new IllegalArgumentException(
+                    "Invalid number of subscribers, expected " + parallelism + " but got " + subscribers.length);
+            for (Subscriber<?> subscriber : subscribers) {
+                Subscriptions.fail(subscriber, failure);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public ParallelMulti<T> runOn(Executor executor) {
+        Executor ex = nonNull(executor, "executor");
+        return new ParallelMultiOperator<T, T>(this,
+                downstream -> new MultiEmitOn.EmitOnProcessor<>(downstream, ex, Queues.BUFFER_S));
+    }
+
+    @Override
+    public ParallelMulti<T> runOn() {
+        return runOn(Infrastructure.getDefaultExecutor());
+    }
+
+    @Override
+    public <O> ParallelMulti<O> map(Function<? super T, ? extends O> mapper) {
+        Function<? super T, ? extends O> function = nonNull(mapper, "mapper");
+        return new ParallelMultiOperator<T, O>(this,
+                downstream -> new MultiMapOnResult.MapProcessor<>(downstream, function));
+    }
+
+    @Override
+    public ParallelMulti<T> filter(Predicate<? super T> predicate) {
+        Predicate<? super T> test = nonNull(predicate, "predicate");
+        return new ParallelMultiOperator<T, T>(this,
+                downstream -> new MultiFilter.FilterProcessor<>(downstream, test));
+    }
+
+    @Override
+    public <O> ParallelMulti<O> flatMap(Function<? super T, ? extends Publisher<? extends O>> mapper) {
+        Function<? super T, ? extends Publisher<? extends O>> function = nonNull(mapper, "mapper");
+        return new ParallelMultiOperator<T, O>(this,
+                downstream -> new MultiFlatMap.FlatMapMainSubscriber<>(downstream, function, false,
+                        Queues.BUFFER_S, Queues.BUFFER_S));
+    }
+
+    @Override
+    public Multi<T> sequential() {
+        return new ParallelMultiSequential<>(this, Queues.BUFFER_S);
+    }
+}
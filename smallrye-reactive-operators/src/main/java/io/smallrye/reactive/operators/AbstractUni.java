@@ -1,10 +1,12 @@
 package io.smallrye.reactive.operators;
 
+import io.smallrye.reactive.CachedUni;
 import io.smallrye.reactive.Multi;
 import io.smallrye.reactive.Uni;
 import io.smallrye.reactive.groups.*;
 import io.smallrye.reactive.tuples.Tuple2;
 
+import java.time.Duration;
 import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
@@ -29,6 +31,11 @@ public abstract class AbstractUni<T> implements Uni<T> {
         return new UniOnTimeout<>(this, null, null);
     }
 
+    @Override
+    public UniHedge<T> hedge() {
+        return new UniHedge<>(this, null, 0, null);
+    }
+
     @Override
     public UniOnFailure<T> onFailure() {
         return new UniOnFailure<>(this, null);
@@ -79,6 +86,11 @@ public abstract class AbstractUni<T> implements Uni<T> {
         return new UniCache<>(this);
     }
 
+    @Override
+    public CachedUni<T> cache(Duration ttl) {
+        return new UniCacheWithExpiry<>(this, ttl);
+    }
+
     @Override
     public UniAdapt<T> adapt() {
         return new UniAdapt<>(this);
@@ -0,0 +1,188 @@
+package io.smallrye.reactive.operators;
+
+import io.smallrye.reactive.Uni;
+import io.smallrye.reactive.UniMemoizer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+import static io.smallrye.reactive.helpers.ParameterValidation.positive;
+import static io.smallrye.reactive.helpers.ParameterValidation.validate;
+
+/**
+ * Implementation of {@link UniMemoizer}.
+ * <p>
+ * Each key is associated with an {@link Entry} wrapping a {@link UniCacheWithExpiry}. Keys are evicted using a
+ * <em>clock</em> (second chance) policy: keys accessed since the last sweep are kept once, expired keys are evicted
+ * first. Lookups do not lock, they only mark the entry as accessed.
+ * <p>
+ * Invalidated entries are not removed from the clock, the sweep skips them. To bound the size of the clock, the
+ * stale entries are purged once their number exceeds the maximum size, so invalidating is amortized constant time.
+ *
+ * @param <K> the type of key
+ * @param <V> the type of memoized item
+ */
+public class DefaultUniMemoizer<K, V> implements UniMemoizer<K, V> {
+
+    private final Function<? super K, ? extends Uni<? extends V>> loader;
+    private final int maximumSize;
+    private final Duration ttl;
+
+    private final Map<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry<K, V>> clock = new ConcurrentLinkedQueue<>();
+
+    /**
+     * An estimation of the number of invalidated entries still in the clock.
+     */
+    private final AtomicInteger stale = new AtomicInteger();
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public DefaultUniMemoizer(Function<? super K, ? extends Uni<? extends V>> loader, int maximumSize, Duration ttl) {
+        this.loader = nonNull(loader, "loader");
+        this.maximumSize = positive(maximumSize, "maximumSize");
+        this.ttl = validate(ttl, "ttl");
+    }
+
+    @Override
+    public Uni<V> get(K key) {
+        nonNull(key, "key");
+        return Uni.createFrom().deferred(() -> lookup(key));
+    }
+
+    @Override
+    public void invalidate(K key) {
+        if (entries.remove(nonNull(key, "key")) != null && stale.incrementAndGet() > maximumSize) {
+            stale.set(0);
+            clock.removeIf(this::isStale);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        entries.clear();
+        clock.clear();
+        stale.set(0);
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public long requestCount() {
+        return requests.get();
+    }
+
+    @Override
+    public long hitCount() {
+        return requests.get() - loads.get();
+    }
+
+    @Override
+    public long loadCount() {
+        return loads.get();
+    }
+
+    @Override
+    public long evictionCount() {
+        return evictions.get();
+    }
+
+    @Override
+    public EntryStatistics statistics(K key) {
+        Entry<K, V> entry = entries.get(nonNull(key, "key"));
+        if (entry == null) {
+            return null;
+        }
+        long requestCount = entry.requests.get();
+        long loadCount = entry.loads.get();
+        return new EntryStatistics() {
+            @Override
+            public long requestCount() {
+                return requestCount;
+            }
+
+            @Override
+            public long loadCount() {
+                return loadCount;
+            }
+        };
+    }
+
+    private Uni<V> lookup(K key) {
+        Entry<K, V> entry = entries.get(key);
+        if (entry == null) {
+            Entry<K, V> created = new Entry<>(this, key);
+            entry = entries.putIfAbsent(key, created);
+            if (entry == null) {
+                entry = created;
+                clock.offer(created);
+                if (entries.size() > maximumSize) {
+                    evict();
+                }
+            }
+        }
+        entry.accessed = true;
+        entry.requests.incrementAndGet();
+        requests.incrementAndGet();
+        return entry.cached;
+    }
+
+    private boolean isStale(Entry<K, V> entry) {
+        return entries.get(entry.key) != entry;
+    }
+
+    private void evict() {
+        while (entries.size() > maximumSize) {
+            Entry<K, V> entry = clock.poll();
+            if (entry == null) {
+                return;
+            }
+            if (isStale(entry)) {
+                // Already invalidated.
+                continue;
+            }
+            if (entry.accessed && !entry.cached.isExpired()) {
+                // Second chance.
+                entry.accessed = false;
+                clock.offer(entry);
+                continue;
+            }
+            if (entries.remove(entry.key, entry)) {
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    private static final class Entry<K, V> {
+        private final K key;
+        private final UniCacheWithExpiry<V> cached;
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong loads = new AtomicLong();
+        private volatile boolean accessed;
+
+        Entry(DefaultUniMemoizer<K, V> parent, K key) {
+            this.key = key;
+            // Avoid evicting the entry being created.
+            this.accessed = true;
+            Uni<V> load = Uni.createFrom().deferred(() -> {
+                loads.incrementAndGet();
+                parent.loads.incrementAndGet();
+                return parent.loader.apply(key);
+            });
+            // Failures are not cached.
+            this.cached = new UniCacheWithExpiry<>(load, parent.ttl, Duration.ZERO);
+        }
+    }
+}
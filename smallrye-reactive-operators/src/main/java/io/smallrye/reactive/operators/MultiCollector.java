@@ -2,9 +2,11 @@ package io.smallrye.reactive.operators;
 
 import io.reactivex.Flowable;
 import io.reactivex.flowables.GroupedFlowable;
+import io.reactivex.schedulers.Schedulers;
 import io.smallrye.reactive.GroupedMulti;
 import io.smallrye.reactive.Multi;
 import io.smallrye.reactive.Uni;
+import io.smallrye.reactive.infrastructure.Infrastructure;
 import io.smallrye.reactive.operators.flowable.FlowableCollector;
 
 import java.time.Duration;
@@ -85,7 +87,10 @@ public class MultiCollector {
     }
 
     public static <T> Multi<List<T>> list(Multi<T> upstream, Duration timeWindow) {
-        return Multi.createFrom().publisher(getFlowable(upstream).buffer(timeWindow.toMillis(), TimeUnit.MILLISECONDS));
+        // Deferred, so the timer is resolved at subscription time
+        return Multi.createFrom().publisher(Flowable.defer(() -> getFlowable(upstream)
+                .buffer(timeWindow.toMillis(), TimeUnit.MILLISECONDS,
+                        Schedulers.from(Infrastructure.getDefaultTimer()))));
     }
 
     public static <T> Multi<List<T>> list(Multi<T> upstream, int size) {
@@ -97,10 +102,12 @@ public class MultiCollector {
     }
 
     public static <T> Multi<Multi<T>> multi(Multi<T> upstream, Duration timeWindow) {
-        return Multi.createFrom().publisher(getFlowable(upstream)
-                .window(timeWindow.toMillis(), TimeUnit.MILLISECONDS)
+        // Deferred, so the timer is resolved at subscription time
+        return Multi.createFrom().publisher(Flowable.defer(() -> getFlowable(upstream)
+                .window(timeWindow.toMillis(), TimeUnit.MILLISECONDS,
+                        Schedulers.from(Infrastructure.getDefaultTimer()))
                 .map(f -> Multi.createFrom().publisher(f))
-        );
+        ));
     }
 
     public static <T> Multi<Multi<T>> multi(Multi<T> upstream, int size) {
@@ -0,0 +1,407 @@
+package io.smallrye.reactive.operators;
+
+import io.smallrye.reactive.Multi;
+import io.smallrye.reactive.helpers.ParameterValidation;
+import io.smallrye.reactive.helpers.Subscriptions;
+import io.smallrye.reactive.helpers.queues.Queues;
+import io.smallrye.reactive.subscription.BackPressureFailure;
+import io.smallrye.reactive.subscription.QueueSubscription;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+import static io.smallrye.reactive.helpers.ParameterValidation.positive;
+
+/**
+ * Maps each item from the upstream to a {@link Publisher} and concatenates the items emitted by these publishers,
+ * preserving the upstream order.
+ * <p>
+ * Unlike a sequential concatenation, up to {@code concurrency} inner publishers are subscribed eagerly. Each inner
+ * publisher is requested {@code prefetch} items upfront, stored in a per-inner queue until the previous inner
+ * publishers have completed. If an inner publisher supports {@link QueueSubscription fusion}, its subscription is
+ * used as queue directly.
+ *
+ * @param <I> the type of item received from the upstream
+ * @param <O> the type of item emitted downstream
+ */
+public class MultiConcatMapEager<I, O> extends AbstractMultiOperator<I, O> {
+    private final Function<? super I, ? extends Publisher<? extends O>> mapper;
+    private final int concurrency;
+    private final int prefetch;
+    private final boolean delayFailurePropagation;
+
+    public MultiConcatMapEager(Multi<I> upstream, Function<? super I, ? extends Publisher<? extends O>> mapper,
+            int concurrency, int prefetch, boolean delayFailure) {
+        super(nonNull(upstream, "upstream"));
+        this.mapper = nonNull(mapper, "mapper");
+        this.concurrency = positive(concurrency, "concurrency");
+        this.prefetch = positive(prefetch, "prefetch");
+        this.delayFailurePropagation = delayFailure;
+    }
+
+    @Override
+    protected void subscribing(Subscriber<? super O> downstream) {
+        subscribeToUpstream(new ConcatMapEagerMainSubscriber<>(downstream, mapper, delayFailurePropagation,
+                concurrency, prefetch));
+    }
+
+    static final class ConcatMapEagerMainSubscriber<I, O> implements Subscriber<I>, Subscription {
+
+        private final Subscriber<? super O> downstream;
+        private final Function<? super I, ? extends Publisher<? extends O>> mapper;
+        private final boolean delayError;
+        private final int maxConcurrency;
+        private final int prefetch;
+
+        private final AtomicReference<Subscription> upstream = new AtomicReference<>();
+        private final AtomicReference<Throwable> failures = new AtomicReference<>();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final Queue<ConcatMapEagerInner<O>> inners = Queues.unbounded();
+
+        private volatile boolean done;
+        private volatile boolean cancelled;
+
+        // Only accessed from the drain loop
+        private ConcatMapEagerInner<O> current;
+
+        ConcatMapEagerMainSubscriber(Subscriber<? super O> downstream,
+                Function<? super I, ? extends Publisher<? extends O>> mapper,
+                boolean delayError, int concurrency, int prefetch) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+            this.delayError = delayError;
+            this.maxConcurrency = concurrency;
+            this.prefetch = prefetch;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (Subscriptions.setIfEmpty(upstream, subscription)) {
+                downstream.onSubscribe(this);
+                subscription.request(maxConcurrency == Integer.MAX_VALUE ? Long.MAX_VALUE : maxConcurrency);
+            }
+        }
+
+        @Override
+        public void onNext(I item) {
+            if (done) {
+                return;
+            }
+
+            Publisher<? extends O> publisher;
+            try {
+                publisher = mapper.apply(item);
+                if (publisher == null) {
+                    throw new NullPointerException(ParameterValidation.MAPPER_RETURNED_NULL);
+                }
+            } catch (Throwable e) {
+                Subscriptions.cancel(upstream);
+                onError(e);
+                return;
+            }
+
+            ConcatMapEagerInner<O> inner = new ConcatMapEagerInner<>(this, prefetch);
+            if (cancelled) {
+                return;
+            }
+            inners.offer(inner);
+            AbstractMulti.subscribeDirectly(publisher, inner);
+            if (cancelled) {
+                inner.cancel();
+                drain();
+            }
+        }
+
+        @Override
+        public void onError(Throwable failure) {
+            if (done) {
+                return;
+            }
+            if (Subscriptions.addFailure(failures, failure)) {
+                done = true;
+                drain();
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                Subscriptions.cancel(upstream);
+                onError(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            Subscriptions.add(requested, n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                Subscriptions.cancel(upstream);
+                drain();
+            }
+        }
+
+        void innerError(ConcatMapEagerInner<O> inner, Throwable failure) {
+            if (Subscriptions.addFailure(failures, failure)) {
+                inner.done = true;
+                if (!delayError) {
+                    Subscriptions.cancel(upstream);
+                }
+                drain();
+            }
+        }
+
+        void drain() {
+            if (wip.getAndIncrement() == 0) {
+                drainLoop();
+            }
+        }
+
+        private void cancelAll() {
+            ConcatMapEagerInner<O> inner = current;
+            current = null;
+            if (inner != null) {
+                inner.cancelAndClear();
+            }
+            while ((inner = inners.poll()) != null) {
+                inner.cancelAndClear();
+            }
+        }
+
+        private boolean checkTerminated() {
+            if (cancelled) {
+                cancelAll();
+                return true;
+            }
+            if (!delayError && failures.get() != null) {
+                cancelled = true;
+                Subscriptions.cancel(upstream);
+                cancelAll();
+                Throwable failure = Subscriptions.terminate(failures);
+                if (failure != Subscriptions.TERMINATED) {
+                    downstream.onError(failure);
+                }
+                return true;
+            }
+            return false;
+        }
+
+        private void next() {
+            current = null;
+            if (!done) {
+                upstream.get().request(1);
+            }
+        }
+
+        private void drainLoop() {
+            int missed = 1;
+            for (; ; ) {
+                if (checkTerminated()) {
+                    return;
+                }
+
+                ConcatMapEagerInner<O> inner = current;
+                if (inner == null) {
+                    boolean isDone = done;
+                    inner = inners.poll();
+                    if (isDone && inner == null) {
+                        Throwable failure = Subscriptions.terminate(failures);
+                        if (failure == null) {
+                            downstream.onComplete();
+                        } else if (failure != Subscriptions.TERMINATED) {
+                            downstream.onError(failure);
+                        }
+                        return;
+                    }
+                    current = inner;
+                }
+
+                if (inner != null) {
+                    boolean moveToNext = false;
+                    Queue<O> queue = inner.queue;
+                    if (queue == null) {
+                        // Not subscribed yet, unless it failed before
+                        moveToNext = inner.done;
+                    } else {
+                        long r = requested.get();
+                        long emitted = 0L;
+                        while (emitted != r) {
+                            if (checkTerminated()) {
+                                return;
+                            }
+                            boolean isDone = inner.done;
+                            O item;
+                            try {
+                                item = queue.poll();
+                            } catch (Throwable e) {
+                                // Only fused queues can throw, handle the failure like a failure from the inner stream
+                                inner.cancel();
+                                Subscriptions.addFailure(failures, e);
+                                if (!delayError) {
+                                    Subscriptions.cancel(upstream);
+                                }
+                                moveToNext = true;
+                                break;
+                            }
+                            if (item == null) {
+                                moveToNext = isDone;
+                                break;
+                            }
+                            downstream.onNext(item);
+                            emitted++;
+                            inner.requestOne();
+                        }
+
+                        if (emitted == r && !moveToNext) {
+                            if (checkTerminated()) {
+                                return;
+                            }
+                            moveToNext = inner.done && isEmpty(inner, queue);
+                        }
+
+                        if (emitted != 0L && r != Long.MAX_VALUE) {
+                            requested.addAndGet(-emitted);
+                        }
+                    }
+
+                    if (moveToNext) {
+                        next();
+                        continue;
+                    }
+                }
+
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private boolean isEmpty(ConcatMapEagerInner<O> inner, Queue<O> queue) {
+            try {
+                return queue.isEmpty();
+            } catch (Throwable e) {
+                inner.cancel();
+                Subscriptions.addFailure(failures, e);
+                return true;
+            }
+        }
+    }
+
+    static final class ConcatMapEagerInner<O> implements Subscriber<O> {
+
+        private final ConcatMapEagerMainSubscriber<?, O> parent;
+        private final int prefetch;
+        private final int limit;
+        private final AtomicReference<Subscription> subscription = new AtomicReference<>();
+
+        volatile Queue<O> queue;
+        volatile boolean done;
+
+        private int sourceMode;
+
+        // Only accessed from the parent drain loop
+        private long produced;
+
+        ConcatMapEagerInner(ConcatMapEagerMainSubscriber<?, O> parent, int prefetch) {
+            this.parent = parent;
+            this.prefetch = prefetch;
+            this.limit = prefetch == Integer.MAX_VALUE ? Integer.MAX_VALUE : prefetch - (prefetch >> 2);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (Subscriptions.setIfEmpty(subscription, s)) {
+                if (s instanceof QueueSubscription) {
+                    QueueSubscription<O> qs = (QueueSubscription<O>) s;
+                    int mode = qs.requestFusion(QueueSubscription.ANY);
+                    if (mode == QueueSubscription.SYNC) {
+                        sourceMode = mode;
+                        done = true;
+                        queue = qs;
+                        parent.drain();
+                        return;
+                    }
+                    if (mode == QueueSubscription.ASYNC) {
+                        sourceMode = mode;
+                        queue = qs;
+                        s.request(prefetch == Integer.MAX_VALUE ? Long.MAX_VALUE : prefetch);
+                        return;
+                    }
+                }
+                queue = Queues.get(prefetch);
+                s.request(prefetch == Integer.MAX_VALUE ? Long.MAX_VALUE : prefetch);
+            }
+        }
+
+        @Override
+        public void onNext(O item) {
+            if (sourceMode == QueueSubscription.NONE && !queue.offer(item)) {
+                cancel();
+                parent.innerError(this, new BackPressureFailure("Unable to store the item, the inner queue is full"));
+                return;
+            }
+            parent.drain();
+        }
+
+        @Override
+        public void onError(Throwable failure) {
+            if (!done) {
+                parent.innerError(this, failure);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!done) {
+                done = true;
+                parent.drain();
+            }
+        }
+
+        void requestOne() {
+            if (sourceMode == QueueSubscription.SYNC || limit == Integer.MAX_VALUE) {
+                return;
+            }
+            long p = produced + 1;
+            if (p == limit) {
+                produced = 0L;
+                subscription.get().request(p);
+            } else {
+                produced = p;
+            }
+        }
+
+        void cancel() {
+            Subscriptions.cancel(subscription);
+        }
+
+        void cancelAndClear() {
+            cancel();
+            Queue<O> q = queue;
+            if (q != null) {
+                q.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package io.smallrye.reactive.operators;
+
+import io.reactivex.Flowable;
+import io.smallrye.reactive.helpers.Subscriptions;
+import io.smallrye.reactive.subscription.QueueSubscription;
+import org.reactivestreams.Subscriber;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+
+/**
+ * Emits the items from an array, according to the subscriber requests.
+ * <p>
+ * The produced subscription supports {@link QueueSubscription#SYNC synchronous} fusion.
+ *
+ * @param <T> the type of item
+ */
+public class MultiCreateFromArray<T> extends AbstractMulti<T> {
+
+    static final String NULL_ITEM = "The array contained a `null` value";
+
+    private final T[] array;
+
+    public MultiCreateFromArray(T[] array) {
+        this.array = nonNull(array, "array");
+    }
+
+    @Override
+    protected Flowable<T> flowable() {
+        return Flowable.fromPublisher(this);
+    }
+
+    @Override
+    protected void subscribing(Subscriber<? super T> downstream) {
+        if (array.length == 0) {
+            Subscriptions.complete(downstream);
+            return;
+        }
+        downstream.onSubscribe(new ArraySubscription<>(downstream, array));
+    }
+
+    static final class ArraySubscription<T> implements QueueSubscription<T> {
+
+        private final Subscriber<? super T> downstream;
+        private final T[] array;
+        private final AtomicLong requested = new AtomicLong();
+
+        private volatile boolean cancelled;
+
+        // Only accessed by the thread emitting the items (or polling them in fused mode)
+        private int index;
+
+        ArraySubscription(Subscriber<? super T> downstream, T[] array) {
+            this.downstream = downstream;
+            this.array = array;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                downstream.onError(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            if (Subscriptions.add(requested, n) == 0L) {
+                emit(n);
+            }
+        }
+
+        private void emit(long r) {
+            T[] items = array;
+            int length = items.length;
+            int i = index;
+            long emitted = 0L;
+
+            for (; ; ) {
+                while (emitted != r && i != length) {
+                    if (cancelled) {
+                        return;
+                    }
+                    T item = items[i];
+                    if (item == null) {
+                        cancelled = true;
+                        downstream.onError(new IllegalArgumentException(NULL_ITEM));
+                        return;
+                    }
+                    downstream.onNext(item);
+                    emitted++;
+                    i++;
+                }
+
+                if (i == length) {
+                    if (!cancelled) {
+                        downstream.onComplete();
+                    }
+                    return;
+                }
+
+                r = requested.get();
+                if (emitted == r) {
+                    index = i;
+                    r = requested.addAndGet(-emitted);
+                    if (r == 0L) {
+                        return;
+                    }
+                    emitted = 0L;
+                }
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public int requestFusion(int mode) {
+            if ((mode & SYNC) != 0) {
+                return SYNC;
+            }
+            return NONE;
+        }
+
+        @Override
+        public T poll() {
+            int i = index;
+            if (i == array.length) {
+                return null;
+            }
+            T item = array[i];
+            if (item == null) {
+                throw new IllegalArgumentException(NULL_ITEM);
+            }
+            index = i + 1;
+            return item;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return index == array.length;
+        }
+
+        @Override
+        public void clear() {
+            index = array.length;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package io.smallrye.reactive.operators;
+
+import io.reactivex.Flowable;
+import io.smallrye.reactive.helpers.Subscriptions;
+import io.smallrye.reactive.subscription.QueueSubscription;
+import org.reactivestreams.Subscriber;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+
+/**
+ * Emits the items from an {@link Iterable}. A new {@link Iterator} is created for each subscriber, and is only
+ * advanced when the subscriber requests items.
+ * <p>
+ * The produced subscription supports {@link QueueSubscription#SYNC synchronous} fusion, letting the subscriber
+ * pull the items directly from the iterator.
+ *
+ * @param <T> the type of item
+ */
+public class MultiCreateFromIterable<T> extends AbstractMulti<T> {
+
+    static final String NULL_ITEM = "The iterable contained a `null` value";
+
+    private final Iterable<? extends T> iterable;
+
+    public MultiCreateFromIterable(Iterable<? extends T> iterable) {
+        this.iterable = nonNull(iterable, "iterable");
+    }
+
+    @Override
+    protected Flowable<T> flowable() {
+        return Flowable.fromPublisher(this);
+    }
+
+    @Override
+    protected void subscribing(Subscriber<? super T> downstream) {
+        Iterator<? extends T> iterator;
+        try {
+            iterator = iterable.iterator();
+        } catch (Throwable e) {
+            Subscriptions.fail(downstream, e);
+            return;
+        }
+        subscribe(downstream, iterator);
+    }
+
+    /**
+     * Subscribes the given subscriber to a source emitting the items from the given iterator.
+     * The iterator is only advanced when the subscriber requests items.
+     *
+     * @param downstream the subscriber
+     * @param iterator   the iterator, must not be {@code null}
+     * @param <T>        the type of item
+     */
+    static <T> void subscribe(Subscriber<? super T> downstream, Iterator<? extends T> iterator) {
+        boolean hasNext;
+        try {
+            hasNext = iterator.hasNext();
+        } catch (Throwable e) {
+            Subscriptions.fail(downstream, e);
+            return;
+        }
+
+        if (!hasNext) {
+            Subscriptions.complete(downstream);
+            return;
+        }
+
+        downstream.onSubscribe(new IterableSubscription<>(downstream, iterator));
+    }
+
+    static final class IterableSubscription<T> implements QueueSubscription<T> {
+
+        private final Subscriber<? super T> downstream;
+        private final Iterator<? extends T> iterator;
+        private final AtomicLong requested = new AtomicLong();
+
+        private volatile boolean cancelled;
+
+        // Only used in fused mode, where the subscriber is the only one accessing the iterator
+        private boolean exhausted;
+
+        IterableSubscription(Subscriber<? super T> downstream, Iterator<? extends T> iterator) {
+            this.downstream = downstream;
+            this.iterator = iterator;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                downstream.onError(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            if (Subscriptions.add(requested, n) == 0L) {
+                emit(n);
+            }
+        }
+
+        private void emit(long r) {
+            long emitted = 0L;
+            for (; ; ) {
+                while (emitted != r) {
+                    if (cancelled) {
+                        return;
+                    }
+
+                    T item;
+                    try {
+                        item = iterator.next();
+                    } catch (Throwable e) {
+                        downstream.onError(e);
+                        return;
+                    }
+
+                    if (cancelled) {
+                        return;
+                    }
+
+                    if (item == null) {
+                        cancelled = true;
+                        downstream.onError(new IllegalArgumentException(NULL_ITEM));
+                        return;
+                    }
+
+                    downstream.onNext(item);
+
+                    if (cancelled) {
+                        return;
+                    }
+
+                    boolean hasNext;
+                    try {
+                        hasNext = iterator.hasNext();
+                    } catch (Throwable e) {
+                        downstream.onError(e);
+                        return;
+                    }
+
+                    if (!hasNext) {
+                        if (!cancelled) {
+                            downstream.onComplete();
+                        }
+                        return;
+                    }
+
+                    emitted++;
+                }
+
+                r = requested.get();
+                if (emitted == r) {
+                    r = requested.addAndGet(-emitted);
+                    if (r == 0L) {
+                        return;
+                    }
+                    emitted = 0L;
+                }
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public int requestFusion(int mode) {
+            if ((mode & SYNC) != 0) {
+                return SYNC;
+            }
+            return NONE;
+        }
+
+        @Override
+        public T poll() {
+            if (exhausted) {
+                return null;
+            }
+            if (!iterator.hasNext()) {
+                exhausted = true;
+                return null;
+            }
+            T item = iterator.next();
+            if (item == null) {
+                throw new IllegalArgumentException(NULL_ITEM);
+            }
+            return item;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return exhausted || !iterator.hasNext();
+        }
+
+        @Override
+        public void clear() {
+            exhausted = true;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package io.smallrye.reactive.operators;
+
+import io.reactivex.Flowable;
+import io.smallrye.reactive.helpers.Subscriptions;
+import io.smallrye.reactive.subscription.QueueSubscription;
+import org.reactivestreams.Subscriber;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Emits the integers from {@code start} (inclusive) to {@code end} (exclusive), according to the subscriber
+ * requests. The integers are produced by a counting loop, no iterator or intermediate stream is created.
+ * <p>
+ * The produced subscription supports {@link QueueSubscription#SYNC synchronous} fusion.
+ */
+public class MultiCreateFromRange extends AbstractMulti<Integer> {
+
+    private final int start;
+    private final int end;
+
+    public MultiCreateFromRange(int start, int end) {
+        if (end <= start) {
+            throw new IllegalArgumentException("end must be greater than start");
+        }
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    protected Flowable<Integer> flowable() {
+        return Flowable.fromPublisher(this);
+    }
+
+    @Override
+    protected void subscribing(Subscriber<? super Integer> downstream) {
+        downstream.onSubscribe(new RangeSubscription(downstream, start, end));
+    }
+
+    static final class RangeSubscription implements QueueSubscription<Integer> {
+
+        private final Subscriber<? super Integer> downstream;
+        private final int end;
+        private final AtomicLong requested = new AtomicLong();
+
+        private volatile boolean cancelled;
+
+        // Only accessed by the thread emitting the items (or polling them in fused mode)
+        private int index;
+
+        RangeSubscription(Subscriber<? super Integer> downstream, int start, int end) {
+            this.downstream = downstream;
+            this.index = start;
+            this.end = end;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                downstream.onError(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            if (Subscriptions.add(requested, n) == 0L) {
+                if (n == Long.MAX_VALUE) {
+                    emitAll();
+                } else {
+                    emit(n);
+                }
+            }
+        }
+
+        private void emitAll() {
+            int e = end;
+            for (int i = index; i != e; i++) {
+                if (cancelled) {
+                    return;
+                }
+                downstream.onNext(i);
+            }
+            if (!cancelled) {
+                downstream.onComplete();
+            }
+        }
+
+        private void emit(long r) {
+            int e = end;
+            int i = index;
+            long emitted = 0L;
+
+            for (; ; ) {
+                while (emitted != r && i != e) {
+                    if (cancelled) {
+                        return;
+                    }
+                    downstream.onNext(i);
+                    emitted++;
+                    i++;
+                }
+
+                if (i == e) {
+                    if (!cancelled) {
+                        downstream.onComplete();
+                    }
+                    return;
+                }
+
+                r = requested.get();
+                if (emitted == r) {
+                    index = i;
+                    r = requested.addAndGet(-emitted);
+                    if (r == 0L) {
+                        return;
+                    }
+                    emitted = 0L;
+                }
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public int requestFusion(int mode) {
+            if ((mode & SYNC) != 0) {
+                return SYNC;
+            }
+            return NONE;
+        }
+
+        @Override
+        public Integer poll() {
+            int i = index;
+            if (i == end) {
+                return null;
+            }
+            index = i + 1;
+            return i;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return index == end;
+        }
+
+        @Override
+        public void clear() {
+            index = end;
+        }
+    }
+}
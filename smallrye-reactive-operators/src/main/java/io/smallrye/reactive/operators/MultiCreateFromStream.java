@@ -0,0 +1,51 @@
+package io.smallrye.reactive.operators;
+
+import io.reactivex.Flowable;
+import io.smallrye.reactive.helpers.Subscriptions;
+import org.reactivestreams.Subscriber;
+
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.SUPPLIER_PRODUCED_NULL;
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+
+/**
+ * Emits the items from a {@link Stream} produced by a supplier for each subscriber.
+ * <p>
+ * The stream is consumed sequentially, using its {@link Stream#iterator() iterator}, and is only advanced when the
+ * subscriber requests items. So, the items are not materialized upfront.
+ *
+ * @param <T> the type of item
+ */
+public class MultiCreateFromStream<T> extends AbstractMulti<T> {
+
+    private final Supplier<? extends Stream<? extends T>> supplier;
+
+    public MultiCreateFromStream(Supplier<? extends Stream<? extends T>> supplier) {
+        this.supplier = nonNull(supplier, "supplier");
+    }
+
+    @Override
+    protected Flowable<T> flowable() {
+        return Flowable.fromPublisher(this);
+    }
+
+    @Override
+    protected void subscribing(Subscriber<? super T> downstream) {
+        Iterator<? extends T> iterator;
+        try {
+            Stream<? extends T> stream = supplier.get();
+            if (stream == null) {
+                Subscriptions.fail(downstream, new NullPointerException(SUPPLIER_PRODUCED_NULL));
+                return;
+            }
+            iterator = stream.sequential().iterator();
+        } catch (Throwable e) {
+            Subscriptions.fail(downstream, e);
+            return;
+        }
+        MultiCreateFromIterable.subscribe(downstream, iterator);
+    }
+}
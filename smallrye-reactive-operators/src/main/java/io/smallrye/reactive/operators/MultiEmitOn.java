@@ -0,0 +1,426 @@
+package io.smallrye.reactive.operators;
+
+import io.smallrye.reactive.Multi;
+import io.smallrye.reactive.helpers.Subscriptions;
+import io.smallrye.reactive.helpers.queues.Queues;
+import io.smallrye.reactive.subscription.BackPressureFailure;
+import io.smallrye.reactive.subscription.QueueSubscription;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+import static io.smallrye.reactive.helpers.ParameterValidation.positive;
+
+/**
+ * Emits the events from the upstream on the given {@link Executor}.
+ * <p>
+ * Up to {@code prefetch} items are requested from the upstream and stored in a queue drained from the executor.
+ * If the upstream supports {@link QueueSubscription fusion}, the upstream subscription is used as queue directly.
+ * This operator also offers {@link QueueSubscription#ASYNC asynchronous} fusion to its downstream.
+ * <p>
+ * Each executor task drains as many items as possible. If an item or terminal event is emitted downstream by an
+ * {@code emitOn} stage for the same executor, for example when two of these stages are chained, the drain loop runs
+ * in place instead of submitting a new task. Requests always submit a task, and the upstream is requested outside of
+ * the marker, so stages sharing an upstream (such as the rails of a parallel {@link Multi}) keep running on their own
+ * tasks.
+ *
+ * @param <T> the type of item
+ */
+public class MultiEmitOn<T> extends AbstractMultiOperator<T, T> {
+
+    /**
+     * The executor for which the current thread is emitting items downstream from a drain loop, {@code null} if none.
+     */
+    private static final ThreadLocal<Executor> DRAINING_ON = new ThreadLocal<>();
+
+    private final Executor executor;
+    private final int prefetch;
+
+    public MultiEmitOn(Multi<T> upstream, Executor executor, int prefetch) {
+        super(nonNull(upstream, "upstream"));
+        this.executor = nonNull(executor, "executor");
+        this.prefetch = positive(prefetch, "prefetch");
+    }
+
+    @Override
+    protected void subscribing(Subscriber<? super T> downstream) {
+        subscribeToUpstream(new EmitOnProcessor<>(downstream, executor, prefetch));
+    }
+
+    static final class EmitOnProcessor<T> implements Subscriber<T>, QueueSubscription<T>, Runnable {
+
+        private final Subscriber<? super T> downstream;
+        private final Executor executor;
+        private final int prefetch;
+        private final int limit;
+
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+
+        private Subscription upstream;
+        private Queue<T> queue;
+        private int sourceMode;
+        private boolean outputFused;
+
+        private volatile boolean done;
+        private volatile boolean cancelled;
+        private Throwable failure;
+
+        // Only accessed from the drain loop (or the fused consumer)
+        private long produced;
+
+        EmitOnProcessor(Subscriber<? super T> downstream, Executor executor, int prefetch) {
+            this.downstream = downstream;
+            this.executor = executor;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (upstream != null) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+
+            if (subscription instanceof QueueSubscription) {
+                QueueSubscription<T> qs = (QueueSubscription<T>) subscription;
+                int mode = qs.requestFusion(ANY);
+                if (mode == SYNC) {
+                    sourceMode = SYNC;
+                    queue = qs;
+                    done = true;
+                    downstream.onSubscribe(this);
+                    return;
+                }
+                if (mode == ASYNC) {
+                    sourceMode = ASYNC;
+                    queue = qs;
+                    downstream.onSubscribe(this);
+                    subscription.request(prefetch);
+                    return;
+                }
+            }
+
+            queue = Queues.get(prefetch);
+            downstream.onSubscribe(this);
+            subscription.request(prefetch);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (sourceMode == ASYNC) {
+                schedule(true);
+                return;
+            }
+            if (done) {
+                return;
+            }
+            if (!queue.offer(item)) {
+                upstream.cancel();
+                failure = new BackPressureFailure("Unable to store the item, the queue is full");
+                done = true;
+            }
+            schedule(true);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (done) {
+                return;
+            }
+            failure = throwable;
+            done = true;
+            schedule(true);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            schedule(true);
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                downstream.onError(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            Subscriptions.add(requested, n);
+            schedule(false);
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            upstream.cancel();
+            if (!outputFused && wip.getAndIncrement() == 0) {
+                queue.clear();
+            }
+        }
+
+        /**
+         * @param fromUpstream whether the signal comes from the upstream, in this case, the drain loop runs in place
+         *                     if the upstream emitted it from a drain loop on the same executor
+         */
+        private void schedule(boolean fromUpstream) {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            if (fromUpstream && DRAINING_ON.get() == executor) {
+                // Already on the target executor, no need to hop
+                run();
+                return;
+            }
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException rejected) {
+                if (!cancelled) {
+                    cancelled = true;
+                    upstream.cancel();
+                    if (!outputFused) {
+                        queue.clear();
+                    }
+                    downstream.onError(rejected);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            Executor previous = DRAINING_ON.get();
+            DRAINING_ON.set(executor);
+            try {
+                if (outputFused) {
+                    runBackFused();
+                } else if (sourceMode == SYNC) {
+                    runSync();
+                } else {
+                    runAsync();
+                }
+            } finally {
+                if (previous == null) {
+                    DRAINING_ON.remove();
+                } else {
+                    DRAINING_ON.set(previous);
+                }
+            }
+        }
+
+        private void runBackFused() {
+            int missed = 1;
+            for (; ; ) {
+                if (cancelled) {
+                    return;
+                }
+                boolean isDone = done;
+                downstream.onNext(null);
+                if (isDone) {
+                    Throwable f = failure;
+                    if (f != null) {
+                        downstream.onError(f);
+                    } else {
+                        downstream.onComplete();
+                    }
+                    return;
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private void runSync() {
+            int missed = 1;
+            long emitted = produced;
+            for (; ; ) {
+                long r = requested.get();
+                while (emitted != r) {
+                    T item;
+                    try {
+                        item = queue.poll();
+                    } catch (Throwable e) {
+                        upstream.cancel();
+                        downstream.onError(e);
+                        return;
+                    }
+                    if (cancelled) {
+                        return;
+                    }
+                    if (item == null) {
+                        downstream.onComplete();
+                        return;
+                    }
+                    downstream.onNext(item);
+                    emitted++;
+                }
+
+                if (cancelled) {
+                    return;
+                }
+
+                boolean empty;
+                try {
+                    empty = queue.isEmpty();
+                } catch (Throwable e) {
+                    upstream.cancel();
+                    downstream.onError(e);
+                    return;
+                }
+                if (empty) {
+                    downstream.onComplete();
+                    return;
+                }
+
+                int w = wip.get();
+                if (missed == w) {
+                    produced = emitted;
+                    missed = wip.addAndGet(-missed);
+                    if (missed == 0) {
+                        break;
+                    }
+                } else {
+                    missed = w;
+                }
+            }
+        }
+
+        private void runAsync() {
+            int missed = 1;
+            long emitted = produced;
+            for (; ; ) {
+                long r = requested.get();
+                while (emitted != r) {
+                    boolean isDone = done;
+                    T item;
+                    try {
+                        item = queue.poll();
+                    } catch (Throwable e) {
+                        upstream.cancel();
+                        queue.clear();
+                        downstream.onError(e);
+                        return;
+                    }
+                    boolean empty = item == null;
+                    if (checkTerminated(isDone, empty)) {
+                        return;
+                    }
+                    if (empty) {
+                        break;
+                    }
+                    downstream.onNext(item);
+                    emitted++;
+                    if (emitted == limit) {
+                        if (r != Long.MAX_VALUE) {
+                            r = requested.addAndGet(-emitted);
+                        }
+                        requestUpstream(emitted);
+                        emitted = 0L;
+                    }
+                }
+
+                if (emitted == r && checkTerminated(done, queue.isEmpty())) {
+                    return;
+                }
+
+                int w = wip.get();
+                if (missed == w) {
+                    produced = emitted;
+                    missed = wip.addAndGet(-missed);
+                    if (missed == 0) {
+                        break;
+                    }
+                } else {
+                    missed = w;
+                }
+            }
+        }
+
+        /**
+         * Requests the upstream without the marker, so the items emitted in reaction to the request, possibly to
+         * other subscribers of the upstream, are not drained in place on the current thread.
+         */
+        private void requestUpstream(long n) {
+            Executor current = DRAINING_ON.get();
+            if (current == null) {
+                upstream.request(n);
+                return;
+            }
+            DRAINING_ON.remove();
+            try {
+                upstream.request(n);
+            } finally {
+                DRAINING_ON.set(current);
+            }
+        }
+
+        private boolean checkTerminated(boolean isDone, boolean empty) {
+            if (cancelled) {
+                queue.clear();
+                return true;
+            }
+            if (isDone) {
+                Throwable f = failure;
+                if (f != null) {
+                    queue.clear();
+                    downstream.onError(f);
+                    return true;
+                } else if (empty) {
+                    downstream.onComplete();
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public int requestFusion(int mode) {
+            if ((mode & ASYNC) != 0) {
+                outputFused = true;
+                return ASYNC;
+            }
+            return NONE;
+        }
+
+        @Override
+        public T poll() {
+            T item = queue.poll();
+            if (item != null && sourceMode != SYNC) {
+                long p = produced + 1;
+                if (p == limit) {
+                    produced = 0L;
+                    requestUpstream(p);
+                } else {
+                    produced = p;
+                }
+            }
+            return item;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return queue.isEmpty();
+        }
+
+        @Override
+        public void clear() {
+            queue.clear();
+        }
+    }
+}
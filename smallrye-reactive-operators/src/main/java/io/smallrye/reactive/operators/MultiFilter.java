@@ -1,20 +1,59 @@
 package io.smallrye.reactive.operators;
 
-import io.reactivex.Flowable;
 import io.smallrye.reactive.Multi;
+import org.reactivestreams.Subscriber;
 
 import java.util.function.Predicate;
 
-public class MultiFilter<T> extends MultiOperator<T, T> {
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+
+public class MultiFilter<T> extends MultiFusableOperator<T, T> {
     private final Predicate<? super T> predicate;
 
     public MultiFilter(Multi<T> upstream, Predicate<? super T> predicate) {
-        super(upstream);
-        this.predicate = predicate;
+        super(nonNull(upstream, "upstream"));
+        this.predicate = nonNull(predicate, "predicate");
+    }
+
+    @Override
+    MultiFusedStages.Stage stage() {
+        return new MultiFusedStages.FilterStage(predicate);
     }
 
     @Override
-    protected Flowable<T> flowable() {
-        return upstreamAsFlowable().filter(predicate::test);
+    protected void subscribing(Subscriber<? super T> downstream) {
+        subscribeToUpstream(new FilterProcessor<>(downstream, predicate));
+    }
+
+    static final class FilterProcessor<T> extends MultiOperatorProcessor<T, T> {
+
+        private final Predicate<? super T> predicate;
+
+        FilterProcessor(Subscriber<? super T> downstream, Predicate<? super T> predicate) {
+            super(downstream);
+            this.predicate = predicate;
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (isDone()) {
+                return;
+            }
+
+            boolean passed;
+            try {
+                passed = predicate.test(item);
+            } catch (Throwable e) {
+                cancelAndFail(e);
+                return;
+            }
+
+            if (passed) {
+                downstream.onNext(item);
+            } else {
+                // The item has been dropped, compensate the request.
+                upstream.request(1);
+            }
+        }
     }
 }
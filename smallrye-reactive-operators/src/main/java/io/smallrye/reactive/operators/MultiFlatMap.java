@@ -1,20 +1,42 @@
 package io.smallrye.reactive.operators;
 
-import io.reactivex.Flowable;
 import io.smallrye.reactive.Multi;
+import io.smallrye.reactive.helpers.ParameterValidation;
+import io.smallrye.reactive.helpers.Subscriptions;
+import io.smallrye.reactive.helpers.queues.Queues;
+import io.smallrye.reactive.subscription.BackPressureFailure;
+import io.smallrye.reactive.subscription.QueueSubscription;
 import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
 import static io.smallrye.reactive.helpers.ParameterValidation.positive;
 
-public class MultiFlatMap<I, O> extends MultiOperator<I, O> {
+/**
+ * Maps each item from the upstream to a {@link Publisher} and merges the items emitted by these publishers.
+ * <p>
+ * At most {@code concurrency} inner publishers are subscribed concurrently. Each inner publisher is requested
+ * {@code prefetch} items upfront, and the items that cannot be emitted downstream (because of the downstream
+ * requests) are stored in a per-inner queue. If an inner publisher supports {@link QueueSubscription fusion}, its
+ * subscription is used as queue directly. When {@code preserveOrdering} is enabled, the concurrency must be 1, and
+ * the inner publishers are consumed one after the other. {@link MultiConcatMapEager} preserves the ordering with a
+ * higher concurrency.
+ *
+ * @param <I> the type of item received from the upstream
+ * @param <O> the type of item emitted downstream
+ */
+public class MultiFlatMap<I, O> extends AbstractMultiOperator<I, O> {
     private final Function<? super I, ? extends Publisher<? extends O>> mapper;
     private final int concurrency;
     private final int prefetch;
     private final boolean delayFailurePropagation;
-    private final boolean preserveOrdering;
 
     public MultiFlatMap(Multi<I> upstream, Function<? super I, ? extends Publisher<? extends O>> mapper,
             int concurrency,
@@ -24,7 +46,6 @@ public class MultiFlatMap<I, O> extends MultiOperator<I, O> {
         this.concurrency = positive(concurrency, "concurrency");
         this.prefetch = positive(requests, "requests");
         this.delayFailurePropagation = delayFailure;
-        this.preserveOrdering = preserveOrdering;
 
         if (preserveOrdering) {
             if (this.concurrency > 1) {
@@ -35,17 +56,450 @@ public class MultiFlatMap<I, O> extends MultiOperator<I, O> {
     }
 
     @Override
-    protected Flowable<O> flowable() {
-        Flowable<I> flowable = upstreamAsFlowable();
+    protected void subscribing(Subscriber<? super O> downstream) {
+        subscribeToUpstream(
+                new FlatMapMainSubscriber<>(downstream, mapper, delayFailurePropagation, concurrency, prefetch));
+    }
 
-        if (preserveOrdering) {
-            if (delayFailurePropagation) {
-                return flowable.flatMap(mapper::apply, true, 1, prefetch);
+    static final class FlatMapMainSubscriber<I, O> implements Subscriber<I>, Subscription {
+
+        @SuppressWarnings("rawtypes")
+        private static final FlatMapInner[] EMPTY = new FlatMapInner[0];
+
+        @SuppressWarnings("rawtypes")
+        private static final FlatMapInner[] TERMINATED = new FlatMapInner[0];
+
+        private final Subscriber<? super O> downstream;
+        private final Function<? super I, ? extends Publisher<? extends O>> mapper;
+        private final boolean delayError;
+        private final int maxConcurrency;
+        private final int prefetch;
+
+        private final AtomicReference<Subscription> upstream = new AtomicReference<>();
+        private final AtomicReference<Throwable> failures = new AtomicReference<>();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        @SuppressWarnings("unchecked")
+        private final AtomicReference<FlatMapInner<O>[]> inners = new AtomicReference<>(EMPTY);
+
+        private volatile boolean done;
+        private volatile boolean cancelled;
+
+        // Only accessed from the drain loop
+        private int lastIndex;
+
+        FlatMapMainSubscriber(Subscriber<? super O> downstream,
+                Function<? super I, ? extends Publisher<? extends O>> mapper,
+                boolean delayError, int concurrency, int prefetch) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+            this.delayError = delayError;
+            this.maxConcurrency = concurrency;
+            this.prefetch = prefetch;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (Subscriptions.setIfEmpty(upstream, subscription)) {
+                downstream.onSubscribe(this);
+                subscription.request(maxConcurrency == Integer.MAX_VALUE ? Long.MAX_VALUE : maxConcurrency);
+            }
+        }
+
+        @Override
+        public void onNext(I item) {
+            if (done) {
+                return;
+            }
+
+            Publisher<? extends O> publisher;
+            try {
+                publisher = mapper.apply(item);
+                if (publisher == null) {
+                    throw new NullPointerException(ParameterValidation.MAPPER_RETURNED_NULL);
+                }
+            } catch (Throwable e) {
+                Subscriptions.cancel(upstream);
+                onError(e);
+                return;
+            }
+
+            FlatMapInner<O> inner = new FlatMapInner<>(this, prefetch);
+            if (add(inner)) {
+                AbstractMulti.subscribeDirectly(publisher, inner);
+            }
+        }
+
+        @Override
+        public void onError(Throwable failure) {
+            if (done) {
+                return;
+            }
+            if (Subscriptions.addFailure(failures, failure)) {
+                done = true;
+                drain();
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                Subscriptions.cancel(upstream);
+                onError(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            Subscriptions.add(requested, n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                Subscriptions.cancel(upstream);
+                cancelInners();
+            }
+        }
+
+        private boolean add(FlatMapInner<O> inner) {
+            for (; ; ) {
+                FlatMapInner<O>[] current = inners.get();
+                if (current == TERMINATED) {
+                    return false;
+                }
+                int n = current.length;
+                @SuppressWarnings("unchecked")
+                FlatMapInner<O>[] update = new FlatMapInner[n + 1];
+                System.arraycopy(current, 0, update, 0, n);
+                update[n] = inner;
+                if (inners.compareAndSet(current, update)) {
+                    return true;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void remove(FlatMapInner<O> inner) {
+            for (; ; ) {
+                FlatMapInner<O>[] current = inners.get();
+                int n = current.length;
+                if (current == TERMINATED || n == 0) {
+                    return;
+                }
+                int index = -1;
+                for (int i = 0; i < n; i++) {
+                    if (current[i] == inner) {
+                        index = i;
+                        break;
+                    }
+                }
+                if (index < 0) {
+                    return;
+                }
+                FlatMapInner<O>[] update;
+                if (n == 1) {
+                    update = EMPTY;
+                } else {
+                    update = new FlatMapInner[n - 1];
+                    System.arraycopy(current, 0, update, 0, index);
+                    System.arraycopy(current, index + 1, update, index, n - index - 1);
+                }
+                if (inners.compareAndSet(current, update)) {
+                    return;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void cancelInners() {
+            FlatMapInner<O>[] current = inners.getAndSet(TERMINATED);
+            for (FlatMapInner<O> inner : current) {
+                inner.cancel();
+            }
+        }
+
+        void tryEmit(FlatMapInner<O> inner, O item) {
+            if (cancelled) {
+                return;
+            }
+            if (wip.get() == 0 && wip.compareAndSet(0, 1)) {
+                long r = requested.get();
+                Queue<O> queue = inner.queue;
+                if (r != 0L && (queue == null || queue.isEmpty())) {
+                    downstream.onNext(item);
+                    if (r != Long.MAX_VALUE) {
+                        requested.decrementAndGet();
+                    }
+                    inner.request(1);
+                } else {
+                    enqueue(inner, item);
+                }
+                if (wip.decrementAndGet() == 0) {
+                    return;
+                }
+                drainLoop();
+            } else {
+                enqueue(inner, item);
+                drain();
+            }
+        }
+
+        private void enqueue(FlatMapInner<O> inner, O item) {
+            Queue<O> queue = inner.queue;
+            if (queue == null) {
+                queue = Queues.get(prefetch);
+                inner.queue = queue;
+            }
+            if (!queue.offer(item)) {
+                inner.cancel();
+                innerError(inner, new BackPressureFailure("Unable to store the item, the inner queue is full"));
+            }
+        }
+
+        void innerError(FlatMapInner<O> inner, Throwable failure) {
+            if (Subscriptions.addFailure(failures, failure)) {
+                inner.done = true;
+                if (!delayError) {
+                    done = true;
+                }
+                drain();
+            }
+        }
+
+        void innerComplete() {
+            drain();
+        }
+
+        void drain() {
+            if (wip.getAndIncrement() == 0) {
+                drainLoop();
+            }
+        }
+
+        private void drainLoop() {
+            int missed = 1;
+            for (; ; ) {
+                if (checkTerminated()) {
+                    return;
+                }
+
+                boolean isDone = done;
+                FlatMapInner<O>[] current = inners.get();
+                int n = current.length;
+
+                if (isDone && n == 0) {
+                    Throwable failure = Subscriptions.terminate(failures);
+                    if (failure == null) {
+                        downstream.onComplete();
+                    } else if (failure != Subscriptions.TERMINATED) {
+                        downstream.onError(failure);
+                    }
+                    return;
+                }
+
+                long r = requested.get();
+                long emitted = 0L;
+                long removed = 0L;
+
+                if (n != 0) {
+                    int j = lastIndex;
+                    if (j >= n) {
+                        j = 0;
+                    }
+                    for (int i = 0; i < n; i++) {
+                        FlatMapInner<O> inner = current[j];
+                        Queue<O> queue = inner.queue;
+                        if (queue != null) {
+                            long fromInner = 0L;
+                            while (emitted != r) {
+                                if (checkTerminated()) {
+                                    return;
+                                }
+                                O item;
+                                try {
+                                    item = queue.poll();
+                                } catch (Throwable e) {
+                                    // Only fused queues can throw, discard the queue and handle the failure like a
+                                    // failure from the inner stream.
+                                    inner.cancel();
+                                    inner.queue = null;
+                                    innerError(inner, e);
+                                    break;
+                                }
+                                if (item == null) {
+                                    break;
+                                }
+                                downstream.onNext(item);
+                                emitted++;
+                                fromInner++;
+                            }
+                            if (fromInner != 0L) {
+                                inner.request(fromInner);
+                            }
+                        }
+
+                        if (checkTerminated()) {
+                            return;
+                        }
+
+                        if (inner.done && isEmpty(inner)) {
+                            remove(inner);
+                            removed++;
+                        }
+
+                        j++;
+                        if (j == n) {
+                            j = 0;
+                        }
+                    }
+                    lastIndex = j;
+                }
+
+                if (emitted != 0L && r != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+
+                if (removed != 0L) {
+                    if (!done) {
+                        upstream.get().request(removed);
+                    }
+                    continue;
+                }
+
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private boolean isEmpty(FlatMapInner<O> inner) {
+            Queue<O> queue = inner.queue;
+            if (queue == null) {
+                return true;
+            }
+            try {
+                return queue.isEmpty();
+            } catch (Throwable e) {
+                inner.cancel();
+                inner.queue = null;
+                Subscriptions.addFailure(failures, e);
+                return true;
+            }
+        }
+
+        private boolean checkTerminated() {
+            if (cancelled) {
+                return true;
+            }
+            if (!delayError && failures.get() != null) {
+                cancelled = true;
+                Subscriptions.cancel(upstream);
+                cancelInners();
+                Throwable failure = Subscriptions.terminate(failures);
+                if (failure != Subscriptions.TERMINATED) {
+                    downstream.onError(failure);
+                }
+                return true;
+            }
+            return false;
+        }
+    }
+
+    static final class FlatMapInner<O> implements Subscriber<O>, Subscription {
+
+        private final FlatMapMainSubscriber<?, O> parent;
+        private final int prefetch;
+        private final int limit;
+        private final AtomicReference<Subscription> subscription = new AtomicReference<>();
+
+        volatile Queue<O> queue;
+        volatile boolean done;
+
+        private int sourceMode;
+
+        // Only accessed while owning the parent drain loop
+        private long produced;
+
+        FlatMapInner(FlatMapMainSubscriber<?, O> parent, int prefetch) {
+            this.parent = parent;
+            this.prefetch = prefetch;
+            this.limit = prefetch == Integer.MAX_VALUE ? Integer.MAX_VALUE : prefetch - (prefetch >> 2);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (Subscriptions.setIfEmpty(subscription, s)) {
+                if (s instanceof QueueSubscription) {
+                    QueueSubscription<O> qs = (QueueSubscription<O>) s;
+                    int mode = qs.requestFusion(QueueSubscription.ANY);
+                    if (mode == QueueSubscription.SYNC) {
+                        sourceMode = mode;
+                        queue = qs;
+                        done = true;
+                        parent.drain();
+                        return;
+                    }
+                    if (mode == QueueSubscription.ASYNC) {
+                        sourceMode = mode;
+                        queue = qs;
+                    }
+                }
+                s.request(prefetch == Integer.MAX_VALUE ? Long.MAX_VALUE : prefetch);
+            }
+        }
+
+        @Override
+        public void onNext(O item) {
+            if (sourceMode == QueueSubscription.ASYNC) {
+                parent.drain();
+            } else if (!done) {
+                parent.tryEmit(this, item);
+            }
+        }
+
+        @Override
+        public void onError(Throwable failure) {
+            if (!done) {
+                parent.innerError(this, failure);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!done) {
+                done = true;
+                parent.innerComplete();
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (sourceMode == QueueSubscription.SYNC || limit == Integer.MAX_VALUE) {
+                return;
+            }
+            long p = produced + n;
+            if (p >= limit) {
+                produced = 0L;
+                subscription.get().request(p);
             } else {
-                return flowable.concatMap(mapper::apply, prefetch);
+                produced = p;
             }
-        } else {
-            return flowable.flatMap(mapper::apply, delayFailurePropagation, concurrency, prefetch);
+        }
+
+        @Override
+        public void cancel() {
+            Subscriptions.cancel(subscription);
         }
     }
 }
@@ -0,0 +1,362 @@
+package io.smallrye.reactive.operators;
+
+import io.smallrye.reactive.Multi;
+import io.smallrye.reactive.helpers.ParameterValidation;
+import io.smallrye.reactive.helpers.Subscriptions;
+import io.smallrye.reactive.helpers.queues.Queues;
+import io.smallrye.reactive.subscription.BackPressureFailure;
+import io.smallrye.reactive.subscription.QueueSubscription;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+import static io.smallrye.reactive.helpers.ParameterValidation.positive;
+
+/**
+ * Maps each item from the upstream to an {@link Iterable} and emits the items it contains.
+ * <p>
+ * Unlike {@link MultiFlatMap}, no inner subscriber is created: the iterator of the current {@link Iterable} is
+ * drained directly according to the downstream requests. Up to {@code prefetch} upstream items are requested and
+ * stored in a queue until their {@link Iterable} is consumed. If the upstream supports
+ * {@link QueueSubscription fusion}, the upstream subscription is used as queue directly. The items are always emitted
+ * in the upstream order.
+ *
+ * @param <I> the type of item received from the upstream
+ * @param <O> the type of item emitted downstream
+ */
+public class MultiFlatMapIterable<I, O> extends AbstractMultiOperator<I, O> {
+    private final Function<? super I, ? extends Iterable<? extends O>> mapper;
+    private final int prefetch;
+    private final boolean delayFailurePropagation;
+
+    public MultiFlatMapIterable(Multi<I> upstream, Function<? super I, ? extends Iterable<? extends O>> mapper,
+            int prefetch, boolean delayFailure) {
+        super(nonNull(upstream, "upstream"));
+        this.mapper = nonNull(mapper, "mapper");
+        this.prefetch = positive(prefetch, "prefetch");
+        this.delayFailurePropagation = delayFailure;
+    }
+
+    @Override
+    protected void subscribing(Subscriber<? super O> downstream) {
+        subscribeToUpstream(new FlatMapIterableProcessor<>(downstream, mapper, prefetch, delayFailurePropagation));
+    }
+
+    static final class FlatMapIterableProcessor<I, O> implements Subscriber<I>, Subscription {
+
+        private final Subscriber<? super O> downstream;
+        private final Function<? super I, ? extends Iterable<? extends O>> mapper;
+        private final int prefetch;
+        private final int limit;
+        private final boolean delayError;
+
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicReference<Throwable> failures = new AtomicReference<>();
+
+        private Subscription upstream;
+        private Queue<I> queue;
+        private int sourceMode;
+
+        private volatile boolean done;
+        private volatile boolean cancelled;
+
+        // Only accessed from the drain loop
+        private Iterator<? extends O> current;
+        private int consumed;
+
+        FlatMapIterableProcessor(Subscriber<? super O> downstream,
+                Function<? super I, ? extends Iterable<? extends O>> mapper, int prefetch, boolean delayError) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+            this.delayError = delayError;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (upstream != null) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+
+            if (subscription instanceof QueueSubscription) {
+                QueueSubscription<I> qs = (QueueSubscription<I>) subscription;
+                int mode = qs.requestFusion(QueueSubscription.ANY);
+                if (mode == QueueSubscription.SYNC) {
+                    sourceMode = mode;
+                    queue = qs;
+                    done = true;
+                    downstream.onSubscribe(this);
+                    return;
+                }
+                if (mode == QueueSubscription.ASYNC) {
+                    sourceMode = mode;
+                    queue = qs;
+                    downstream.onSubscribe(this);
+                    subscription.request(prefetch);
+                    return;
+                }
+            }
+
+            queue = Queues.get(prefetch);
+            downstream.onSubscribe(this);
+            subscription.request(prefetch);
+        }
+
+        @Override
+        public void onNext(I item) {
+            if (sourceMode != QueueSubscription.ASYNC) {
+                if (done) {
+                    return;
+                }
+                if (!queue.offer(item)) {
+                    upstream.cancel();
+                    onError(new BackPressureFailure("Unable to store the item, the queue is full"));
+                    return;
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable failure) {
+            if (done) {
+                return;
+            }
+            if (Subscriptions.addFailure(failures, failure)) {
+                done = true;
+                drain();
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                downstream.onError(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            Subscriptions.add(requested, n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                upstream.cancel();
+                if (wip.getAndIncrement() == 0) {
+                    queue.clear();
+                    current = null;
+                }
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() == 0) {
+                drainLoop();
+            }
+        }
+
+        private void drainLoop() {
+            int missed = 1;
+            Iterator<? extends O> iterator = current;
+
+            for (; ; ) {
+                if (iterator == null) {
+                    if (checkTerminated()) {
+                        return;
+                    }
+
+                    boolean isDone = done;
+                    I item;
+                    try {
+                        item = queue.poll();
+                    } catch (Throwable e) {
+                        // Only fused queues can throw, handle the failure like an upstream failure
+                        upstream.cancel();
+                        Subscriptions.addFailure(failures, e);
+                        done = true;
+                        isDone = true;
+                        item = null;
+                    }
+
+                    if (item == null) {
+                        if (isDone) {
+                            current = null;
+                            queue.clear();
+                            Throwable failure = Subscriptions.terminate(failures);
+                            if (failure == null) {
+                                downstream.onComplete();
+                            } else if (failure != Subscriptions.TERMINATED) {
+                                downstream.onError(failure);
+                            }
+                            return;
+                        }
+                    } else {
+                        consumedOne();
+                        boolean hasNext;
+                        try {
+                            Iterable<? extends O> iterable = mapper.apply(item);
+                            if (iterable == null) {
+                                throw new NullPointerException(ParameterValidation.MAPPER_RETURNED_NULL);
+                            }
+                            iterator = iterable.iterator();
+                            hasNext = iterator.hasNext();
+                        } catch (Throwable e) {
+                            iterator = null;
+                            if (!onIterableFailure(e)) {
+                                return;
+                            }
+                            continue;
+                        }
+                        if (!hasNext) {
+                            iterator = null;
+                            continue;
+                        }
+                        current = iterator;
+                    }
+                }
+
+                if (iterator != null) {
+                    long r = requested.get();
+                    long emitted = 0L;
+
+                    while (emitted != r) {
+                        if (checkTerminated()) {
+                            return;
+                        }
+
+                        O item;
+                        boolean hasNext;
+                        try {
+                            item = iterator.next();
+                            if (item == null) {
+                                throw new IllegalArgumentException(MultiCreateFromIterable.NULL_ITEM);
+                            }
+                        } catch (Throwable e) {
+                            current = iterator = null;
+                            if (!onIterableFailure(e)) {
+                                return;
+                            }
+                            break;
+                        }
+
+                        downstream.onNext(item);
+                        emitted++;
+
+                        if (cancelled) {
+                            current = null;
+                            queue.clear();
+                            return;
+                        }
+
+                        try {
+                            hasNext = iterator.hasNext();
+                        } catch (Throwable e) {
+                            current = iterator = null;
+                            if (!onIterableFailure(e)) {
+                                return;
+                            }
+                            break;
+                        }
+
+                        if (!hasNext) {
+                            current = iterator = null;
+                            break;
+                        }
+                    }
+
+                    if (emitted != 0L && r != Long.MAX_VALUE) {
+                        requested.addAndGet(-emitted);
+                    }
+
+                    if (iterator == null) {
+                        // Move to the next iterable
+                        continue;
+                    }
+                }
+
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private void consumedOne() {
+            if (sourceMode == QueueSubscription.SYNC) {
+                return;
+            }
+            int c = consumed + 1;
+            if (c == limit) {
+                consumed = 0;
+                upstream.request(c);
+            } else {
+                consumed = c;
+            }
+        }
+
+        /**
+         * Handles a failure thrown by the mapper or the iterator.
+         *
+         * @param failure the failure
+         * @return {@code true} if the processing can continue with the next upstream item, {@code false} if the
+         * failure has been propagated downstream
+         */
+        private boolean onIterableFailure(Throwable failure) {
+            Subscriptions.addFailure(failures, failure);
+            if (delayError) {
+                return true;
+            }
+            cancelled = true;
+            upstream.cancel();
+            current = null;
+            queue.clear();
+            Throwable f = Subscriptions.terminate(failures);
+            if (f != Subscriptions.TERMINATED) {
+                downstream.onError(f);
+            }
+            return false;
+        }
+
+        private boolean checkTerminated() {
+            if (cancelled) {
+                current = null;
+                queue.clear();
+                return true;
+            }
+            if (!delayError && failures.get() != null) {
+                cancelled = true;
+                current = null;
+                queue.clear();
+                Throwable f = Subscriptions.terminate(failures);
+                if (f != Subscriptions.TERMINATED) {
+                    downstream.onError(f);
+                }
+                return true;
+            }
+            return false;
+        }
+    }
+}
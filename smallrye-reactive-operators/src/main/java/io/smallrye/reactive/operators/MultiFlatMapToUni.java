@@ -0,0 +1,421 @@
+package io.smallrye.reactive.operators;
+
+import io.smallrye.reactive.Multi;
+import io.smallrye.reactive.Uni;
+import io.smallrye.reactive.helpers.EmptyUniSubscription;
+import io.smallrye.reactive.helpers.ParameterValidation;
+import io.smallrye.reactive.helpers.Subscriptions;
+import io.smallrye.reactive.helpers.queues.Queues;
+import io.smallrye.reactive.subscription.UniSubscriber;
+import io.smallrye.reactive.subscription.UniSubscription;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+import static io.smallrye.reactive.helpers.ParameterValidation.positive;
+
+/**
+ * Maps each item from the upstream to a {@link Uni} and emits the items produced by these {@link Uni}.
+ * <p>
+ * Unlike {@link MultiFlatMap}, the {@link Uni} are subscribed directly (without being converted to a
+ * {@link org.reactivestreams.Publisher}) and each inner subscriber only keeps a single item. At most
+ * {@code concurrency} {@link Uni} are subscribed concurrently. When {@code preserveOrdering} is enabled, the items
+ * are emitted in the upstream order, otherwise they are emitted as they come. {@link Uni} producing {@code null} do
+ * not emit any item.
+ *
+ * @param <I> the type of item received from the upstream
+ * @param <O> the type of item emitted downstream
+ */
+public class MultiFlatMapToUni<I, O> extends AbstractMultiOperator<I, O> {
+    private final Function<? super I, ? extends Uni<? extends O>> mapper;
+    private final int concurrency;
+    private final boolean preserveOrdering;
+    private final boolean delayFailurePropagation;
+
+    public MultiFlatMapToUni(Multi<I> upstream, Function<? super I, ? extends Uni<? extends O>> mapper,
+            int concurrency, boolean preserveOrdering, boolean delayFailure) {
+        super(nonNull(upstream, "upstream"));
+        this.mapper = nonNull(mapper, "mapper");
+        this.concurrency = positive(concurrency, "concurrency");
+        this.preserveOrdering = preserveOrdering;
+        this.delayFailurePropagation = delayFailure;
+    }
+
+    @Override
+    protected void subscribing(Subscriber<? super O> downstream) {
+        subscribeToUpstream(new FlatMapToUniMainSubscriber<>(downstream, mapper, concurrency, preserveOrdering,
+                delayFailurePropagation));
+    }
+
+    static final class FlatMapToUniMainSubscriber<I, O> implements Subscriber<I>, Subscription {
+
+        @SuppressWarnings("rawtypes")
+        private static final UniInner[] EMPTY = new UniInner[0];
+
+        @SuppressWarnings("rawtypes")
+        private static final UniInner[] TERMINATED = new UniInner[0];
+
+        private final Subscriber<? super O> downstream;
+        private final Function<? super I, ? extends Uni<? extends O>> mapper;
+        private final int maxConcurrency;
+        private final boolean preserveOrdering;
+        private final boolean delayError;
+
+        private final AtomicReference<Subscription> upstream = new AtomicReference<>();
+        private final AtomicReference<Throwable> failures = new AtomicReference<>();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        /**
+         * The number of inner subscribers not yet consumed by the drain loop.
+         */
+        private final AtomicInteger active = new AtomicInteger();
+
+        /**
+         * The inner subscribers to consume. When the ordering is preserved, all the inner subscribers in the upstream
+         * order, otherwise only the completed ones, in their completion order.
+         */
+        private final Queue<UniInner<O>> ready = Queues.unbounded();
+
+        /**
+         * The subscribed but not yet completed inner subscribers, only used when the ordering is not preserved. The
+         * array is copied on write, like in {@link MultiFlatMap}, and only read to cancel the inner subscribers.
+         */
+        @SuppressWarnings("unchecked")
+        private final AtomicReference<UniInner<O>[]> inflight = new AtomicReference<>(EMPTY);
+
+        private volatile boolean done;
+        private volatile boolean cancelled;
+
+        FlatMapToUniMainSubscriber(Subscriber<? super O> downstream,
+                Function<? super I, ? extends Uni<? extends O>> mapper,
+                int concurrency, boolean preserveOrdering, boolean delayError) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+            this.maxConcurrency = concurrency;
+            this.preserveOrdering = preserveOrdering;
+            this.delayError = delayError;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (Subscriptions.setIfEmpty(upstream, subscription)) {
+                downstream.onSubscribe(this);
+                subscription.request(maxConcurrency == Integer.MAX_VALUE ? Long.MAX_VALUE : maxConcurrency);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void onNext(I item) {
+            if (done) {
+                return;
+            }
+
+            Uni<? extends O> uni;
+            try {
+                uni = mapper.apply(item);
+                if (uni == null) {
+                    throw new NullPointerException(ParameterValidation.MAPPER_RETURNED_NULL);
+                }
+            } catch (Throwable e) {
+                Subscriptions.cancel(upstream);
+                onError(e);
+                return;
+            }
+
+            UniInner<O> inner = new UniInner<>(this);
+            active.incrementAndGet();
+            if (preserveOrdering) {
+                ready.offer(inner);
+            } else if (!add(inner)) {
+                // Cancelled, the subscription to the uni is cancelled as soon as it is received
+                inner.cancel();
+            }
+
+            if (uni instanceof AbstractUni) {
+                UniSerializedSubscriber.subscribe((AbstractUni<O>) uni, inner);
+            } else {
+                uni.subscribe().withSubscriber(inner);
+            }
+
+            if (cancelled) {
+                inner.cancel();
+            }
+        }
+
+        @Override
+        public void onError(Throwable failure) {
+            if (done) {
+                return;
+            }
+            if (Subscriptions.addFailure(failures, failure)) {
+                done = true;
+                drain();
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                Subscriptions.cancel(upstream);
+                onError(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            Subscriptions.add(requested, n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                Subscriptions.cancel(upstream);
+                drain();
+            }
+        }
+
+        void innerItem(UniInner<O> inner) {
+            if (preserveOrdering) {
+                drain();
+                return;
+            }
+
+            remove(inner);
+            if (wip.get() == 0 && wip.compareAndSet(0, 1)) {
+                O item = inner.item;
+                if (ready.isEmpty() && (item == null || requested.get() != 0L)
+                        && !cancelled && (delayError || failures.get() == null)) {
+                    // Fast path, nothing is waiting, emit directly
+                    active.decrementAndGet();
+                    if (item != null) {
+                        downstream.onNext(item);
+                        if (requested.get() != Long.MAX_VALUE) {
+                            requested.decrementAndGet();
+                        }
+                    }
+                    if (!done) {
+                        upstream.get().request(1);
+                    }
+                } else {
+                    ready.offer(inner);
+                }
+                drainLoop();
+            } else {
+                ready.offer(inner);
+                drain();
+            }
+        }
+
+        void innerFailure(UniInner<O> inner, Throwable failure) {
+            Subscriptions.addFailure(failures, failure);
+            if (!preserveOrdering) {
+                remove(inner);
+                ready.offer(inner);
+            }
+            drain();
+        }
+
+        private boolean add(UniInner<O> inner) {
+            for (; ; ) {
+                UniInner<O>[] current = inflight.get();
+                if (current == TERMINATED) {
+                    return false;
+                }
+                int n = current.length;
+                @SuppressWarnings("unchecked")
+                UniInner<O>[] update = new UniInner[n + 1];
+                System.arraycopy(current, 0, update, 0, n);
+                update[n] = inner;
+                if (inflight.compareAndSet(current, update)) {
+                    return true;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void remove(UniInner<O> inner) {
+            for (; ; ) {
+                UniInner<O>[] current = inflight.get();
+                int n = current.length;
+                if (current == TERMINATED || n == 0) {
+                    return;
+                }
+                int index = -1;
+                for (int i = 0; i < n; i++) {
+                    if (current[i] == inner) {
+                        index = i;
+                        break;
+                    }
+                }
+                if (index < 0) {
+                    return;
+                }
+                UniInner<O>[] update;
+                if (n == 1) {
+                    update = EMPTY;
+                } else {
+                    update = new UniInner[n - 1];
+                    System.arraycopy(current, 0, update, 0, index);
+                    System.arraycopy(current, index + 1, update, index, n - index - 1);
+                }
+                if (inflight.compareAndSet(current, update)) {
+                    return;
+                }
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() == 0) {
+                drainLoop();
+            }
+        }
+
+        private void drainLoop() {
+            int missed = 1;
+            for (; ; ) {
+                long r = requested.get();
+                long emitted = 0L;
+                long consumed = 0L;
+
+                for (; ; ) {
+                    if (checkTerminated()) {
+                        return;
+                    }
+
+                    boolean isDone = done;
+                    UniInner<O> inner = ready.peek();
+                    if (inner == null) {
+                        if (isDone && active.get() == 0) {
+                            Throwable failure = Subscriptions.terminate(failures);
+                            if (failure == null) {
+                                downstream.onComplete();
+                            } else if (failure != Subscriptions.TERMINATED) {
+                                downstream.onError(failure);
+                            }
+                            return;
+                        }
+                        break;
+                    }
+
+                    if (!inner.done) {
+                        // Only happens when the ordering is preserved, waiting for the head
+                        break;
+                    }
+
+                    O item = inner.item;
+                    if (item != null && emitted == r) {
+                        break;
+                    }
+
+                    ready.poll();
+                    active.decrementAndGet();
+                    consumed++;
+
+                    if (item != null) {
+                        downstream.onNext(item);
+                        emitted++;
+                    }
+                }
+
+                if (emitted != 0L && r != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+                if (consumed != 0L && !done) {
+                    upstream.get().request(consumed);
+                }
+
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private boolean checkTerminated() {
+            if (cancelled) {
+                cancelInners();
+                return true;
+            }
+            if (!delayError && failures.get() != null) {
+                cancelled = true;
+                Subscriptions.cancel(upstream);
+                cancelInners();
+                Throwable failure = Subscriptions.terminate(failures);
+                if (failure != Subscriptions.TERMINATED) {
+                    downstream.onError(failure);
+                }
+                return true;
+            }
+            return false;
+        }
+
+        private void cancelInners() {
+            UniInner<O> inner;
+            while ((inner = ready.poll()) != null) {
+                inner.cancel();
+            }
+            @SuppressWarnings("unchecked")
+            UniInner<O>[] current = inflight.getAndSet(TERMINATED);
+            for (UniInner<O> i : current) {
+                i.cancel();
+            }
+        }
+    }
+
+    static final class UniInner<O> implements UniSubscriber<O> {
+
+        private final FlatMapToUniMainSubscriber<?, O> parent;
+        private final AtomicReference<UniSubscription> subscription = new AtomicReference<>();
+
+        // Written before done, read after done
+        O item;
+        volatile boolean done;
+
+        UniInner(FlatMapToUniMainSubscriber<?, O> parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public void onSubscribe(UniSubscription s) {
+            if (!subscription.compareAndSet(null, s)) {
+                s.cancel();
+            }
+        }
+
+        @Override
+        public void onItem(O item) {
+            this.item = item;
+            done = true;
+            parent.innerItem(this);
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            done = true;
+            parent.innerFailure(this, failure);
+        }
+
+        void cancel() {
+            UniSubscription s = subscription.getAndSet(EmptyUniSubscription.CANCELLED);
+            if (s != null) {
+                s.cancel();
+            }
+        }
+    }
+}
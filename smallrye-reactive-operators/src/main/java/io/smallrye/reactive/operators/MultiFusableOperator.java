@@ -0,0 +1,26 @@
+package io.smallrye.reactive.operators;
+
+import io.smallrye.reactive.Multi;
+
+/**
+ * Base class for the stateless, synchronous, item-per-item operators (map, filter, consume...) that can be fused with
+ * their neighbours into a single {@link MultiFusedStages} operator.
+ * <p>
+ * When used standalone, the operator subscribes to its upstream with its own dedicated processor. When several of
+ * these operators are chained, {@link MultiFusedStages#fuse(MultiFusableOperator)} collapses them at assembly time,
+ * so each item traverses a single subscriber running the combined {@link MultiFusedStages.Stage stages}.
+ *
+ * @param <I> the type of item received from the upstream
+ * @param <O> the type of item emitted by this operator
+ */
+public abstract class MultiFusableOperator<I, O> extends AbstractMultiOperator<I, O> {
+
+    public MultiFusableOperator(Multi<I> upstream) {
+        super(upstream);
+    }
+
+    /**
+     * @return the stage implementing the behavior of this operator when fused with other stages.
+     */
+    abstract MultiFusedStages.Stage stage();
+}
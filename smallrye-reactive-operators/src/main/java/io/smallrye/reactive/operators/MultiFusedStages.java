@@ -0,0 +1,165 @@
+package io.smallrye.reactive.operators;
+
+import io.smallrye.reactive.Multi;
+import org.reactivestreams.Subscriber;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.MAPPER_RETURNED_NULL;
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+
+/**
+ * Operator executing a chain of stateless synchronous stages (map, filter, consume...) within a single subscriber.
+ * <p>
+ * Instances are created at assembly time by {@link #fuse(MultiFusableOperator)} when a
+ * {@link MultiFusableOperator} is placed right after another fusable operator. Instead of one subscriber (and one
+ * method dispatch per event) per operator, the items traverse the stages in a plain loop. When a stage drops an item
+ * (filter), the item is requested again from the upstream.
+ *
+ * @param <I> the type of item received from the upstream
+ * @param <O> the type of item emitted by the last stage
+ */
+public class MultiFusedStages<I, O> extends AbstractMultiOperator<I, O> {
+
+    private final Stage[] stages;
+
+    MultiFusedStages(Multi<I> upstream, Stage[] stages) {
+        super(nonNull(upstream, "upstream"));
+        this.stages = stages;
+    }
+
+    /**
+     * Fuses the given operator with its upstream if the upstream is also a fusable operator (or already a fused
+     * chain).
+     *
+     * @param operator the operator, must not be {@code null}
+     * @param <O>      the type of item emitted by the operator
+     * @return the fused operator, or {@code operator} if it cannot be fused
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static <O> Multi<O> fuse(MultiFusableOperator<?, O> operator) {
+        Multi<?> upstream = nonNull(operator, "operator").upstream();
+        if (upstream instanceof MultiFusedStages) {
+            MultiFusedStages<?, ?> fused = (MultiFusedStages<?, ?>) upstream;
+            Stage[] stages = Arrays.copyOf(fused.stages, fused.stages.length + 1);
+            stages[fused.stages.length] = operator.stage();
+            return new MultiFusedStages(fused.upstream(), stages);
+        }
+        if (upstream instanceof MultiFusableOperator) {
+            MultiFusableOperator<?, ?> previous = (MultiFusableOperator<?, ?>) upstream;
+            return new MultiFusedStages(previous.upstream(), new Stage[] { previous.stage(), operator.stage() });
+        }
+        return operator;
+    }
+
+    int numberOfStages() {
+        return stages.length;
+    }
+
+    @Override
+    protected void subscribing(Subscriber<? super O> downstream) {
+        subscribeToUpstream(new FusedProcessor<>(downstream, stages));
+    }
+
+    static final class FusedProcessor<I, O> extends MultiOperatorProcessor<I, O> {
+
+        private final Stage[] stages;
+
+        FusedProcessor(Subscriber<? super O> downstream, Stage[] stages) {
+            super(downstream);
+            this.stages = stages;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void onNext(I item) {
+            if (isDone()) {
+                return;
+            }
+
+            Object current = item;
+            try {
+                for (Stage stage : stages) {
+                    current = stage.apply(current);
+                    if (current == null) {
+                        break;
+                    }
+                }
+            } catch (Throwable e) {
+                cancelAndFail(e);
+                return;
+            }
+
+            if (current == null) {
+                // The item has been dropped, compensate the request.
+                upstream.request(1);
+            } else {
+                downstream.onNext((O) current);
+            }
+        }
+    }
+
+    /**
+     * A synchronous transformation applied on each item.
+     */
+    abstract static class Stage {
+
+        /**
+         * Applies the stage on the given item.
+         *
+         * @param item the item, never {@code null}
+         * @return the item to pass to the next stage, {@code null} if the item must be dropped
+         */
+        abstract Object apply(Object item);
+    }
+
+    static final class MapStage extends Stage {
+        private final Function<Object, Object> mapper;
+
+        @SuppressWarnings("unchecked")
+        MapStage(Function<?, ?> mapper) {
+            this.mapper = (Function<Object, Object>) mapper;
+        }
+
+        @Override
+        Object apply(Object item) {
+            Object outcome = mapper.apply(item);
+            if (outcome == null) {
+                throw new NullPointerException(MAPPER_RETURNED_NULL);
+            }
+            return outcome;
+        }
+    }
+
+    static final class FilterStage extends Stage {
+        private final Predicate<Object> predicate;
+
+        @SuppressWarnings("unchecked")
+        FilterStage(Predicate<?> predicate) {
+            this.predicate = (Predicate<Object>) predicate;
+        }
+
+        @Override
+        Object apply(Object item) {
+            return predicate.test(item) ? item : null;
+        }
+    }
+
+    static final class PeekStage extends Stage {
+        private final Consumer<Object> callback;
+
+        @SuppressWarnings("unchecked")
+        PeekStage(Consumer<?> callback) {
+            this.callback = (Consumer<Object>) callback;
+        }
+
+        @Override
+        Object apply(Object item) {
+            callback.accept(item);
+            return item;
+        }
+    }
+}
@@ -1,20 +1,58 @@
 package io.smallrye.reactive.operators;
 
-import io.reactivex.Flowable;
 import io.smallrye.reactive.Multi;
+import org.reactivestreams.Subscriber;
 
 import java.util.function.Function;
 
-public class MultiMapOnResult<T, R> extends MultiOperator<T, R> {
+import static io.smallrye.reactive.helpers.ParameterValidation.MAPPER_RETURNED_NULL;
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+
+public class MultiMapOnResult<T, R> extends MultiFusableOperator<T, R> {
     private final Function<? super T, ? extends R> mapper;
 
     public MultiMapOnResult(Multi<T> upstream, Function<? super T, ? extends R> mapper) {
-        super(upstream);
-        this.mapper = mapper;
+        super(nonNull(upstream, "upstream"));
+        this.mapper = nonNull(mapper, "mapper");
     }
 
     @Override
-    protected Flowable<R> flowable() {
-        return upstreamAsFlowable().map(mapper::apply);
+    MultiFusedStages.Stage stage() {
+        return new MultiFusedStages.MapStage(mapper);
+    }
+
+    @Override
+    protected void subscribing(Subscriber<? super R> downstream) {
+        subscribeToUpstream(new MapProcessor<>(downstream, mapper));
+    }
+
+    static final class MapProcessor<I, O> extends MultiOperatorProcessor<I, O> {
+
+        private final Function<? super I, ? extends O> mapper;
+
+        MapProcessor(Subscriber<? super O> downstream, Function<? super I, ? extends O> mapper) {
+            super(downstream);
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onNext(I item) {
+            if (isDone()) {
+                return;
+            }
+
+            O outcome;
+            try {
+                outcome = mapper.apply(item);
+            } catch (Throwable e) {
+                cancelAndFail(e);
+                return;
+            }
+            if (outcome == null) {
+                cancelAndFail(new NullPointerException(MAPPER_RETURNED_NULL));
+            } else {
+                downstream.onNext(outcome);
+            }
+        }
     }
 }
@@ -1,13 +1,13 @@
 package io.smallrye.reactive.operators;
 
-import io.reactivex.Flowable;
 import io.smallrye.reactive.Multi;
+import org.reactivestreams.Subscriber;
 
 import java.util.function.Consumer;
 
 import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
 
-public class MultiOnResultPeek<T> extends MultiOperator<T, T> {
+public class MultiOnResultPeek<T> extends MultiFusableOperator<T, T> {
     private final Consumer<? super T> callback;
 
     public MultiOnResultPeek(Multi<T> upstream, Consumer<? super T> callback) {
@@ -16,7 +16,37 @@ public class MultiOnResultPeek<T> extends MultiOperator<T, T> {
     }
 
     @Override
-    protected Flowable<T> flowable() {
-        return upstreamAsFlowable().doOnNext(callback::accept);
+    MultiFusedStages.Stage stage() {
+        return new MultiFusedStages.PeekStage(callback);
+    }
+
+    @Override
+    protected void subscribing(Subscriber<? super T> downstream) {
+        subscribeToUpstream(new PeekProcessor<>(downstream, callback));
+    }
+
+    static final class PeekProcessor<T> extends MultiOperatorProcessor<T, T> {
+
+        private final Consumer<? super T> callback;
+
+        PeekProcessor(Subscriber<? super T> downstream, Consumer<? super T> callback) {
+            super(downstream);
+            this.callback = callback;
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (isDone()) {
+                return;
+            }
+
+            try {
+                callback.accept(item);
+            } catch (Throwable e) {
+                cancelAndFail(e);
+                return;
+            }
+            downstream.onNext(item);
+        }
     }
 }
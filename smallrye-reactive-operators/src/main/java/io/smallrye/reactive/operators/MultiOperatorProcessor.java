@@ -0,0 +1,118 @@
+package io.smallrye.reactive.operators;
+
+import io.smallrye.reactive.helpers.Subscriptions;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+
+/**
+ * Base class for the subscribers used by the native {@link AbstractMultiOperator operators}.
+ * <p>
+ * The processor is both the {@link Subscriber} subscribed to the upstream and the {@link Subscription} passed to the
+ * downstream subscriber, so a single object is allocated per operator and per subscription. By default, all the
+ * events and requests are passed through. Once a terminal event has been propagated or the subscription has been
+ * cancelled, the upstream subscription is replaced by {@link Subscriptions#CANCELLED} and the subsequent events are
+ * dropped.
+ *
+ * @param <I> the type of item received from the upstream
+ * @param <O> the type of item emitted downstream
+ */
+public abstract class MultiOperatorProcessor<I, O> implements Subscriber<I>, Subscription {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<MultiOperatorProcessor, Subscription> UPSTREAM =
+            AtomicReferenceFieldUpdater.newUpdater(MultiOperatorProcessor.class, Subscription.class, "upstream");
+
+    protected final Subscriber<? super O> downstream;
+
+    protected volatile Subscription upstream;
+
+    public MultiOperatorProcessor(Subscriber<? super O> downstream) {
+        this.downstream = nonNull(downstream, "downstream");
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        if (UPSTREAM.compareAndSet(this, null, subscription)) {
+            downstream.onSubscribe(this);
+        } else {
+            subscription.cancel();
+        }
+    }
+
+    @Override
+    public void onError(Throwable failure) {
+        Subscription subscription = UPSTREAM.getAndSet(this, Subscriptions.CANCELLED);
+        if (subscription != Subscriptions.CANCELLED) {
+            downstream.onError(failure);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        Subscription subscription = UPSTREAM.getAndSet(this, Subscriptions.CANCELLED);
+        if (subscription != Subscriptions.CANCELLED) {
+            downstream.onComplete();
+        }
+    }
+
+    @Override
+    public void request(long n) {
+        Subscription subscription = upstream;
+        if (subscription != Subscriptions.CANCELLED) {
+            if (n <= 0) {
+                onError(Subscriptions.getInvalidRequestException());
+                subscription.cancel();
+                return;
+            }
+            subscription.request(n);
+        }
+    }
+
+    @Override
+    public void cancel() {
+        Subscription subscription = UPSTREAM.getAndSet(this, Subscriptions.CANCELLED);
+        if (subscription != null && subscription != Subscriptions.CANCELLED) {
+            subscription.cancel();
+        }
+    }
+
+    /**
+     * Cancels the upstream subscription and propagates the given failure downstream.
+     * Used when a user callback (mapper, predicate...) throws an exception.
+     *
+     * @param failure the failure
+     */
+    protected void cancelAndFail(Throwable failure) {
+        Subscription subscription = UPSTREAM.getAndSet(this, Subscriptions.CANCELLED);
+        if (subscription != Subscriptions.CANCELLED) {
+            if (subscription != null) {
+                subscription.cancel();
+            }
+            downstream.onError(failure);
+        }
+    }
+
+    /**
+     * Cancels the upstream subscription and propagates the completion event downstream.
+     */
+    protected void cancelAndComplete() {
+        Subscription subscription = UPSTREAM.getAndSet(this, Subscriptions.CANCELLED);
+        if (subscription != Subscriptions.CANCELLED) {
+            if (subscription != null) {
+                subscription.cancel();
+            }
+            downstream.onComplete();
+        }
+    }
+
+    /**
+     * @return {@code true} if a terminal event has been propagated or the subscription has been cancelled.
+     */
+    protected boolean isDone() {
+        return upstream == Subscriptions.CANCELLED;
+    }
+}
@@ -0,0 +1,67 @@
+package io.smallrye.reactive.operators;
+
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import io.smallrye.reactive.Multi;
+import io.smallrye.reactive.RetryBudget;
+import io.smallrye.reactive.helpers.ExponentialBackOff;
+import io.smallrye.reactive.infrastructure.Infrastructure;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+import static io.smallrye.reactive.helpers.ParameterValidation.positive;
+
+/**
+ * Re-subscribes to the upstream {@link Multi} on failure, waiting for a delay computed by an
+ * {@link ExponentialBackOff} before each new subscription. An optional {@link RetryBudget} limits the rate of
+ * retries.
+ *
+ * @param <T> the type of item
+ */
+public class MultiRetryWithBackOff<T> extends MultiOperator<T, T> {
+    private final Predicate<? super Throwable> predicate;
+    private final long attempts;
+    private final ExponentialBackOff backOff;
+    private final RetryBudget budget;
+    private final ScheduledExecutorService executor;
+
+    public MultiRetryWithBackOff(Multi<T> upstream, Predicate<? super Throwable> predicate, long numberOfAttempts,
+            ExponentialBackOff backOff, RetryBudget budget, ScheduledExecutorService executor) {
+        super(nonNull(upstream, "upstream"));
+        this.predicate = nonNull(predicate, "predicate");
+        this.attempts = positive(numberOfAttempts, "numberOfAttempts");
+        this.backOff = nonNull(backOff, "backOff");
+        this.budget = budget;
+        this.executor = executor;
+    }
+
+    private ScheduledExecutorService timer() {
+        // Resolved at subscription time, so assembling the pipeline does not create the default executors.
+        return executor == null ? Infrastructure.getDefaultTimer() : executor;
+    }
+
+    @Override
+    protected Flowable<T> flowable() {
+        Scheduler scheduler = Schedulers.from(timer());
+        // The handler is called for each subscription, so the counter is per subscription.
+        return upstreamAsFlowable().retryWhen(failures -> {
+            AtomicLong retries = new AtomicLong();
+            return failures.concatMap(failure -> {
+                long retry = retries.incrementAndGet();
+                if (!predicate.test(failure) || retry > attempts || (budget != null && !budget.tryAcquire())) {
+                    return Flowable.error(failure);
+                }
+                long delay = backOff.delayInNanos(retry);
+                if (delay == 0) {
+                    return Flowable.just(retry);
+                }
+                return Flowable.timer(delay, TimeUnit.NANOSECONDS, scheduler);
+            });
+        });
+    }
+}
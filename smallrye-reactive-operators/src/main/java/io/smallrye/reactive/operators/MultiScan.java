@@ -1,22 +1,64 @@
 package io.smallrye.reactive.operators;
 
-import io.reactivex.Flowable;
 import io.smallrye.reactive.Multi;
+import org.reactivestreams.Subscriber;
 
 import java.util.function.BiFunction;
 
-public class MultiScan<T> extends MultiOperator<T, T> {
+import static io.smallrye.reactive.helpers.ParameterValidation.MAPPER_RETURNED_NULL;
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+
+public class MultiScan<T> extends AbstractMultiOperator<T, T> {
 
     private final BiFunction<T, T, T> scanner;
 
     public MultiScan(Multi<T> upstream, BiFunction<T, T, T> scanner) {
-        super(upstream);
-        this.scanner = scanner;
+        super(nonNull(upstream, "upstream"));
+        this.scanner = nonNull(scanner, "scanner");
     }
 
     @Override
-    protected Flowable<T> flowable() {
-        return upstreamAsFlowable().scan(scanner::apply);
+    protected void subscribing(Subscriber<? super T> downstream) {
+        subscribeToUpstream(new ScanProcessor<>(downstream, scanner));
     }
 
+    static final class ScanProcessor<T> extends MultiOperatorProcessor<T, T> {
+
+        private final BiFunction<T, T, T> scanner;
+        private T current;
+
+        ScanProcessor(Subscriber<? super T> downstream, BiFunction<T, T, T> scanner) {
+            super(downstream);
+            this.scanner = scanner;
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (isDone()) {
+                return;
+            }
+
+            T previous = current;
+            if (previous == null) {
+                // First item, emitted as it is.
+                current = item;
+                downstream.onNext(item);
+                return;
+            }
+
+            T next;
+            try {
+                next = scanner.apply(previous, item);
+            } catch (Throwable e) {
+                cancelAndFail(e);
+                return;
+            }
+            if (next == null) {
+                cancelAndFail(new NullPointerException(MAPPER_RETURNED_NULL));
+                return;
+            }
+            current = next;
+            downstream.onNext(next);
+        }
+    }
 }
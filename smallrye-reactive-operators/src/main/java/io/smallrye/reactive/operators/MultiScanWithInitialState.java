@@ -1,26 +1,143 @@
 package io.smallrye.reactive.operators;
 
-import io.reactivex.Flowable;
 import io.smallrye.reactive.Multi;
+import io.smallrye.reactive.helpers.Subscriptions;
+import org.reactivestreams.Subscriber;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
-public class MultiScanWithInitialState<T, S> extends MultiOperator<T, S> {
+import static io.smallrye.reactive.helpers.ParameterValidation.MAPPER_RETURNED_NULL;
+import static io.smallrye.reactive.helpers.ParameterValidation.SUPPLIER_PRODUCED_NULL;
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+
+public class MultiScanWithInitialState<T, S> extends AbstractMultiOperator<T, S> {
 
     private final Supplier<S> initialStateProducer;
     private final BiFunction<S, ? super T, S> scanner;
 
     public MultiScanWithInitialState(Multi<T> upstream, Supplier<S> initialStateProducer,
             BiFunction<S, ? super T, S> scanner) {
-        super(upstream);
-        this.initialStateProducer = initialStateProducer;
-        this.scanner = scanner;
+        super(nonNull(upstream, "upstream"));
+        this.initialStateProducer = nonNull(initialStateProducer, "initialStateProducer");
+        this.scanner = nonNull(scanner, "scanner");
     }
 
     @Override
-    protected Flowable<S> flowable() {
-        return upstreamAsFlowable().scanWith(initialStateProducer::get, scanner::apply);
+    protected void subscribing(Subscriber<? super S> downstream) {
+        S initialState;
+        try {
+            initialState = initialStateProducer.get();
+        } catch (Throwable e) {
+            Subscriptions.fail(downstream, e);
+            return;
+        }
+        if (initialState == null) {
+            Subscriptions.fail(downstream, new NullPointerException(SUPPLIER_PRODUCED_NULL));
+            return;
+        }
+        subscribeToUpstream(new ScanWithInitialStateProcessor<>(downstream, initialState, scanner));
     }
 
+    /**
+     * The initial state is emitted on the first request, so the upstream receives one request less.
+     * The terminal event is delayed until the initial state has been emitted.
+     */
+    static final class ScanWithInitialStateProcessor<T, S> extends MultiOperatorProcessor<T, S> {
+
+        private static final int INITIAL_STATE_CLAIMED = 1;
+        private static final int INITIAL_STATE_EMITTED = 2;
+        private static final int UPSTREAM_TERMINATED = 4;
+
+        private final BiFunction<S, ? super T, S> scanner;
+        private final AtomicInteger state = new AtomicInteger();
+        private S current;
+        // Written before updating the state, read after having observed UPSTREAM_TERMINATED.
+        private Throwable failure;
+
+        ScanWithInitialStateProcessor(Subscriber<? super S> downstream, S initialState,
+                BiFunction<S, ? super T, S> scanner) {
+            super(downstream);
+            this.scanner = scanner;
+            this.current = initialState;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0 || (state.get() & INITIAL_STATE_CLAIMED) != 0) {
+                super.request(n);
+                return;
+            }
+
+            int previous = state.getAndUpdate(s -> s | INITIAL_STATE_CLAIMED);
+            if ((previous & INITIAL_STATE_CLAIMED) != 0) {
+                // Another request claimed the initial state.
+                super.request(n);
+                return;
+            }
+
+            if (isDone()) {
+                return;
+            }
+            downstream.onNext(current);
+
+            previous = state.getAndUpdate(s -> s | INITIAL_STATE_EMITTED);
+            if ((previous & UPSTREAM_TERMINATED) != 0) {
+                propagateTerminalEvent();
+            } else if (n != 1) {
+                super.request(n == Long.MAX_VALUE ? n : n - 1);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (isDone()) {
+                return;
+            }
+
+            S next;
+            try {
+                next = scanner.apply(current, item);
+            } catch (Throwable e) {
+                cancelAndFail(e);
+                return;
+            }
+            if (next == null) {
+                cancelAndFail(new NullPointerException(MAPPER_RETURNED_NULL));
+                return;
+            }
+            current = next;
+            downstream.onNext(next);
+        }
+
+        @Override
+        public void onError(Throwable failure) {
+            this.failure = failure;
+            // If the initial state has not been claimed yet, claim it so it won't be emitted after the failure.
+            int previous = state.getAndUpdate(s -> s | INITIAL_STATE_CLAIMED | UPSTREAM_TERMINATED);
+            if ((previous & INITIAL_STATE_CLAIMED) == 0 || (previous & INITIAL_STATE_EMITTED) != 0) {
+                super.onError(failure);
+            }
+            // Otherwise, the failure is propagated after the emission of the initial state.
+        }
+
+        @Override
+        public void onComplete() {
+            int previous = state.getAndUpdate(s -> s | UPSTREAM_TERMINATED);
+            if ((previous & INITIAL_STATE_EMITTED) != 0) {
+                super.onComplete();
+            }
+            // Otherwise, the completion is propagated after the emission of the initial state.
+        }
+
+        private void propagateTerminalEvent() {
+            Throwable collected = failure;
+            if (collected != null) {
+                super.onError(collected);
+            } else {
+                super.onComplete();
+            }
+        }
+    }
 }
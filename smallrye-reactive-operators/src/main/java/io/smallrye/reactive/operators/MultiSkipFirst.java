@@ -0,0 +1,58 @@
+package io.smallrye.reactive.operators;
+
+import io.smallrye.reactive.Multi;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+import static io.smallrye.reactive.helpers.ParameterValidation.positiveOrZero;
+
+/**
+ * Skips the first {@code numberOfItems} items from the upstream. The skipped items are requested upfront.
+ *
+ * @param <T> the type of item
+ */
+public class MultiSkipFirst<T> extends AbstractMultiOperator<T, T> {
+
+    private final long numberOfItems;
+
+    public MultiSkipFirst(Multi<T> upstream, int numberOfItems) {
+        super(nonNull(upstream, "upstream"));
+        this.numberOfItems = positiveOrZero(numberOfItems, "numberOfItems");
+    }
+
+    @Override
+    protected void subscribing(Subscriber<? super T> downstream) {
+        if (numberOfItems == 0) {
+            subscribeToUpstream(downstream);
+        } else {
+            subscribeToUpstream(new SkipFirstProcessor<>(downstream, numberOfItems));
+        }
+    }
+
+    static final class SkipFirstProcessor<T> extends MultiOperatorProcessor<T, T> {
+
+        private long remaining;
+
+        SkipFirstProcessor(Subscriber<? super T> downstream, long numberOfItems) {
+            super(downstream);
+            this.remaining = numberOfItems;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            long toBeSkipped = remaining;
+            super.onSubscribe(subscription);
+            subscription.request(toBeSkipped);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (remaining != 0L) {
+                remaining--;
+            } else if (!isDone()) {
+                downstream.onNext(item);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.smallrye.reactive.operators;
+
+import io.smallrye.reactive.Multi;
+import org.reactivestreams.Subscriber;
+
+import java.util.function.Predicate;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+
+/**
+ * Skips the items from the upstream while the given predicate returns {@code true}. Once the predicate returns
+ * {@code false}, all the subsequent items are emitted.
+ *
+ * @param <T> the type of item
+ */
+public class MultiSkipWhile<T> extends AbstractMultiOperator<T, T> {
+
+    private final Predicate<? super T> predicate;
+
+    public MultiSkipWhile(Multi<T> upstream, Predicate<? super T> predicate) {
+        super(nonNull(upstream, "upstream"));
+        this.predicate = nonNull(predicate, "predicate");
+    }
+
+    @Override
+    protected void subscribing(Subscriber<? super T> downstream) {
+        subscribeToUpstream(new SkipWhileProcessor<>(downstream, predicate));
+    }
+
+    static final class SkipWhileProcessor<T> extends MultiOperatorProcessor<T, T> {
+
+        private final Predicate<? super T> predicate;
+        private boolean gateOpen;
+
+        SkipWhileProcessor(Subscriber<? super T> downstream, Predicate<? super T> predicate) {
+            super(downstream);
+            this.predicate = predicate;
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (isDone()) {
+                return;
+            }
+
+            if (gateOpen) {
+                downstream.onNext(item);
+                return;
+            }
+
+            boolean skip;
+            try {
+                skip = predicate.test(item);
+            } catch (Throwable e) {
+                cancelAndFail(e);
+                return;
+            }
+
+            if (skip) {
+                upstream.request(1);
+            } else {
+                gateOpen = true;
+                downstream.onNext(item);
+            }
+        }
+    }
+}
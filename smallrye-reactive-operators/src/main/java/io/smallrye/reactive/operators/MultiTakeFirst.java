@@ -0,0 +1,84 @@
+package io.smallrye.reactive.operators;
+
+import io.smallrye.reactive.Multi;
+import io.smallrye.reactive.helpers.Subscriptions;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+import static io.smallrye.reactive.helpers.ParameterValidation.positiveOrZero;
+
+/**
+ * Emits the first {@code numberOfItems} items from the upstream and then cancels the upstream and completes.
+ * The requests passed to the upstream are capped to the number of items to take.
+ *
+ * @param <T> the type of item
+ */
+public class MultiTakeFirst<T> extends AbstractMultiOperator<T, T> {
+
+    private final long numberOfItems;
+
+    public MultiTakeFirst(Multi<T> upstream, int numberOfItems) {
+        super(nonNull(upstream, "upstream"));
+        this.numberOfItems = positiveOrZero(numberOfItems, "numberOfItems");
+    }
+
+    @Override
+    protected void subscribing(Subscriber<? super T> downstream) {
+        subscribeToUpstream(new TakeFirstProcessor<>(downstream, numberOfItems));
+    }
+
+    static final class TakeFirstProcessor<T> extends MultiOperatorProcessor<T, T> {
+
+        private final long numberOfItems;
+        private final AtomicLong requested = new AtomicLong();
+        private long remaining;
+
+        TakeFirstProcessor(Subscriber<? super T> downstream, long numberOfItems) {
+            super(downstream);
+            this.numberOfItems = numberOfItems;
+            this.remaining = numberOfItems;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            super.onSubscribe(subscription);
+            if (numberOfItems == 0) {
+                cancelAndComplete();
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                super.request(n);
+                return;
+            }
+            for (; ; ) {
+                long current = requested.get();
+                if (current >= numberOfItems) {
+                    return;
+                }
+                long update = Math.min(Subscriptions.add(current, n), numberOfItems);
+                if (requested.compareAndSet(current, update)) {
+                    super.request(update - current);
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (isDone()) {
+                return;
+            }
+            long r = --remaining;
+            downstream.onNext(item);
+            if (r == 0) {
+                cancelAndComplete();
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package io.smallrye.reactive.operators;
+
+import io.smallrye.reactive.Multi;
+import org.reactivestreams.Subscriber;
+
+import java.util.function.Predicate;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+
+/**
+ * Emits the items from the upstream while the given predicate returns {@code true}. On the first item not passing
+ * the predicate, the upstream is cancelled and the completion event is fired.
+ *
+ * @param <T> the type of item
+ */
+public class MultiTakeWhile<T> extends AbstractMultiOperator<T, T> {
+
+    private final Predicate<? super T> predicate;
+
+    public MultiTakeWhile(Multi<T> upstream, Predicate<? super T> predicate) {
+        super(nonNull(upstream, "upstream"));
+        this.predicate = nonNull(predicate, "predicate");
+    }
+
+    @Override
+    protected void subscribing(Subscriber<? super T> downstream) {
+        subscribeToUpstream(new TakeWhileProcessor<>(downstream, predicate));
+    }
+
+    static final class TakeWhileProcessor<T> extends MultiOperatorProcessor<T, T> {
+
+        private final Predicate<? super T> predicate;
+
+        TakeWhileProcessor(Subscriber<? super T> downstream, Predicate<? super T> predicate) {
+            super(downstream);
+            this.predicate = predicate;
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (isDone()) {
+                return;
+            }
+
+            boolean pass;
+            try {
+                pass = predicate.test(item);
+            } catch (Throwable e) {
+                cancelAndFail(e);
+                return;
+            }
+
+            if (pass) {
+                downstream.onNext(item);
+            } else {
+                cancelAndComplete();
+            }
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package io.smallrye.reactive.operators;
 
 import io.reactivex.Flowable;
+import io.reactivex.schedulers.Schedulers;
 import io.smallrye.reactive.Multi;
+import io.smallrye.reactive.infrastructure.Infrastructure;
 import org.reactivestreams.Publisher;
 
 import java.time.Duration;
@@ -20,7 +22,7 @@ public class MultiTransformation {
     }
 
     public static <T> Multi<T> skipFirst(Multi<T> upstream, int number) {
-        return new DefaultMulti<>(getFlowable(upstream).skip(number));
+        return new MultiSkipFirst<>(upstream, number);
     }
 
     public static <T> Multi<T> skipLast(Multi<T> upstream, int number) {
@@ -28,15 +30,17 @@ public class MultiTransformation {
     }
 
     public static <T> Multi<T> skipForDuration(Multi<T> upstream, Duration duration) {
-        return new DefaultMulti<>(getFlowable(upstream).skip(duration.toMillis(), TimeUnit.MILLISECONDS));
+        // Deferred, so the timer is resolved at subscription time
+        return new DefaultMulti<>(Flowable.defer(() -> getFlowable(upstream).skip(duration.toMillis(),
+                TimeUnit.MILLISECONDS, Schedulers.from(Infrastructure.getDefaultTimer()))));
     }
 
     public static <T> Multi<T> skipWhile(Multi<T> upstream, Predicate<? super T> predicate) {
-        return new DefaultMulti<>(getFlowable(upstream).skipWhile(predicate::test));
+        return new MultiSkipWhile<>(upstream, predicate);
     }
 
     public static <T> Multi<T> takeFirst(Multi<T> upstream, int number) {
-        return new DefaultMulti<>(getFlowable(upstream).take(number));
+        return new MultiTakeFirst<>(upstream, number);
     }
 
     public static <T> Multi<T> takeLast(Multi<T> upstream, int number) {
@@ -44,11 +48,13 @@ public class MultiTransformation {
     }
 
     public static <T> Multi<T> takeForDuration(Multi<T> upstream, Duration duration) {
-        return new DefaultMulti<>(getFlowable(upstream).take(duration.toMillis(), TimeUnit.MILLISECONDS));
+        // Deferred, so the timer is resolved at subscription time
+        return new DefaultMulti<>(Flowable.defer(() -> getFlowable(upstream).take(duration.toMillis(),
+                TimeUnit.MILLISECONDS, Schedulers.from(Infrastructure.getDefaultTimer()))));
     }
 
     public static <T> Multi<T> takeWhile(Multi<T> upstream, Predicate<? super T> predicate) {
-        return new DefaultMulti<>(getFlowable(upstream).takeWhile(predicate::test));
+        return new MultiTakeWhile<>(upstream, predicate);
     }
 
     public static <T> Multi<T> distinct(Multi<T> upstream) {
@@ -0,0 +1,45 @@
+package io.smallrye.reactive.operators;
+
+import org.reactivestreams.Subscriber;
+
+import java.util.function.Function;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+
+/**
+ * Applies an operation on each rail of a {@link io.smallrye.reactive.ParallelMulti}. For each rail, the given
+ * function creates the subscriber subscribed to the upstream rail and emitting to the downstream rail.
+ *
+ * @param <I> the type of item received from the upstream rails
+ * @param <O> the type of item emitted on the downstream rails
+ */
+public class ParallelMultiOperator<I, O> extends AbstractParallelMulti<O> {
+
+    private final AbstractParallelMulti<I> upstream;
+    private final Function<Subscriber<? super O>, Subscriber<I>> rail;
+
+    public ParallelMultiOperator(AbstractParallelMulti<I> upstream,
+            Function<Subscriber<? super O>, Subscriber<I>> rail) {
+        this.upstream = nonNull(upstream, "upstream");
+        this.rail = nonNull(rail, "rail");
+    }
+
+    @Override
+    public int parallelism() {
+        return upstream.parallelism();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void subscribe(Subscriber<? super O>[] subscribers) {
+        if (!validate(subscribers)) {
+            return;
+        }
+        int n = subscribers.length;
+        Subscriber<? super I>[] parents = new Subscriber[n];
+        for (int i = 0; i < n; i++) {
+            parents[i] = rail.apply(subscribers[i]);
+        }
+        upstream.subscribe(parents);
+    }
+}
@@ -0,0 +1,292 @@
+package io.smallrye.reactive.operators;
+
+import io.reactivex.Flowable;
+import io.smallrye.reactive.ParallelMulti;
+import io.smallrye.reactive.helpers.Subscriptions;
+import io.smallrye.reactive.helpers.queues.Queues;
+import io.smallrye.reactive.subscription.BackPressureFailure;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+import static io.smallrye.reactive.helpers.ParameterValidation.positive;
+
+/**
+ * Merges the rails of a {@link ParallelMulti} into a {@link io.smallrye.reactive.Multi}.
+ * <p>
+ * Each rail is requested {@code prefetch} items upfront. The items that cannot be emitted downstream are stored in a
+ * per-rail queue. The first failure cancels all the rails and is propagated downstream.
+ *
+ * @param <T> the type of item
+ */
+public class ParallelMultiSequential<T> extends AbstractMulti<T> {
+
+    private final ParallelMulti<T> upstream;
+    private final int prefetch;
+
+    public ParallelMultiSequential(ParallelMulti<T> upstream, int prefetch) {
+        this.upstream = nonNull(upstream, "upstream");
+        this.prefetch = positive(prefetch, "prefetch");
+    }
+
+    @Override
+    protected Flowable<T> flowable() {
+        return Flowable.fromPublisher(this);
+    }
+
+    @Override
+    protected void subscribing(Subscriber<? super T> downstream) {
+        JoinSubscription<T> parent = new JoinSubscription<>(downstream, upstream.parallelism(), prefetch);
+        downstream.onSubscribe(parent);
+        upstream.subscribe(parent.rails);
+    }
+
+    static final class JoinSubscription<T> implements Subscription {
+
+        private final Subscriber<? super T> downstream;
+        final JoinInner<T>[] rails;
+
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicInteger remaining;
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        private volatile boolean cancelled;
+
+        @SuppressWarnings("unchecked")
+        JoinSubscription(Subscriber<? super T> downstream, int parallelism, int prefetch) {
+            this.downstream = downstream;
+            this.remaining = new AtomicInteger(parallelism);
+            this.rails = new JoinInner[parallelism];
+            for (int i = 0; i < parallelism; i++) {
+                rails[i] = new JoinInner<>(this, prefetch);
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                downstream.onError(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            Subscriptions.add(requested, n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                cancelAll();
+                if (wip.getAndIncrement() == 0) {
+                    cleanup();
+                }
+            }
+        }
+
+        private void cancelAll() {
+            for (JoinInner<T> rail : rails) {
+                rail.cancel();
+            }
+        }
+
+        private void cleanup() {
+            for (JoinInner<T> rail : rails) {
+                rail.queue.clear();
+            }
+        }
+
+        void onNext(JoinInner<T> rail, T item) {
+            if (wip.get() == 0 && wip.compareAndSet(0, 1)) {
+                if (requested.get() != 0L && rail.queue.isEmpty()) {
+                    downstream.onNext(item);
+                    if (requested.get() != Long.MAX_VALUE) {
+                        requested.decrementAndGet();
+                    }
+                    rail.requestOne();
+                } else if (!rail.queue.offer(item)) {
+                    cancelAll();
+                    onFailure(new BackPressureFailure("Unable to store the item, the queue is full"));
+                }
+                if (wip.decrementAndGet() == 0) {
+                    return;
+                }
+            } else {
+                if (!rail.queue.offer(item)) {
+                    cancelAll();
+                    onFailure(new BackPressureFailure("Unable to store the item, the queue is full"));
+                    return;
+                }
+                if (wip.getAndIncrement() != 0) {
+                    return;
+                }
+            }
+            drainLoop();
+        }
+
+        void onFailure(Throwable throwable) {
+            if (failure.compareAndSet(null, throwable)) {
+                cancelAll();
+                drain();
+            }
+        }
+
+        void onComplete() {
+            remaining.decrementAndGet();
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            drainLoop();
+        }
+
+        private void drainLoop() {
+            int missed = 1;
+            JoinInner<T>[] inners = rails;
+            int n = inners.length;
+
+            for (; ; ) {
+                long r = requested.get();
+                long e = 0L;
+
+                while (e != r) {
+                    if (cancelled) {
+                        cleanup();
+                        return;
+                    }
+                    Throwable f = failure.get();
+                    if (f != null) {
+                        cleanup();
+                        downstream.onError(f);
+                        return;
+                    }
+
+                    boolean isDone = remaining.get() == 0;
+                    boolean empty = true;
+
+                    for (int i = 0; i < n && e != r; i++) {
+                        JoinInner<T> rail = inners[i];
+                        T item = rail.queue.poll();
+                        if (item != null) {
+                            empty = false;
+                            downstream.onNext(item);
+                            rail.requestOne();
+                            e++;
+                        }
+                    }
+
+                    if (isDone && empty) {
+                        downstream.onComplete();
+                        return;
+                    }
+                    if (empty) {
+                        break;
+                    }
+                }
+
+                if (e == r) {
+                    if (cancelled) {
+                        cleanup();
+                        return;
+                    }
+                    Throwable f = failure.get();
+                    if (f != null) {
+                        cleanup();
+                        downstream.onError(f);
+                        return;
+                    }
+                    boolean isDone = remaining.get() == 0;
+                    boolean empty = true;
+                    for (JoinInner<T> rail : inners) {
+                        if (!rail.queue.isEmpty()) {
+                            empty = false;
+                            break;
+                        }
+                    }
+                    if (isDone && empty) {
+                        downstream.onComplete();
+                        return;
+                    }
+                }
+
+                if (e != 0L && r != Long.MAX_VALUE) {
+                    requested.addAndGet(-e);
+                }
+
+                int w = wip.get();
+                if (w == missed) {
+                    missed = wip.addAndGet(-missed);
+                    if (missed == 0) {
+                        break;
+                    }
+                } else {
+                    missed = w;
+                }
+            }
+        }
+    }
+
+    static final class JoinInner<T> implements Subscriber<T> {
+
+        private final JoinSubscription<T> parent;
+        private final int prefetch;
+        private final int limit;
+        private final AtomicReference<Subscription> upstream = new AtomicReference<>();
+        final Queue<T> queue;
+
+        // Only accessed from the drain loop
+        private int produced;
+
+        JoinInner(JoinSubscription<T> parent, int prefetch) {
+            this.parent = parent;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+            this.queue = Queues.get(prefetch);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (Subscriptions.setIfEmpty(upstream, subscription)) {
+                subscription.request(prefetch);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            parent.onNext(this, item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            parent.onFailure(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            parent.onComplete();
+        }
+
+        void requestOne() {
+            int p = produced + 1;
+            if (p == limit) {
+                produced = 0;
+                upstream.get().request(p);
+            } else {
+                produced = p;
+            }
+        }
+
+        void cancel() {
+            Subscriptions.cancel(upstream);
+        }
+    }
+}
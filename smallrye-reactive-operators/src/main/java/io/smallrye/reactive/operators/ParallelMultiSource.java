@@ -0,0 +1,387 @@
+package io.smallrye.reactive.operators;
+
+import io.smallrye.reactive.Multi;
+import io.smallrye.reactive.helpers.Subscriptions;
+import io.smallrye.reactive.helpers.queues.Queues;
+import io.smallrye.reactive.subscription.BackPressureFailure;
+import io.smallrye.reactive.subscription.QueueSubscription;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+import static io.smallrye.reactive.helpers.ParameterValidation.positive;
+
+/**
+ * Splits the items emitted by the upstream {@link Multi} into {@code parallelism} rails.
+ * <p>
+ * The upstream is subscribed once, and {@code prefetch} items are requested upfront. The items are dispatched
+ * round-robin to the rails having outstanding requests. If the upstream supports {@link QueueSubscription fusion},
+ * the upstream subscription is used as queue directly.
+ *
+ * @param <T> the type of item
+ */
+public class ParallelMultiSource<T> extends AbstractParallelMulti<T> {
+
+    private final Multi<T> upstream;
+    private final int parallelism;
+    private final int prefetch;
+
+    public ParallelMultiSource(Multi<T> upstream, int parallelism, int prefetch) {
+        this.upstream = nonNull(upstream, "upstream");
+        this.parallelism = positive(parallelism, "parallelism");
+        this.prefetch = positive(prefetch, "prefetch");
+    }
+
+    @Override
+    public int parallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T>[] subscribers) {
+        if (!validate(subscribers)) {
+            return;
+        }
+        AbstractMulti.subscribeDirectly(upstream, new ParallelDispatcher<>(subscribers, prefetch));
+    }
+
+    static final class ParallelDispatcher<T> implements Subscriber<T> {
+
+        private final Subscriber<? super T>[] subscribers;
+        private final AtomicLongArray requests;
+        private final long[] emissions;
+        private final int prefetch;
+        private final int limit;
+
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicInteger subscriberCount = new AtomicInteger();
+
+        private Subscription upstream;
+        private Queue<T> queue;
+        private int sourceMode;
+
+        private volatile boolean done;
+        private volatile boolean cancelled;
+        private Throwable failure;
+
+        // Only accessed from the drain loop
+        private int index;
+        private int consumed;
+
+        ParallelDispatcher(Subscriber<? super T>[] subscribers, int prefetch) {
+            this.subscribers = subscribers;
+            this.requests = new AtomicLongArray(subscribers.length);
+            this.emissions = new long[subscribers.length];
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (upstream != null) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+
+            if (subscription instanceof QueueSubscription) {
+                QueueSubscription<T> qs = (QueueSubscription<T>) subscription;
+                int mode = qs.requestFusion(QueueSubscription.ANY);
+                if (mode == QueueSubscription.SYNC) {
+                    sourceMode = mode;
+                    queue = qs;
+                    done = true;
+                    subscribeRails();
+                    drain();
+                    return;
+                }
+                if (mode == QueueSubscription.ASYNC) {
+                    sourceMode = mode;
+                    queue = qs;
+                    subscribeRails();
+                    subscription.request(prefetch);
+                    return;
+                }
+            }
+
+            queue = Queues.get(prefetch);
+            subscribeRails();
+            subscription.request(prefetch);
+        }
+
+        private void subscribeRails() {
+            int n = subscribers.length;
+            for (int i = 0; i < n; i++) {
+                if (cancelled) {
+                    return;
+                }
+                subscriberCount.lazySet(i + 1);
+                subscribers[i].onSubscribe(new RailSubscription(i, n));
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (sourceMode == QueueSubscription.NONE) {
+                if (!queue.offer(item)) {
+                    upstream.cancel();
+                    onError(new BackPressureFailure("Unable to dispatch the item, the queue is full"));
+                    return;
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (done) {
+                return;
+            }
+            failure = throwable;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            drain();
+        }
+
+        private void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                upstream.cancel();
+                if (wip.getAndIncrement() == 0) {
+                    queue.clear();
+                }
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            if (sourceMode == QueueSubscription.SYNC) {
+                drainSync();
+            } else {
+                drainAsync();
+            }
+        }
+
+        private void drainAsync() {
+            int missed = 1;
+            Queue<T> q = queue;
+            Subscriber<? super T>[] rails = subscribers;
+            int n = rails.length;
+            int idx = index;
+            int c = consumed;
+
+            for (; ; ) {
+                int notReady = 0;
+                for (; ; ) {
+                    if (cancelled) {
+                        q.clear();
+                        return;
+                    }
+
+                    boolean isDone = done;
+                    if (isDone) {
+                        Throwable f = failure;
+                        if (f != null) {
+                            q.clear();
+                            for (Subscriber<? super T> rail : rails) {
+                                rail.onError(f);
+                            }
+                            return;
+                        }
+                    }
+
+                    boolean empty = q.isEmpty();
+                    if (isDone && empty) {
+                        for (Subscriber<? super T> rail : rails) {
+                            rail.onComplete();
+                        }
+                        return;
+                    }
+                    if (empty) {
+                        break;
+                    }
+
+                    long emitted = emissions[idx];
+                    if (requests.get(idx) != emitted) {
+                        T item;
+                        try {
+                            item = q.poll();
+                        } catch (Throwable e) {
+                            upstream.cancel();
+                            for (Subscriber<? super T> rail : rails) {
+                                rail.onError(e);
+                            }
+                            return;
+                        }
+                        if (item == null) {
+                            break;
+                        }
+
+                        rails[idx].onNext(item);
+                        emissions[idx] = emitted + 1;
+
+                        if (++c == limit) {
+                            c = 0;
+                            upstream.request(limit);
+                        }
+                        notReady = 0;
+                    } else {
+                        notReady++;
+                    }
+
+                    if (++idx == n) {
+                        idx = 0;
+                    }
+
+                    if (notReady == n) {
+                        break;
+                    }
+                }
+
+                int w = wip.get();
+                if (w == missed) {
+                    index = idx;
+                    consumed = c;
+                    missed = wip.addAndGet(-missed);
+                    if (missed == 0) {
+                        break;
+                    }
+                } else {
+                    missed = w;
+                }
+            }
+        }
+
+        private void drainSync() {
+            int missed = 1;
+            Queue<T> q = queue;
+            Subscriber<? super T>[] rails = subscribers;
+            int n = rails.length;
+            int idx = index;
+
+            for (; ; ) {
+                int notReady = 0;
+                for (; ; ) {
+                    if (cancelled) {
+                        q.clear();
+                        return;
+                    }
+
+                    boolean empty;
+                    try {
+                        empty = q.isEmpty();
+                    } catch (Throwable e) {
+                        upstream.cancel();
+                        for (Subscriber<? super T> rail : rails) {
+                            rail.onError(e);
+                        }
+                        return;
+                    }
+                    if (empty) {
+                        for (Subscriber<? super T> rail : rails) {
+                            rail.onComplete();
+                        }
+                        return;
+                    }
+
+                    long emitted = emissions[idx];
+                    if (requests.get(idx) != emitted) {
+                        T item;
+                        try {
+                            item = q.poll();
+                        } catch (Throwable e) {
+                            upstream.cancel();
+                            for (Subscriber<? super T> rail : rails) {
+                                rail.onError(e);
+                            }
+                            return;
+                        }
+                        if (item == null) {
+                            for (Subscriber<? super T> rail : rails) {
+                                rail.onComplete();
+                            }
+                            return;
+                        }
+
+                        rails[idx].onNext(item);
+                        emissions[idx] = emitted + 1;
+                        notReady = 0;
+                    } else {
+                        notReady++;
+                    }
+
+                    if (++idx == n) {
+                        idx = 0;
+                    }
+
+                    if (notReady == n) {
+                        break;
+                    }
+                }
+
+                int w = wip.get();
+                if (w == missed) {
+                    index = idx;
+                    missed = wip.addAndGet(-missed);
+                    if (missed == 0) {
+                        break;
+                    }
+                } else {
+                    missed = w;
+                }
+            }
+        }
+
+        private final class RailSubscription implements Subscription {
+            private final int rail;
+            private final int parallelism;
+
+            RailSubscription(int rail, int parallelism) {
+                this.rail = rail;
+                this.parallelism = parallelism;
+            }
+
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    cancel();
+                    subscribers[rail].onError(Subscriptions.getInvalidRequestException());
+                    return;
+                }
+                for (; ; ) {
+                    long current = requests.get(rail);
+                    if (current == Long.MAX_VALUE) {
+                        return;
+                    }
+                    if (requests.compareAndSet(rail, current, Subscriptions.add(current, n))) {
+                        break;
+                    }
+                }
+                // Wait until all the rails are subscribed before dispatching
+                if (subscriberCount.get() == parallelism) {
+                    drain();
+                }
+            }
+
+            @Override
+            public void cancel() {
+                ParallelDispatcher.this.cancel();
+            }
+        }
+    }
+}
@@ -9,31 +9,63 @@ import org.reactivestreams.Subscription;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import static io.smallrye.reactive.helpers.EmptyUniSubscription.CANCELLED;
+import static io.smallrye.reactive.helpers.ParameterValidation.positive;
 
 public class UniAndCombination<I, O> extends UniOperator<I, O> {
 
-    private static final Object SENTINEL = new Object();
-
-    private final Function<List<?>, O> combinator;
-    private final List<Uni<?>> unis;
+    private final Function<Object[], O> combinator;
+    private final Uni<?>[] unis;
     private final boolean collectAllFailureBeforeFiring;
-
+    private final int concurrency;
+
+    /**
+     * Creates a new {@link UniAndCombination}.
+     *
+     * @param upstream the first {@link Uni}, can be {@code null}
+     * @param others the other {@link Uni unis}
+     * @param combinator the combinator receiving the items as an array, in the order of the {@link Uni unis},
+     *        starting with {@code upstream} if not {@code null}
+     * @param collectAllFailureBeforeFiring whether all the failures must be collected before firing the failure
+     */
     public UniAndCombination(Uni<? extends I> upstream, List<? extends Uni<?>> others,
-            Function<List<?>, O> combinator,
+            Function<Object[], O> combinator,
             boolean collectAllFailureBeforeFiring) {
+        this(upstream, others, combinator, collectAllFailureBeforeFiring, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a new {@link UniAndCombination} subscribing to at most {@code concurrency} {@link Uni unis}
+     * concurrently. The next {@link Uni} is subscribed when one of the subscribed {@link Uni unis} fires an event.
+     * The items are still passed to the combinator in the order of the {@link Uni unis}.
+     *
+     * @param upstream the first {@link Uni}, can be {@code null}
+     * @param others the other {@link Uni unis}
+     * @param combinator the combinator receiving the items as an array, in the order of the {@link Uni unis},
+     *        starting with {@code upstream} if not {@code null}
+     * @param collectAllFailureBeforeFiring whether all the failures must be collected before firing the failure
+     * @param concurrency the maximum number of {@link Uni unis} subscribed concurrently, must be strictly positive
+     */
+    public UniAndCombination(Uni<? extends I> upstream, List<? extends Uni<?>> others,
+            Function<Object[], O> combinator,
+            boolean collectAllFailureBeforeFiring, int concurrency) {
         super(upstream);
+        this.concurrency = positive(concurrency, "concurrency");
 
-        this.unis = new ArrayList<>();
         // upstream can be null when using the all (static) operator.
+        int offset = upstream != null ? 1 : 0;
+        this.unis = new Uni<?>[others.size() + offset];
         if (upstream != null) {
-            this.unis.add(upstream);
+            this.unis[0] = upstream;
+        }
+        int index = offset;
+        for (Uni<?> uni : others) {
+            this.unis[index++] = uni;
         }
-        this.unis.addAll(others);
 
         this.combinator = combinator;
         this.collectAllFailureBeforeFiring = collectAllFailureBeforeFiring;
@@ -49,29 +81,71 @@ public class UniAndCombination<I, O> extends UniOperator<I, O> {
 
     private class AndSupervisor implements UniSubscription {
 
-        private final List<UniHandler> handlers = new ArrayList<>();
+        private final UniHandler[] handlers;
+        private final Object[] items;
         private final UniSerializedSubscriber<? super O> subscriber;
 
+        /**
+         * The number of {@link Uni unis} that have not fired an event yet.
+         */
+        private final AtomicInteger remaining;
+
         AtomicBoolean cancelled = new AtomicBoolean();
 
+        private final AtomicInteger wip = new AtomicInteger();
+
+        /**
+         * The index of the next {@link Uni} to subscribe, only accessed from {@link #subscribeNext()}.
+         */
+        private int next;
+
+        @SuppressWarnings("unchecked")
         AndSupervisor(UniSerializedSubscriber<? super O> sub) {
             subscriber = sub;
-
-            for (Uni u : unis) {
-                UniHandler result = new UniHandler(this, u);
-                handlers.add(result);
+            handlers = (UniHandler[]) new UniAndCombination.UniHandler[unis.length];
+            items = new Object[unis.length];
+            remaining = new AtomicInteger(unis.length);
+            for (int i = 0; i < unis.length; i++) {
+                handlers[i] = new UniHandler(this, unis[i], i);
             }
-
         }
 
         private void run() {
-            handlers.forEach(UniHandler::subscribe);
+            subscribeNext();
+        }
+
+        /**
+         * Subscribes to the next {@link Uni unis} while the number of {@link Uni unis} in flight is lower than the
+         * concurrency. The loop is not reentrant, so {@link Uni unis} firing their events during the subscription do
+         * not increase the stack depth.
+         */
+        private void subscribeNext() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            for (; ; ) {
+                while (next < handlers.length && !cancelled.get()
+                        && next - (handlers.length - remaining.get()) < concurrency) {
+                    handlers[next++].subscribe();
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
         }
 
         @Override
         public void cancel() {
             if (cancelled.compareAndSet(false, true)) {
-                handlers.forEach(UniHandler::cancel);
+                cancelAll();
+            }
+        }
+
+        private void cancelAll() {
+            for (UniHandler handler : handlers) {
+                handler.cancel();
             }
         }
 
@@ -83,38 +157,39 @@ public class UniAndCombination<I, O> extends UniOperator<I, O> {
          * @param failed whether the {@code res} just fired a failure
          */
         void check(UniHandler res, boolean failed) {
-            int incomplete = unis.size();
-
             // One of the uni failed, and we can fire a failure immediately.
             if (failed && !collectAllFailureBeforeFiring) {
                 if (cancelled.compareAndSet(false, true)) {
                     // Cancel all subscriptions
-                    handlers.forEach(UniHandler::cancel);
+                    cancelAll();
                     // Invoke observer
                     subscriber.onFailure(res.failure);
                 }
                 return;
             }
 
-            for (UniHandler result : handlers) {
-                if (result.failure != null || result.item != SENTINEL) {
-                    incomplete = incomplete - 1;
-                }
-            }
-
-            if (incomplete == 0) {
+            if (remaining.decrementAndGet() == 0) {
                 // All unis has fired an event, check the outcome
                 if (cancelled.compareAndSet(false, true)) {
-                    List<Throwable> failures = getFailures();
-                    List<Object> items = getItems();
-                    computeAndFireTheOutcome(failures, items);
+                    computeAndFireTheOutcome();
                 }
+            } else if (concurrency < handlers.length) {
+                subscribeNext();
             }
-
         }
 
-        private void computeAndFireTheOutcome(List<Throwable> failures, List<Object> items) {
-            if (failures.isEmpty()) {
+        private void computeAndFireTheOutcome() {
+            List<Throwable> failures = null;
+            for (UniHandler handler : handlers) {
+                if (handler.failure != null) {
+                    if (failures == null) {
+                        failures = new ArrayList<>();
+                    }
+                    failures.add(handler.failure);
+                }
+            }
+
+            if (failures == null) {
                 O aggregated;
                 try {
                     aggregated = combinator.apply(items);
@@ -130,18 +205,6 @@ public class UniAndCombination<I, O> extends UniOperator<I, O> {
                 subscriber.onFailure(new CompositeException(failures));
             }
         }
-
-        private List<Object> getItems() {
-            return this.handlers.stream()
-                    .map(u -> u.item)
-                    .collect(Collectors.toList());
-        }
-
-        private List<Throwable> getFailures() {
-            return handlers.stream()
-                    .filter(u -> u.failure != null).map(u -> u.failure)
-                    .collect(Collectors.toList());
-        }
     }
 
     private class UniHandler implements UniSubscription, UniSubscriber {
@@ -149,12 +212,13 @@ public class UniAndCombination<I, O> extends UniOperator<I, O> {
         final AtomicReference<UniSubscription> subscription = new AtomicReference<>();
         private final AndSupervisor supervisor;
         private final Uni uni;
-        Object item = SENTINEL;
+        private final int index;
         Throwable failure;
 
-        UniHandler(AndSupervisor supervisor, Uni observed) {
+        UniHandler(AndSupervisor supervisor, Uni observed, int index) {
             this.supervisor = supervisor;
             this.uni = observed;
+            this.index = index;
         }
 
         @Override
@@ -182,7 +246,8 @@ public class UniAndCombination<I, O> extends UniOperator<I, O> {
                 // Already cancelled, do nothing
                 return;
             }
-            this.item = x;
+            // Written before the countdown, read after having observed the countdown reaching 0
+            supervisor.items[index] = x;
             supervisor.check(this, false);
         }
 
@@ -8,8 +8,9 @@ import io.smallrye.reactive.subscription.UniSubscription;
 import java.time.Duration;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
 
 import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
 
@@ -23,49 +24,30 @@ public class UniBlockingAwait {
         nonNull(upstream, "upstream");
         validate(duration);
 
-        CountDownLatch latch = new CountDownLatch(1);
-        AtomicReference<T> reference = new AtomicReference<>();
-        AtomicReference<Throwable> referenceToFailure = new AtomicReference<>();
-        nonNull(upstream, "upstream").subscribe().withSubscriber(new UniSubscriber<T>() {
-            @Override
-            public void onSubscribe(UniSubscription subscription) {
-                // Do nothing.
-            }
-
-            @Override
-            public void onItem(T item) {
-                reference.set(item);
-                latch.countDown();
-            }
-
-            @Override
-            public void onFailure(Throwable failure) {
-                referenceToFailure.compareAndSet(null, failure);
-                latch.countDown();
-            }
-        });
+        AwaitSubscriber<T> subscriber = new AwaitSubscriber<>();
+        upstream.subscribe().withSubscriber(subscriber);
 
-        try {
-            if (duration != null) {
-                if (!latch.await(duration.toMillis(), TimeUnit.MILLISECONDS)) {
-                    referenceToFailure.compareAndSet(null, new TimeoutException());
+        // When the upstream emits synchronously (resolved items, cached items...), the latch is already released
+        // and we avoid parking the thread.
+        if (subscriber.getCount() != 0) {
+            try {
+                if (!subscriber.block(duration)) {
+                    subscriber.fail(new TimeoutException());
                 }
-            } else {
-                latch.await();
+            } catch (InterruptedException e) {
+                subscriber.fail(e);
+                Thread.currentThread().interrupt();
             }
-        } catch (InterruptedException e) {
-            referenceToFailure.compareAndSet(null, e);
-            Thread.currentThread().interrupt();
         }
 
-        Throwable throwable = referenceToFailure.get();
+        Throwable throwable = subscriber.failure;
         if (throwable != null) {
             if (throwable instanceof RuntimeException) {
                 throw (RuntimeException) throwable;
             }
             throw new CompletionException(throwable);
         } else {
-            return reference.get();
+            return subscriber.item;
         }
     }
 
@@ -77,4 +59,91 @@ public class UniBlockingAwait {
             throw new IllegalArgumentException("`duration` must be greater than zero`");
         }
     }
+
+    /**
+     * The subscriber is also the latch, so a single object is allocated per call.
+     * The fields are written before the count down and read after it.
+     * <p>
+     * The latch parks the calling thread, so a virtual thread releases its carrier thread while waiting. When the
+     * caller is a {@link ForkJoinPool} worker, the wait is declared to the pool, which can compensate with another
+     * worker, so awaiting from the default worker pool does not starve it.
+     */
+    @SuppressWarnings("serial")
+    private static final class AwaitSubscriber<T> extends CountDownLatch
+            implements UniSubscriber<T>, ForkJoinPool.ManagedBlocker {
+
+        private volatile T item;
+        private volatile Throwable failure;
+
+        /**
+         * The deadline in nanoseconds when waiting with a timeout, only used by the calling thread.
+         */
+        private long deadline;
+        private boolean timed;
+
+        AwaitSubscriber() {
+            super(1);
+        }
+
+        /**
+         * Waits for the event.
+         *
+         * @param duration the maximum duration, {@code null} to wait indefinitely
+         * @return {@code true} if the event has been received, {@code false} on timeout
+         * @throws InterruptedException if the thread is interrupted while waiting
+         */
+        boolean block(Duration duration) throws InterruptedException {
+            if (Thread.currentThread() instanceof ForkJoinWorkerThread) {
+                if (duration != null) {
+                    timed = true;
+                    deadline = System.nanoTime() + duration.toNanos();
+                }
+                ForkJoinPool.managedBlock(this);
+                return getCount() == 0;
+            }
+            if (duration != null) {
+                return await(duration.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            await();
+            return true;
+        }
+
+        @Override
+        public boolean block() throws InterruptedException {
+            if (timed) {
+                await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } else {
+                await();
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return getCount() == 0 || (timed && deadline - System.nanoTime() <= 0);
+        }
+
+        @Override
+        public void onSubscribe(UniSubscription subscription) {
+            // Do nothing.
+        }
+
+        @Override
+        public void onItem(T item) {
+            this.item = item;
+            countDown();
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            fail(failure);
+            countDown();
+        }
+
+        synchronized void fail(Throwable failure) {
+            if (this.failure == null) {
+                this.failure = failure;
+            }
+        }
+    }
 }
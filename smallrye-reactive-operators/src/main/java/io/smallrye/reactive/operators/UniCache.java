@@ -4,21 +4,34 @@ import io.smallrye.reactive.Uni;
 import io.smallrye.reactive.subscription.UniSubscriber;
 import io.smallrye.reactive.subscription.UniSubscription;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static io.smallrye.reactive.helpers.EmptyUniSubscription.CANCELLED;
 import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
 
+/**
+ * Caches the item or failure emitted by the upstream and replays it to all subscribers.
+ * <p>
+ * The subscribers waiting for the outcome are kept in a copy-on-write array updated with CAS operations. Once the
+ * outcome is known, the array is replaced by a terminal marker and new subscribers receive the outcome directly
+ * without any write to shared state.
+ *
+ * @param <I> the type of item
+ */
 public class UniCache<I> extends UniOperator<I, I> implements UniSubscriber<I> {
 
-    private static final int NOT_INITIALIZED = 0;
-    private static final int SUBSCRIBING = 1;
-    private static final int SUBSCRIBED = 2;
-    private static final int COMPLETED = 3;
+    @SuppressWarnings("rawtypes")
+    private static final CacheSubscription[] EMPTY = new CacheSubscription[0];
+    @SuppressWarnings("rawtypes")
+    private static final CacheSubscription[] TERMINATED = new CacheSubscription[0];
+
+    @SuppressWarnings("unchecked")
+    private final AtomicReference<CacheSubscription<I>[]> subscribers = new AtomicReference<>(EMPTY);
+    private final AtomicBoolean subscribed = new AtomicBoolean();
     private final AtomicReference<UniSubscription> subscription = new AtomicReference<>();
-    private final List<UniSubscriber<? super I>> subscribers = new ArrayList<>();
-    private int state = 0;
+
+    // Written before the subscribers are set to TERMINATED, read after having observed TERMINATED
     private I item;
     private Throwable failure;
 
@@ -28,56 +41,29 @@ public class UniCache<I> extends UniOperator<I, I> implements UniSubscriber<I> {
 
     @Override
     protected void subscribing(UniSerializedSubscriber<? super I> subscriber) {
-        Runnable action = null;
-        synchronized (this) {
-            switch (state) {
-                case NOT_INITIALIZED:
-                    // First subscriber,
-                    state = SUBSCRIBING;
-                    action = () -> upstream().subscribe().withSubscriber(this);
-                    subscribers.add(subscriber);
-                    break;
-                case SUBSCRIBING:
-                    // Subscription pending
-                    subscribers.add(subscriber);
-                    break;
-                case SUBSCRIBED:
-                    // No item yet, but we can provide a Subscription
-                    subscribers.add(subscriber);
-                    action = () ->
-                            subscriber.onSubscribe(() -> onCancellation(subscriber));
-                    break;
-                case COMPLETED:
-                    // Result already computed
-                    subscribers.add(subscriber);
-                    action = () -> {
-                        // We must first pass a subscription
-                        subscriber.onSubscribe(() -> onCancellation(subscriber));
-                        replay(subscriber);
-                    };
-                    break;
-                default:
-                    throw new IllegalStateException("Unknown state: " + state);
-            }
+        if (subscribers.get() == TERMINATED) {
+            // Result already computed. Cancelling the subscription is handled by the serialized subscriber.
+            subscriber.onSubscribe(CANCELLED);
+            replay(subscriber);
+            return;
         }
 
-        // Execute outside of the synchronized await
-        if (action != null) {
-            action.run();
+        CacheSubscription<I> inner = new CacheSubscription<>(subscriber, this);
+        subscriber.onSubscribe(inner);
+        if (add(inner)) {
+            if (inner.cancelled) {
+                // Cancelled from onSubscribe
+                remove(inner);
+            } else if (subscribed.compareAndSet(false, true)) {
+                // First subscriber
+                upstream().subscribe().withSubscriber(this);
+            }
+        } else {
+            replay(subscriber);
         }
     }
 
-    private synchronized void onCancellation(UniSubscriber<? super I> subscriber) {
-        subscribers.remove(subscriber);
-    }
-
     private void replay(UniSubscriber<? super I> subscriber) {
-        synchronized (this) {
-            if (state != COMPLETED) {
-                throw new IllegalStateException(
-                        "Invalid state - expected being in the DONE state, but is in state: " + state);
-            }
-        }
         if (failure != null) {
             subscriber.onFailure(failure);
         } else {
@@ -85,56 +71,111 @@ public class UniCache<I> extends UniOperator<I, I> implements UniSubscriber<I> {
         }
     }
 
+    private boolean add(CacheSubscription<I> inner) {
+        for (; ; ) {
+            CacheSubscription<I>[] current = subscribers.get();
+            if (current == TERMINATED) {
+                return false;
+            }
+            int n = current.length;
+            @SuppressWarnings("unchecked")
+            CacheSubscription<I>[] updated = new CacheSubscription[n + 1];
+            System.arraycopy(current, 0, updated, 0, n);
+            updated[n] = inner;
+            if (subscribers.compareAndSet(current, updated)) {
+                return true;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void remove(CacheSubscription<I> inner) {
+        for (; ; ) {
+            CacheSubscription<I>[] current = subscribers.get();
+            int n = current.length;
+            if (n == 0) {
+                return;
+            }
+            int index = -1;
+            for (int i = 0; i < n; i++) {
+                if (current[i] == inner) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                return;
+            }
+            CacheSubscription<I>[] updated;
+            if (n == 1) {
+                updated = EMPTY;
+            } else {
+                updated = new CacheSubscription[n - 1];
+                System.arraycopy(current, 0, updated, 0, index);
+                System.arraycopy(current, index + 1, updated, index, n - index - 1);
+            }
+            if (subscribers.compareAndSet(current, updated)) {
+                return;
+            }
+        }
+    }
+
     @Override
     public void onSubscribe(UniSubscription subscription) {
-        List<UniSubscriber<? super I>> list;
-        synchronized (this) {
-            if (!this.subscription.compareAndSet(null, subscription)) {
-                throw new IllegalStateException("Invalid state - received a second subscription from source");
-            }
-            state = SUBSCRIBED;
-            list = new ArrayList<>(subscribers);
+        if (!this.subscription.compareAndSet(null, subscription)) {
+            throw new IllegalStateException("Invalid state - received a second subscription from source");
         }
-        list.forEach(s -> s.onSubscribe(() -> onCancellation(s)));
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public void onItem(I item) {
-        List<UniSubscriber<? super I>> list;
-        synchronized (this) {
-            if (state != SUBSCRIBED) {
-                throw new IllegalStateException(
-                        "Invalid state - received item while we where not in the SUBSCRIBED state, current state is: "
-                                + state);
-            }
-            state = COMPLETED;
-            this.item = item;
-            list = new ArrayList<>(subscribers);
-            // Clear the list
-            this.subscribers.clear();
+        if (subscribers.get() == TERMINATED) {
+            throw new IllegalStateException("Invalid state - received item while we were already completed");
         }
-        // Here we may notify a subscriber that would have cancelled its subscription just after the synchronized await
+        this.item = item;
+        // Here we may notify a subscriber that would have cancelled its subscription concurrently,
         // we consider it as pending cancellation.
-        list.forEach(s -> s.onItem(item));
+        for (CacheSubscription<I> inner : subscribers.getAndSet(TERMINATED)) {
+            if (!inner.cancelled) {
+                inner.downstream.onItem(item);
+            }
+        }
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public void onFailure(Throwable failure) {
-        List<UniSubscriber<? super I>> list;
-        synchronized (this) {
-            if (state != SUBSCRIBED) {
-                throw new IllegalStateException(
-                        "Invalid state - received item while we where not in the SUBSCRIBED state, current state is: "
-                                + state);
-            }
-            state = COMPLETED;
-            this.failure = failure;
-            list = new ArrayList<>(subscribers);
-            // Clear the list
-            this.subscribers.clear();
+        if (subscribers.get() == TERMINATED) {
+            throw new IllegalStateException("Invalid state - received failure while we were already completed");
         }
-        // Here we may notify a subscriber that would have cancelled its subscription just after the synchronized await
+        this.failure = failure;
+        // Here we may notify a subscriber that would have cancelled its subscription concurrently,
         // we consider it as pending cancellation.
-        list.forEach(s -> s.onFailure(failure));
+        for (CacheSubscription<I> inner : subscribers.getAndSet(TERMINATED)) {
+            if (!inner.cancelled) {
+                inner.downstream.onFailure(failure);
+            }
+        }
+    }
+
+    private static final class CacheSubscription<I> implements UniSubscription {
+
+        private final UniSubscriber<? super I> downstream;
+        private final UniCache<I> parent;
+        private volatile boolean cancelled;
+
+        private CacheSubscription(UniSubscriber<? super I> downstream, UniCache<I> parent) {
+            this.downstream = downstream;
+            this.parent = parent;
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                parent.remove(this);
+            }
+        }
     }
 }
@@ -0,0 +1,160 @@
+package io.smallrye.reactive.operators;
+
+import io.smallrye.reactive.CachedUni;
+import io.smallrye.reactive.Uni;
+import io.smallrye.reactive.subscription.UniSubscriber;
+import io.smallrye.reactive.subscription.UniSubscription;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+import static io.smallrye.reactive.helpers.ParameterValidation.validate;
+
+/**
+ * Caches the item or failure emitted by the upstream for a limited amount of time.
+ * <p>
+ * Each subscription to the upstream is represented by a {@link Generation} wrapping a {@link UniCache}. The current
+ * generation is replaced using CAS operations, so when the cached outcome expires, a single subscriber subscribes to
+ * the upstream and the concurrent subscribers join the new generation.
+ *
+ * @param <I> the type of item
+ */
+public class UniCacheWithExpiry<I> extends UniOperator<I, I> implements CachedUni<I> {
+
+    private final long itemTtl;
+    private final long failureTtl;
+    private final long refreshAhead;
+
+    private final AtomicReference<Generation<I>> current = new AtomicReference<>();
+
+    UniCacheWithExpiry(Uni<? extends I> upstream, Duration ttl) {
+        this(upstream, validate(ttl, "ttl").toNanos(), ttl.toNanos(), 0L);
+    }
+
+    UniCacheWithExpiry(Uni<? extends I> upstream, Duration ttl, Duration failureTtl) {
+        this(upstream, validate(ttl, "ttl").toNanos(), validateFailureTtl(failureTtl), 0L);
+    }
+
+    private UniCacheWithExpiry(Uni<? extends I> upstream, long itemTtl, long failureTtl, long refreshAhead) {
+        super(nonNull(upstream, "upstream"));
+        this.itemTtl = itemTtl;
+        this.failureTtl = failureTtl;
+        this.refreshAhead = refreshAhead;
+    }
+
+    @Override
+    public CachedUni<I> withFailureTtl(Duration ttl) {
+        return new UniCacheWithExpiry<>(upstream(), itemTtl, validateFailureTtl(ttl), refreshAhead);
+    }
+
+    private static long validateFailureTtl(Duration ttl) {
+        nonNull(ttl, "ttl");
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("`ttl` must be greater than or equal to zero");
+        }
+        return ttl.toNanos();
+    }
+
+    @Override
+    public CachedUni<I> withRefreshAhead(Duration duration) {
+        long nanos = validate(duration, "duration").toNanos();
+        if (nanos >= itemTtl) {
+            throw new IllegalArgumentException("`duration` must be shorter than the item time-to-live");
+        }
+        return new UniCacheWithExpiry<>(upstream(), itemTtl, failureTtl, nanos);
+    }
+
+    @Override
+    public void invalidate() {
+        current.set(null);
+    }
+
+    /**
+     * @return {@code true} if the cached outcome has expired, {@code false} if there is no cached outcome yet, or if
+     * it is still valid
+     */
+    boolean isExpired() {
+        Generation<I> generation = current.get();
+        return generation != null && generation.isExpired(System.nanoTime());
+    }
+
+    @Override
+    protected void subscribing(UniSerializedSubscriber<? super I> subscriber) {
+        for (; ; ) {
+            Generation<I> generation = current.get();
+            long now = System.nanoTime();
+            if (generation != null && !generation.isExpired(now)) {
+                if (generation.shouldRefresh(now)) {
+                    refresh(generation);
+                }
+                generation.cache.subscribe().withSubscriber(subscriber);
+                return;
+            }
+            Generation<I> next = new Generation<>(this);
+            if (current.compareAndSet(generation, next)) {
+                next.cache.subscribe().withSubscriber(subscriber);
+                return;
+            }
+            // Another subscriber installed a new generation, use it.
+        }
+    }
+
+    private void refresh(Generation<I> generation) {
+        Generation<I> next = new Generation<>(this);
+        next.cache.subscribe().withSubscriber(new UniSubscriber<I>() {
+            @Override
+            public void onSubscribe(UniSubscription subscription) {
+                // Do nothing.
+            }
+
+            @Override
+            public void onItem(I item) {
+                // Only replace the refreshed generation, it may have been invalidated or replaced in the meantime.
+                current.compareAndSet(generation, next);
+            }
+
+            @Override
+            public void onFailure(Throwable failure) {
+                // Keep the stale item until its expiration, and allow another refresh attempt.
+                generation.refreshing.set(false);
+            }
+        });
+    }
+
+    private static final class Generation<I> {
+
+        private final UniCache<I> cache;
+        private final long refreshAhead;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        // Set when the outcome is received, before the waiting subscribers are notified
+        private volatile boolean resolved;
+        private volatile boolean failed;
+        private volatile long expiresAt;
+
+        Generation(UniCacheWithExpiry<I> parent) {
+            this.refreshAhead = parent.refreshAhead;
+            this.cache = new UniCache<>(new UniOnEventConsume<>(parent.upstream(),
+                    i -> resolved(parent.itemTtl, false),
+                    f -> resolved(parent.failureTtl, true)));
+        }
+
+        private void resolved(long ttl, boolean failure) {
+            expiresAt = System.nanoTime() + ttl;
+            failed = failure;
+            resolved = true;
+        }
+
+        boolean isExpired(long now) {
+            return resolved && now - expiresAt >= 0;
+        }
+
+        boolean shouldRefresh(long now) {
+            return refreshAhead != 0L && resolved && !failed
+                    && now - (expiresAt - refreshAhead) >= 0
+                    && refreshing.compareAndSet(false, true);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.smallrye.reactive.operators;
+
+import static io.smallrye.reactive.helpers.EmptyUniSubscription.propagateFailureEvent;
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+
+/**
+ * A {@link io.smallrye.reactive.Uni} emitting a failure already known at assembly time.
+ * <p>
+ * Operators can retrieve the failure using {@link #failure()} to avoid subscribing to this {@code Uni}.
+ *
+ * @param <T> the type of item
+ */
+public class UniCreateFromKnownFailure<T> extends AbstractUni<T> {
+
+    private final Throwable failure;
+
+    public UniCreateFromKnownFailure(Throwable failure) {
+        this.failure = nonNull(failure, "failure");
+    }
+
+    /**
+     * @return the failure, not {@code null}
+     */
+    public Throwable failure() {
+        return failure;
+    }
+
+    @Override
+    protected void subscribing(UniSerializedSubscriber<? super T> subscriber) {
+        propagateFailureEvent(subscriber, failure);
+    }
+}
@@ -0,0 +1,32 @@
+package io.smallrye.reactive.operators;
+
+import static io.smallrye.reactive.helpers.EmptyUniSubscription.CANCELLED;
+
+/**
+ * A {@link io.smallrye.reactive.Uni} emitting an item already known at assembly time.
+ * <p>
+ * Operators can retrieve the item using {@link #item()} to avoid subscribing to this {@code Uni}.
+ *
+ * @param <T> the type of item
+ */
+public class UniCreateFromKnownItem<T> extends AbstractUni<T> {
+
+    private final T item;
+
+    public UniCreateFromKnownItem(T item) {
+        this.item = item;
+    }
+
+    /**
+     * @return the item, potentially {@code null}
+     */
+    public T item() {
+        return item;
+    }
+
+    @Override
+    protected void subscribing(UniSerializedSubscriber<? super T> subscriber) {
+        subscriber.onSubscribe(CANCELLED);
+        subscriber.onItem(item);
+    }
+}
@@ -1,6 +1,7 @@
 package io.smallrye.reactive.operators;
 
 import io.smallrye.reactive.Uni;
+import io.smallrye.reactive.infrastructure.Infrastructure;
 import io.smallrye.reactive.subscription.UniSubscription;
 
 import java.time.Duration;
@@ -20,7 +21,12 @@ public class UniDelayOnItem<T> extends UniOperator<T, T> {
     public UniDelayOnItem(Uni<T> upstream, Duration duration, ScheduledExecutorService executor) {
         super(nonNull(upstream, "upstream"));
         this.duration = validate(duration, "duration");
-        this.executor = nonNull(executor, "executor");
+        this.executor = executor;
+    }
+
+    private ScheduledExecutorService timer() {
+        // Resolved at subscription time, so assembling the pipeline does not create the default executors.
+        return executor == null ? Infrastructure.getDefaultTimer() : executor;
     }
 
     @Override
@@ -47,7 +53,7 @@ public class UniDelayOnItem<T> extends UniOperator<T, T> {
             public void onItem(T item) {
                 if (reference.get() != CANCELLED) {
                     try {
-                        ScheduledFuture<?> future = executor
+                        ScheduledFuture<?> future = timer()
                                 .schedule(() -> super.onItem(item), duration.toMillis(), TimeUnit.MILLISECONDS);
                         holder.set(future);
                     } catch (RuntimeException e) {
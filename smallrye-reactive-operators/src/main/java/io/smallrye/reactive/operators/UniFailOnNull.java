@@ -0,0 +1,35 @@
+package io.smallrye.reactive.operators;
+
+import io.smallrye.reactive.Uni;
+
+import java.util.function.Supplier;
+
+import static io.smallrye.reactive.helpers.ParameterValidation.SUPPLIER_PRODUCED_NULL;
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+
+public class UniFailOnNull<T> extends UniFusableOperator<T, T> {
+
+    private final Supplier<? extends Throwable> supplier;
+
+    public UniFailOnNull(Uni<T> upstream, Supplier<? extends Throwable> supplier) {
+        super(nonNull(upstream, "upstream"));
+        this.supplier = nonNull(supplier, "supplier");
+    }
+
+    @Override
+    protected T applyOnItem(T item) throws Throwable {
+        if (item != null) {
+            return item;
+        }
+        Throwable throwable = supplier.get();
+        if (throwable == null) {
+            throw new NullPointerException(SUPPLIER_PRODUCED_NULL);
+        }
+        throw throwable;
+    }
+
+    @Override
+    protected Throwable applyOnFailure(Throwable failure) {
+        return failure;
+    }
+}
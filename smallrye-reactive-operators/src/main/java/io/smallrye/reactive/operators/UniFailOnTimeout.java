@@ -28,7 +28,12 @@ public class UniFailOnTimeout<I> extends UniOperator<I, I> {
         super(nonNull(upstream, "upstream"));
         this.timeout = validate(timeout, "onTimeout");
         this.supplier = nonNull(supplier, "supplier");
-        this.executor = executor == null ? Infrastructure.getDefaultWorkerPool() : executor;
+        this.executor = executor;
+    }
+
+    private ScheduledExecutorService timer() {
+        // Resolved at subscription time, so assembling the pipeline does not create the default executors.
+        return executor == null ? Infrastructure.getDefaultTimer() : executor;
     }
 
     @Override
@@ -41,7 +46,7 @@ public class UniFailOnTimeout<I> extends UniOperator<I, I> {
             public void onSubscribe(UniSubscription subscription) {
                 // Configure the watch dog at subscription time.
                 try {
-                    task.set(executor.schedule(() -> {
+                    task.set(timer().schedule(() -> {
                         if (doneOrCancelled.compareAndSet(false, true)) {
                             sendTimeout(subscriber, subscription);
                         }
@@ -2,6 +2,7 @@ package io.smallrye.reactive.operators;
 
 import io.smallrye.reactive.Uni;
 import io.smallrye.reactive.helpers.EmptyUniSubscription;
+import io.smallrye.reactive.infrastructure.Infrastructure;
 import io.smallrye.reactive.subscription.UniSubscriber;
 import io.smallrye.reactive.subscription.UniSubscription;
 import org.reactivestreams.Subscription;
@@ -9,6 +10,7 @@ import org.reactivestreams.Subscription;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
+import static io.smallrye.reactive.helpers.EmptyUniSubscription.propagateFailureEvent;
 import static io.smallrye.reactive.helpers.ParameterValidation.MAPPER_RETURNED_NULL;
 import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
 
@@ -21,6 +23,7 @@ public class UniFlatMapOnItem<I, O> extends UniOperator<I, O> {
         this.mapper = nonNull(mapper, "mapper");
     }
 
+    @SuppressWarnings("unchecked")
     public static <I, O> void invokeAndSubstitute(Function<? super I, ? extends Uni<? extends O>> mapper, I input,
             UniSerializedSubscriber<? super O> subscriber,
             FlatMapSubscription flatMapSubscription) {
@@ -36,6 +39,11 @@ public class UniFlatMapOnItem<I, O> extends UniOperator<I, O> {
 
         if (outcome == null) {
             subscriber.onFailure(new NullPointerException(MAPPER_RETURNED_NULL));
+        } else if (outcome instanceof UniCreateFromKnownItem && !Infrastructure.hasUniInterceptors()) {
+            // Already resolved, no need to subscribe.
+            subscriber.onItem(((UniCreateFromKnownItem<? extends O>) outcome).item());
+        } else if (outcome instanceof UniCreateFromKnownFailure && !Infrastructure.hasUniInterceptors()) {
+            subscriber.onFailure(((UniCreateFromKnownFailure<? extends O>) outcome).failure());
         } else {
             UniSubscriber<O> delegate = new UniDelegatingSubscriber<O, O>(subscriber) {
                 @Override
@@ -48,11 +56,29 @@ public class UniFlatMapOnItem<I, O> extends UniOperator<I, O> {
         }
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     protected void subscribing(UniSerializedSubscriber<? super O> subscriber) {
+        Uni<? extends I> upstream = upstream();
+        if (upstream instanceof UniCreateFromKnownFailure && !Infrastructure.hasUniInterceptors()) {
+            propagateFailureEvent(subscriber, ((UniCreateFromKnownFailure<I>) upstream).failure());
+            return;
+        }
+
         FlatMapSubscription flatMapSubscription = new FlatMapSubscription();
+        if (upstream instanceof UniCreateFromKnownItem && !Infrastructure.hasUniInterceptors()) {
+            // The item is already known, call the mapper without subscribing upstream.
+            flatMapSubscription.setInitialUpstream(FlatMapSubscription.RESOLVED);
+            subscriber.onSubscribe(flatMapSubscription);
+            if (!subscriber.isCancelledOrDone()) {
+                invokeAndSubstitute(mapper, ((UniCreateFromKnownItem<I>) upstream).item(), subscriber,
+                        flatMapSubscription);
+            }
+            return;
+        }
+
         // Subscribe to the source.
-        upstream().subscribe().withSubscriber(new UniDelegatingSubscriber<I, O>(subscriber) {
+        upstream.subscribe().withSubscriber(new UniDelegatingSubscriber<I, O>(subscriber) {
             @Override
             public void onSubscribe(UniSubscription subscription) {
                 flatMapSubscription.setInitialUpstream(subscription);
@@ -69,6 +95,13 @@ public class UniFlatMapOnItem<I, O> extends UniOperator<I, O> {
 
     protected static class FlatMapSubscription implements UniSubscription {
 
+        /**
+         * Initial upstream used when the upstream item is already known, nothing to cancel.
+         */
+        static final UniSubscription RESOLVED = () -> {
+            // Nothing to cancel.
+        };
+
         private final AtomicReference<Subscription> upstream = new AtomicReference<>();
 
         @Override
@@ -0,0 +1,147 @@
+package io.smallrye.reactive.operators;
+
+import io.smallrye.reactive.Uni;
+import io.smallrye.reactive.infrastructure.Infrastructure;
+import io.smallrye.reactive.subscription.UniSubscriber;
+import io.smallrye.reactive.subscription.UniSubscription;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static io.smallrye.reactive.helpers.EmptyUniSubscription.CANCELLED;
+
+/**
+ * Base class for the synchronous operators transforming the item or failure events without any asynchronous step.
+ * <p>
+ * Adjacent synchronous operators are fused at subscription time: the whole chain subscribes to the first
+ * non-fusable upstream using a single subscriber applying the transformations in order. So, only one
+ * {@link UniSerializedSubscriber} is created for the chain. The fusion is disabled when
+ * {@link io.smallrye.reactive.infrastructure.UniInterceptor interceptors} are registered, as they must observe every
+ * subscription.
+ *
+ * @param <I> the type of item received from the upstream
+ * @param <O> the type of item emitted downstream
+ */
+public abstract class UniFusableOperator<I, O> extends UniOperator<I, O> {
+
+    /**
+     * The chain of adjacent fusable operators ending with this one, computed lazily.
+     * The chain is immutable, so racing computations produce the same result.
+     */
+    private volatile UniFusableOperator<?, ?>[] chain;
+
+    public UniFusableOperator(Uni<? extends I> upstream) {
+        super(upstream);
+    }
+
+    /**
+     * Transforms the item.
+     *
+     * @param item the item received from the upstream, can be {@code null}
+     * @return the item to pass downstream
+     * @throws Throwable the failure to pass downstream instead of the item
+     */
+    protected abstract O applyOnItem(I item) throws Throwable;
+
+    /**
+     * Transforms the failure, must not throw.
+     *
+     * @param failure the failure received from the upstream
+     * @return the failure to pass downstream
+     */
+    protected abstract Throwable applyOnFailure(Throwable failure);
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected void subscribing(UniSerializedSubscriber<? super O> subscriber) {
+        boolean intercepted = Infrastructure.hasUniInterceptors();
+        UniFusableOperator<?, ?>[] operators = intercepted ? new UniFusableOperator<?, ?>[] { this } : chain();
+
+        FusedSubscriber fused = new FusedSubscriber(operators, (UniSerializedSubscriber<Object>) subscriber);
+        Uni<?> upstream = operators[0].upstream();
+        if (!intercepted) {
+            if (upstream instanceof UniCreateFromKnownItem) {
+                // The item is already known, apply the transformations without subscribing upstream.
+                fused.onSubscribe(CANCELLED);
+                fused.onItem(((UniCreateFromKnownItem<?>) upstream).item());
+                return;
+            }
+            if (upstream instanceof UniCreateFromKnownFailure) {
+                fused.onSubscribe(CANCELLED);
+                fused.onFailure(((UniCreateFromKnownFailure<?>) upstream).failure());
+                return;
+            }
+        }
+        ((Uni<Object>) upstream).subscribe().withSubscriber(fused);
+    }
+
+    private UniFusableOperator<?, ?>[] chain() {
+        UniFusableOperator<?, ?>[] operators = chain;
+        if (operators == null) {
+            Deque<UniFusableOperator<?, ?>> stack = new ArrayDeque<>();
+            Uni<?> current = this;
+            while (current instanceof UniFusableOperator) {
+                UniFusableOperator<?, ?> operator = (UniFusableOperator<?, ?>) current;
+                stack.push(operator);
+                current = operator.upstream();
+            }
+            operators = stack.toArray(new UniFusableOperator<?, ?>[0]);
+            chain = operators;
+        }
+        return operators;
+    }
+
+    private static final class FusedSubscriber implements UniSubscriber<Object> {
+
+        private final UniFusableOperator<?, ?>[] operators;
+        private final UniSerializedSubscriber<Object> downstream;
+
+        private FusedSubscriber(UniFusableOperator<?, ?>[] operators, UniSerializedSubscriber<Object> downstream) {
+            this.operators = operators;
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(UniSubscription subscription) {
+            downstream.onSubscribe(subscription);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void onItem(Object item) {
+            Object current = item;
+            for (int i = 0; i < operators.length; i++) {
+                if (downstream.isCancelledOrDone()) {
+                    // Avoid calling the transformations if we are done to save some cycles.
+                    // If the cancellation happen during the call, the events won't be dispatched.
+                    return;
+                }
+                try {
+                    current = ((UniFusableOperator<Object, Object>) operators[i]).applyOnItem(current);
+                    // We cannot call onItem here, as if onItem would throw an exception
+                    // it would be caught and onFailure would be called. This would be illegal.
+                } catch (Throwable e) {
+                    propagateFailure(i + 1, e);
+                    return;
+                }
+            }
+            downstream.onItem(current);
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            propagateFailure(0, failure);
+        }
+
+        private void propagateFailure(int from, Throwable failure) {
+            Throwable current = failure;
+            for (int i = from; i < operators.length; i++) {
+                if (downstream.isCancelledOrDone()) {
+                    return;
+                }
+                current = operators[i].applyOnFailure(current);
+            }
+            downstream.onFailure(current);
+        }
+    }
+}
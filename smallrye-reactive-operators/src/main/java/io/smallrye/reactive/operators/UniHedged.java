@@ -0,0 +1,227 @@
+package io.smallrye.reactive.operators;
+
+import io.smallrye.reactive.Uni;
+import io.smallrye.reactive.infrastructure.Infrastructure;
+import io.smallrye.reactive.subscription.UniSubscriber;
+import io.smallrye.reactive.subscription.UniSubscription;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static io.smallrye.reactive.helpers.EmptyUniSubscription.CANCELLED;
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+import static io.smallrye.reactive.helpers.ParameterValidation.positive;
+import static io.smallrye.reactive.helpers.ParameterValidation.validate;
+
+/**
+ * Subscribes to the upstream {@link Uni} and, if no event has been received after a delay, subscribes again, up to
+ * a maximum number of attempts. The first event wins, and the other subscriptions are cancelled.
+ * <p>
+ * The delay is either fixed, or computed from the latencies observed on the previous subscriptions to this
+ * {@link Uni}.
+ *
+ * @param <I> the type of item
+ */
+public class UniHedged<I> extends UniOperator<I, I> {
+
+    private static final long MINIMUM_OBSERVED_DELAY_IN_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Duration delay;
+    private final int maxAttempts;
+    private final ScheduledExecutorService executor;
+    private final LatencyTracker tracker;
+
+    public UniHedged(Uni<? extends I> upstream, Duration delay, double percentile, int maxAttempts,
+            ScheduledExecutorService executor) {
+        super(nonNull(upstream, "upstream"));
+        this.delay = validate(delay, "delay");
+        this.maxAttempts = positive(maxAttempts, "maxAttempts");
+        this.executor = executor;
+        this.tracker = percentile > 0 ? new LatencyTracker(percentile) : null;
+    }
+
+    private ScheduledExecutorService timer() {
+        // Resolved at subscription time, so assembling the pipeline does not create the default executors.
+        return executor == null ? Infrastructure.getDefaultTimer() : executor;
+    }
+
+    @Override
+    protected void subscribing(UniSerializedSubscriber<? super I> subscriber) {
+        HedgingSubscription hedging = new HedgingSubscription(subscriber);
+        subscriber.onSubscribe(hedging);
+        hedging.attempt();
+    }
+
+    // Package-private for testing purpose
+    long delayInNanos() {
+        if (tracker != null) {
+            long observed = tracker.percentile();
+            if (observed > 0) {
+                // Do not hedge synchronous or near-synchronous upstreams on timer noise
+                return Math.max(observed, MINIMUM_OBSERVED_DELAY_IN_NANOS);
+            }
+        }
+        return delay.toNanos();
+    }
+
+    private class HedgingSubscription implements UniSubscription {
+
+        private final UniSerializedSubscriber<? super I> downstream;
+        private final AtomicBoolean done = new AtomicBoolean();
+        private final AtomicReferenceArray<UniSubscription> subscriptions;
+        private final AtomicReference<ScheduledFuture<?>> task = new AtomicReference<>();
+        /**
+         * The start of the first attempt. The latency is measured from there whatever the winning attempt, so a
+         * winning hedge does not record a latency shorter than the hedging delay and pull the percentile down.
+         */
+        private final long start = System.nanoTime();
+
+        /**
+         * The number of attempts made so far. Attempts are made sequentially: the first one from
+         * {@link #subscribing(UniSerializedSubscriber)}, the next ones from the scheduled tasks.
+         */
+        private volatile int attempts;
+
+        HedgingSubscription(UniSerializedSubscriber<? super I> downstream) {
+            this.downstream = downstream;
+            this.subscriptions = new AtomicReferenceArray<>(maxAttempts);
+        }
+
+        void attempt() {
+            if (done.get()) {
+                return;
+            }
+            int index = attempts++;
+            if (index + 1 < maxAttempts) {
+                // Schedule the next attempt before subscribing, so a synchronous upstream cancels it.
+                try {
+                    task.set(timer().schedule(this::attempt, delayInNanos(), TimeUnit.NANOSECONDS));
+                } catch (RejectedExecutionException e) {
+                    // Executor out of service, continue without hedging.
+                }
+                if (done.get()) {
+                    cancelTask();
+                }
+            }
+            upstream().subscribe().withSubscriber(new AttemptSubscriber(index));
+        }
+
+        @Override
+        public void cancel() {
+            if (done.compareAndSet(false, true)) {
+                cancelAttemptsExcept(-1);
+            }
+        }
+
+        private void cancelTask() {
+            ScheduledFuture<?> future = task.getAndSet(null);
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+
+        private void cancelAttemptsExcept(int winner) {
+            cancelTask();
+            for (int i = 0; i < maxAttempts; i++) {
+                if (i != winner) {
+                    UniSubscription subscription = subscriptions.getAndSet(i, CANCELLED);
+                    if (subscription != null && subscription != CANCELLED) {
+                        subscription.cancel();
+                    }
+                }
+            }
+        }
+
+        private class AttemptSubscriber implements UniSubscriber<I> {
+
+            private final int index;
+
+            AttemptSubscriber(int index) {
+                this.index = index;
+            }
+
+            @Override
+            public void onSubscribe(UniSubscription subscription) {
+                if (!subscriptions.compareAndSet(index, null, subscription)) {
+                    // Already cancelled
+                    subscription.cancel();
+                }
+            }
+
+            @Override
+            public void onItem(I item) {
+                if (done.compareAndSet(false, true)) {
+                    if (tracker != null) {
+                        tracker.record(System.nanoTime() - start);
+                    }
+                    cancelAttemptsExcept(index);
+                    downstream.onItem(item);
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable failure) {
+                if (done.compareAndSet(false, true)) {
+                    cancelAttemptsExcept(index);
+                    downstream.onFailure(failure);
+                }
+            }
+        }
+    }
+
+    /**
+     * Keeps the latest latencies in a ring buffer and periodically recomputes the configured percentile. Reading the
+     * percentile does not sort the samples.
+     */
+    static class LatencyTracker {
+
+        static final int SAMPLES = 128;
+        static final int MINIMUM_SAMPLES = 16;
+        private static final int RECOMPUTE_EVERY = 16;
+
+        private final double percentile;
+        private final AtomicLongArray samples = new AtomicLongArray(SAMPLES);
+        private final AtomicLong count = new AtomicLong();
+        private volatile long value = -1;
+
+        LatencyTracker(double percentile) {
+            this.percentile = percentile;
+        }
+
+        void record(long latencyInNanos) {
+            long index = count.getAndIncrement();
+            samples.set((int) (index % SAMPLES), latencyInNanos);
+            long recorded = index + 1;
+            if (recorded >= MINIMUM_SAMPLES && recorded % RECOMPUTE_EVERY == 0) {
+                recompute((int) Math.min(recorded, SAMPLES));
+            }
+        }
+
+        private void recompute(int size) {
+            long[] copy = new long[size];
+            for (int i = 0; i < size; i++) {
+                copy[i] = samples.get(i);
+            }
+            Arrays.sort(copy);
+            int rank = (int) Math.ceil(percentile * size) - 1;
+            value = copy[Math.max(0, rank)];
+        }
+
+        /**
+         * @return the percentile of the recorded latencies in nanoseconds, {@code -1} if not enough latencies have
+         * been recorded.
+         */
+        long percentile() {
+            return value;
+        }
+    }
+}
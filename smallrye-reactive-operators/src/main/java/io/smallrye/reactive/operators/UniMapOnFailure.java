@@ -9,7 +9,7 @@ import java.util.function.Predicate;
 import static io.smallrye.reactive.helpers.ParameterValidation.SUPPLIER_PRODUCED_NULL;
 import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
 
-public class UniMapOnFailure<I, O> extends UniOperator<I, O> {
+public class UniMapOnFailure<I, O> extends UniFusableOperator<I, O> {
 
     private final Function<? super Throwable, ? extends Throwable> mapper;
     private final Predicate<? super Throwable> predicate;
@@ -22,45 +22,34 @@ public class UniMapOnFailure<I, O> extends UniOperator<I, O> {
         this.predicate = nonNull(predicate, "predicate");
     }
 
+    @SuppressWarnings("unchecked")
     @Override
-    protected void subscribing(UniSerializedSubscriber<? super O> subscriber) {
-        upstream().subscribe().withSubscriber(new UniDelegatingSubscriber<I, O>(subscriber) {
-
-            @Override
-            public void onFailure(Throwable failure) {
-                if (subscriber.isCancelledOrDone()) {
-                    // Avoid calling the mapper if we are done to save some cycles.
-                    // If the cancellation happen during the call, the events won't be dispatched.
-                    return;
-                }
-                boolean test;
-                try {
-                    test = predicate.test(failure);
-                } catch (RuntimeException e) {
-                    subscriber.onFailure(new CompositeException(failure, e));
-                    return;
-                }
-
-                if (test) {
-                    Throwable outcome;
-                    try {
-                        outcome = mapper.apply(failure);
-                        // We cannot call onFailure here, as if onFailure would throw an exception
-                        // it would be caught and onFailure would be called. This would be illegal.
-                    } catch (Exception e) {
-                        subscriber.onFailure(e);
-                        return;
-                    }
-                    if (outcome == null) {
-                        subscriber.onFailure(new NullPointerException(SUPPLIER_PRODUCED_NULL));
-                    } else {
-                        subscriber.onFailure(outcome);
-                    }
-                } else {
-                    subscriber.onFailure(failure);
-                }
-            }
+    protected O applyOnItem(I item) {
+        return (O) item;
+    }
 
-        });
+    @Override
+    protected Throwable applyOnFailure(Throwable failure) {
+        boolean test;
+        try {
+            test = predicate.test(failure);
+        } catch (RuntimeException e) {
+            return new CompositeException(failure, e);
+        }
+
+        if (!test) {
+            return failure;
+        }
+
+        Throwable outcome;
+        try {
+            outcome = mapper.apply(failure);
+        } catch (Exception e) {
+            return e;
+        }
+        if (outcome == null) {
+            return new NullPointerException(SUPPLIER_PRODUCED_NULL);
+        }
+        return outcome;
     }
 }
@@ -5,7 +5,7 @@ import io.smallrye.reactive.Uni;
 
 import java.util.function.Consumer;
 
-public class UniOnEventConsume<T> extends UniOperator<T, T> {
+public class UniOnEventConsume<T> extends UniFusableOperator<T, T> {
 
     private final Consumer<? super T> onResult;
     private final Consumer<Throwable> onFailure;
@@ -19,38 +19,22 @@ public class UniOnEventConsume<T> extends UniOperator<T, T> {
     }
 
     @Override
-    protected void subscribing(UniSerializedSubscriber<? super T> subscriber) {
-        upstream().subscribe().withSubscriber(new UniDelegatingSubscriber<T, T>(subscriber) {
-            @Override
-            public void onItem(T item) {
-                if (invokeEventHandler(onResult, item, false, subscriber)) {
-                    subscriber.onItem(item);
-                }
-            }
-
-            @Override
-            public void onFailure(Throwable failure) {
-                if (invokeEventHandler(onFailure, failure, true, subscriber)) {
-                    subscriber.onFailure(failure);
-                }
-            }
-        });
+    protected T applyOnItem(T item) {
+        if (onResult != null) {
+            onResult.accept(item);
+        }
+        return item;
     }
 
-    private <E> boolean invokeEventHandler(Consumer<? super E> handler, E event, boolean wasCalledByOnFailure,
-            UniSerializedSubscriber<? super T> subscriber) {
-        if (handler != null) {
+    @Override
+    protected Throwable applyOnFailure(Throwable failure) {
+        if (onFailure != null) {
             try {
-                handler.accept(event);
+                onFailure.accept(failure);
             } catch (Throwable e) {
-                if (wasCalledByOnFailure) {
-                    subscriber.onFailure(new CompositeException((Throwable) event, e));
-                } else {
-                    subscriber.onFailure(e);
-                }
-                return false;
+                return new CompositeException(failure, e);
             }
         }
-        return true;
+        return failure;
     }
 }
@@ -0,0 +1,145 @@
+package io.smallrye.reactive.operators;
+
+import io.smallrye.reactive.RetryBudget;
+import io.smallrye.reactive.Uni;
+import io.smallrye.reactive.helpers.ExponentialBackOff;
+import io.smallrye.reactive.infrastructure.Infrastructure;
+import io.smallrye.reactive.subscription.UniSubscriber;
+import io.smallrye.reactive.subscription.UniSubscription;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+import static io.smallrye.reactive.helpers.EmptyUniSubscription.CANCELLED;
+import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
+import static io.smallrye.reactive.helpers.ParameterValidation.positive;
+import static io.smallrye.reactive.helpers.Predicates.testFailure;
+
+/**
+ * Re-subscribes to the upstream {@link Uni} on failure, waiting for a delay computed by an
+ * {@link ExponentialBackOff} before each new subscription. The delays are scheduled on an executor, no thread is
+ * blocked. An optional {@link RetryBudget} limits the rate of retries.
+ *
+ * @param <T> the type of item
+ */
+public class UniRetryWithBackOff<T> extends UniOperator<T, T> {
+    private final Predicate<? super Throwable> predicate;
+    private final long maxAttempts;
+    private final ExponentialBackOff backOff;
+    private final RetryBudget budget;
+    private final ScheduledExecutorService executor;
+
+    public UniRetryWithBackOff(Uni<T> upstream, Predicate<? super Throwable> predicate, long maxAttempts,
+            ExponentialBackOff backOff, RetryBudget budget, ScheduledExecutorService executor) {
+        super(nonNull(upstream, "upstream"));
+        this.predicate = nonNull(predicate, "predicate");
+        this.maxAttempts = positive(maxAttempts, "maxAttempts");
+        this.backOff = nonNull(backOff, "backOff");
+        this.budget = budget;
+        this.executor = executor;
+    }
+
+    private ScheduledExecutorService timer() {
+        // Resolved at subscription time, so assembling the pipeline does not create the default executors.
+        return executor == null ? Infrastructure.getDefaultTimer() : executor;
+    }
+
+    @Override
+    protected void subscribing(UniSerializedSubscriber<? super T> subscriber) {
+        RetryingSubscriber retrying = new RetryingSubscriber(subscriber);
+        subscriber.onSubscribe(retrying);
+        retrying.subscribe();
+    }
+
+    private class RetryingSubscriber implements UniSubscriber<T>, UniSubscription {
+
+        private final UniSerializedSubscriber<? super T> downstream;
+        private final AtomicReference<UniSubscription> upstream = new AtomicReference<>();
+        private final AtomicReference<ScheduledFuture<?>> task = new AtomicReference<>();
+
+        /**
+         * The number of retries, only accessed from {@link #onFailure(Throwable)}, which is never called concurrently.
+         */
+        private long retries;
+
+        RetryingSubscriber(UniSerializedSubscriber<? super T> downstream) {
+            this.downstream = downstream;
+        }
+
+        void subscribe() {
+            if (upstream.get() != CANCELLED) {
+                upstream().subscribe().withSubscriber(this);
+            }
+        }
+
+        @Override
+        public void onSubscribe(UniSubscription subscription) {
+            if (!upstream.compareAndSet(null, subscription)) {
+                // Cancelled
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public void onItem(T item) {
+            if (upstream.get() != CANCELLED) {
+                downstream.onItem(item);
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            UniSubscription current = upstream.get();
+            if (current == CANCELLED) {
+                return;
+            }
+            if (!testFailure(predicate, downstream, failure)) {
+                return;
+            }
+            if (++retries > maxAttempts || (budget != null && !budget.tryAcquire())) {
+                downstream.onFailure(failure);
+                return;
+            }
+            // Release the current subscription, the next subscription sets it again.
+            if (!upstream.compareAndSet(current, null)) {
+                return;
+            }
+
+            long delay = backOff.delayInNanos(retries);
+            if (delay == 0) {
+                subscribe();
+                return;
+            }
+            try {
+                task.set(timer().schedule(this::subscribe, delay, TimeUnit.NANOSECONDS));
+            } catch (RejectedExecutionException e) {
+                // Executor out of service.
+                downstream.onFailure(e);
+                return;
+            }
+            if (upstream.get() == CANCELLED) {
+                cancelTask();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            UniSubscription previous = upstream.getAndSet(CANCELLED);
+            if (previous != null && previous != CANCELLED) {
+                previous.cancel();
+            }
+            cancelTask();
+        }
+
+        private void cancelTask() {
+            ScheduledFuture<?> future = task.getAndSet(null);
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+    }
+}
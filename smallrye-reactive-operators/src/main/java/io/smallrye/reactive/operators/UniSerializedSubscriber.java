@@ -4,14 +4,16 @@ import io.smallrye.reactive.infrastructure.Infrastructure;
 import io.smallrye.reactive.subscription.UniSubscriber;
 import io.smallrye.reactive.subscription.UniSubscription;
 
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 import static io.smallrye.reactive.helpers.EmptyUniSubscription.propagateFailureEvent;
 import static io.smallrye.reactive.helpers.ParameterValidation.nonNull;
 
 /**
  * An implementation of {@link UniSubscriber} and {@link UniSubscription} making sure event handlers are only called once.
+ * <p>
+ * The state machine uses a single {@code volatile} state updated with a field updater, avoiding the allocation of
+ * atomic wrappers for each subscription.
  */
 public class UniSerializedSubscriber<T> implements UniSubscriber<T>, UniSubscription {
 
@@ -20,11 +22,19 @@ public class UniSerializedSubscriber<T> implements UniSubscriber<T>, UniSubscrip
     private static final int HAS_SUBSCRIPTION = 2;
     private static final int DONE = 3; // Terminal state
 
-    private final AtomicInteger state = new AtomicInteger(INIT);
+    private static final AtomicIntegerFieldUpdater<UniSerializedSubscriber> STATE = AtomicIntegerFieldUpdater
+            .newUpdater(UniSerializedSubscriber.class, "state");
+
+    private volatile int state = INIT;
     private final AbstractUni<T> source;
     private final UniSubscriber<? super T> downstream;
     private UniSubscription upstream;
-    private AtomicReference<Throwable> collectedFailure = new AtomicReference<>();
+
+    /**
+     * The failure received before the subscription, written before the transition to {@code DONE}, and read (once)
+     * when the subscription is received.
+     */
+    private Throwable collectedFailure;
 
     private UniSerializedSubscriber(AbstractUni<T> source, UniSubscriber<? super T> subscriber) {
         this.source = nonNull(source, "source");
@@ -40,7 +50,7 @@ public class UniSerializedSubscriber<T> implements UniSubscriber<T>, UniSubscrip
     }
 
     private void subscribe() {
-        if (state.compareAndSet(INIT, SUBSCRIBED)) {
+        if (STATE.compareAndSet(this, INIT, SUBSCRIBED)) {
             this.source.subscribing(this);
         } else {
             propagateFailureEvent(this.downstream,
@@ -52,45 +62,57 @@ public class UniSerializedSubscriber<T> implements UniSubscriber<T>, UniSubscrip
     public void onSubscribe(UniSubscription subscription) {
         nonNull(subscription, "subscription");
 
-        if (state.compareAndSet(SUBSCRIBED, HAS_SUBSCRIPTION)) {
+        if (STATE.compareAndSet(this, SUBSCRIBED, HAS_SUBSCRIPTION)) {
             this.upstream = subscription;
             this.downstream.onSubscribe(this);
-        } else if (state.get() == DONE) {
-            Throwable collected = collectedFailure.getAndSet(null);
+        } else if (state == DONE) {
+            Throwable collected = collectedFailure;
             if (collected != null) {
+                collectedFailure = null;
                 this.downstream.onFailure(collected);
             }
         } else {
             propagateFailureEvent(this.downstream,
                     new IllegalStateException(
-                            "Invalid transition, expected to be in the SUBSCRIBED state but was in " + state.get()));
+                            "Invalid transition, expected to be in the SUBSCRIBED state but was in " + state));
         }
     }
 
     @Override
     public void onItem(T item) {
-        if (state.compareAndSet(HAS_SUBSCRIPTION, DONE)) {
+        if (STATE.compareAndSet(this, HAS_SUBSCRIPTION, DONE)) {
             downstream.onItem(item);
             dispose();
-        } else if (state.get() != DONE) { // Are we already done? In this case, drop the signal
+        } else if (state != DONE) { // Are we already done? In this case, drop the signal
             propagateFailureEvent(this.downstream,
                     new IllegalStateException(
-                            "Invalid transition, expected to be in the HAS_SUBSCRIPTION state but was in " + state
-                                    .get()));
+                            "Invalid transition, expected to be in the HAS_SUBSCRIPTION state but was in " + state));
         }
     }
 
     @Override
     public void onFailure(Throwable failure) {
-        if (state.compareAndSet(HAS_SUBSCRIPTION, DONE)) {
+        if (STATE.compareAndSet(this, HAS_SUBSCRIPTION, DONE)) {
             downstream.onFailure(failure);
-        } else if (state.compareAndSet(SUBSCRIBED, DONE)) {
-            collectedFailure.compareAndSet(null, failure);
-        } else if (state.get() != DONE) { // Are we already done? In this case, drop the signal
+            return;
+        }
+        if (state == SUBSCRIBED) {
+            // Publish the failure with the state transition, onSubscribe reads it once it observes DONE
+            collectedFailure = failure;
+            if (STATE.compareAndSet(this, SUBSCRIBED, DONE)) {
+                return;
+            }
+            collectedFailure = null;
+            if (STATE.compareAndSet(this, HAS_SUBSCRIPTION, DONE)) {
+                // The subscription has been received concurrently
+                downstream.onFailure(failure);
+                return;
+            }
+        }
+        if (state != DONE) { // Are we already done? In this case, drop the signal
             propagateFailureEvent(this.downstream,
                     new IllegalStateException(
-                            "Invalid transition, expected to be in the HAS_SUBSCRIPTION state but was in " + state
-                                    .get()));
+                            "Invalid transition, expected to be in the HAS_SUBSCRIPTION state but was in " + state));
         }
     }
 
@@ -100,13 +122,13 @@ public class UniSerializedSubscriber<T> implements UniSubscriber<T>, UniSubscrip
 
     @Override
     public void cancel() {
-        if (state.compareAndSet(HAS_SUBSCRIPTION, DONE)) {
+        if (STATE.compareAndSet(this, HAS_SUBSCRIPTION, DONE)) {
             upstream.cancel();
             dispose();
         }
     }
 
     public boolean isCancelledOrDone() {
-        return state.get() == DONE;
+        return state == DONE;
     }
 }
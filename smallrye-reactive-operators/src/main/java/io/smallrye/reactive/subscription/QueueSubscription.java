@@ -0,0 +1,142 @@
+package io.smallrye.reactive.subscription;
+
+import org.reactivestreams.Subscription;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Queue;
+
+/**
+ * A {@link Subscription} that can also be consumed as a {@link Queue}, avoiding an intermediate queue between a source
+ * and the operator consuming it.
+ * <p>
+ * The fusion is negotiated during {@link org.reactivestreams.Subscriber#onSubscribe(Subscription)}: the subscriber
+ * calls {@link #requestFusion(int)} with the modes it supports and the subscription returns the selected mode:
+ * <ul>
+ * <li>{@link #NONE}: no fusion, the regular Reactive Streams protocol is used.</li>
+ * <li>{@link #SYNC}: the items are all available, the subscriber pulls them with {@link #poll()} and must not call
+ * {@link #request(long)}. {@link #poll()} returning {@code null} means the end of the stream. No
+ * {@code onNext}, {@code onError} or {@code onComplete} signals are sent.</li>
+ * <li>{@link #ASYNC}: the items become available over time. {@code onNext} is still called, but with a
+ * {@code null} item, to indicate that items can be polled. The subscriber uses {@link #request(long)} as usual and
+ * receives the terminal events. {@link #poll()} returning {@code null} means that no item is available yet.</li>
+ * </ul>
+ * Only {@link #poll()}, {@link #isEmpty()} and {@link #clear()} are supported from the {@link Queue} interface.
+ * All the other methods throw an {@link UnsupportedOperationException}.
+ *
+ * @param <T> the type of item
+ */
+public interface QueueSubscription<T> extends Queue<T>, Subscription {
+
+    /**
+     * No fusion.
+     */
+    int NONE = 0;
+
+    /**
+     * Synchronous fusion, all the items are already available.
+     */
+    int SYNC = 1;
+
+    /**
+     * Asynchronous fusion, the items become available over time.
+     */
+    int ASYNC = 2;
+
+    /**
+     * Any fusion mode.
+     */
+    int ANY = SYNC | ASYNC;
+
+    /**
+     * Requests the given fusion mode.
+     *
+     * @param mode the requested mode, {@link #SYNC}, {@link #ASYNC} or {@link #ANY}
+     * @return the selected mode, {@link #NONE} if the fusion is rejected
+     */
+    int requestFusion(int mode);
+
+    @Override
+    T poll();
+
+    @Override
+    boolean isEmpty();
+
+    @Override
+    void clear();
+
+    @Override
+    default int size() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    default boolean add(T t) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    default boolean offer(T t) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    default T remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    default T element() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    default T peek() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    default boolean contains(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    default Iterator<T> iterator() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    default Object[] toArray() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    default <T1> T1[] toArray(T1[] a) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    default boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    default boolean containsAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    default boolean addAll(Collection<? extends T> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    default boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    default boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,104 @@
+package io.smallrye.reactive.groups;
+
+import io.smallrye.reactive.Multi;
+import io.smallrye.reactive.operators.MultiAssertSubscriber;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MultiIntTest {
+
+    @Test
+    public void testBoxedRange() {
+        Multi.createFrom().intRange(0, 5).boxed()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertCompletedSuccessfully()
+                .assertReceived(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    public void testPrimitivePipeline() {
+        List<String> list = Multi.createFrom().intRange(0, 10)
+                .map(i -> i * 3)
+                .filter(i -> i % 2 == 0)
+                .scan(100, Integer::sum)
+                .mapToObj(Integer::toString)
+                .collect().asList().await().indefinitely();
+
+        assertThat(list).containsExactly("100", "100", "106", "118", "136", "160");
+    }
+
+    @Test
+    public void testThatValuesAreComputedOnRequest() {
+        int[] computed = new int[1];
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().intRange(0, Integer.MAX_VALUE)
+                .map(i -> {
+                    computed[0]++;
+                    return i;
+                })
+                .boxed()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(0));
+
+        assertThat(computed[0]).isEqualTo(0);
+        subscriber.request(3);
+        subscriber.assertReceived(0, 1, 2).assertNotTerminated();
+        assertThat(computed[0]).isEqualTo(3);
+        subscriber.cancel();
+    }
+
+    @Test
+    public void testThatEachSubscriberGetsItsOwnSequence() {
+        Multi<Integer> multi = Multi.createFrom().intRange(1, 4).scan(0, Integer::sum).boxed();
+        multi.subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertReceived(0, 1, 3, 6).assertCompletedSuccessfully();
+        multi.subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertReceived(0, 1, 3, 6).assertCompletedSuccessfully();
+    }
+
+    @Test
+    public void testMapperFailure() {
+        Multi.createFrom().intRange(0, 10)
+                .map(i -> 10 / (2 - i))
+                .boxed()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertHasFailedWith(ArithmeticException.class, "by zero")
+                .assertReceived(5, 10);
+    }
+
+    @Test
+    public void testMapToObjReturningNull() {
+        Multi.createFrom().intRange(0, 10)
+                .mapToObj(i -> i == 1 ? null : i)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertHasFailedWith(NullPointerException.class, "`null`")
+                .assertReceived(0);
+    }
+
+    @Test
+    public void testLongPipeline() {
+        List<Long> list = Multi.createFrom().intRange(0, 4)
+                .mapToLong(i -> i * 1_000_000_000L)
+                .scan(0L, Long::sum)
+                .filter(l -> l > 0)
+                .boxed()
+                .collect().asList().await().indefinitely();
+
+        assertThat(list).containsExactly(1_000_000_000L, 3_000_000_000L, 6_000_000_000L);
+    }
+
+    @Test
+    public void testLongRange() {
+        Multi.createFrom().longRange(Long.MAX_VALUE - 2, Long.MAX_VALUE)
+                .boxed()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertCompletedSuccessfully()
+                .assertReceived(Long.MAX_VALUE - 2, Long.MAX_VALUE - 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidRange() {
+        Multi.createFrom().intRange(2, 1);
+    }
+}
@@ -10,6 +10,9 @@ import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -124,4 +127,43 @@ public class BlockingIterableTest {
         ).isInstanceOf(ArithmeticException.class).hasMessageContaining("by zero");
     }
 
-}
\ No newline at end of file
+    @Test(timeout = 5000)
+    public void testToIterableWithEmitOn() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            List<Integer> values = new ArrayList<>();
+            for (Integer i : Multi.createFrom().range(0, 1000).emitOn(executor).subscribe().asIterable()) {
+                values.add(i);
+            }
+            assertThat(values).hasSize(1000).startsWith(0, 1, 2).endsWith(998, 999);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(timeout = 5000)
+    public void testToIterableWithFailingIterator() {
+        Iterable<Integer> iterable = () -> new Iterator<Integer>() {
+            int count;
+
+            @Override
+            public boolean hasNext() {
+                if (count == 2) {
+                    throw new IllegalStateException("boom");
+                }
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                return count++;
+            }
+        };
+
+        List<Integer> values = new ArrayList<>();
+        assertThatThrownBy(() -> Multi.createFrom().iterable(iterable).subscribe().asIterable().forEach(values::add))
+                .isInstanceOf(IllegalStateException.class).hasMessageContaining("boom");
+        assertThat(values).containsExactly(0, 1);
+    }
+
+}
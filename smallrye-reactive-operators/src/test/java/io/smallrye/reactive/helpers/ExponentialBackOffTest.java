@@ -0,0 +1,35 @@
+package io.smallrye.reactive.helpers;
+
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExponentialBackOffTest {
+
+    @Test
+    public void testThatTheDelayDoublesUpToTheMaximum() {
+        ExponentialBackOff backOff = new ExponentialBackOff(Duration.ofMillis(10), Duration.ofMillis(50), 0);
+        assertThat(backOff.delayInNanos(1)).isEqualTo(Duration.ofMillis(10).toNanos());
+        assertThat(backOff.delayInNanos(2)).isEqualTo(Duration.ofMillis(20).toNanos());
+        assertThat(backOff.delayInNanos(3)).isEqualTo(Duration.ofMillis(40).toNanos());
+        assertThat(backOff.delayInNanos(4)).isEqualTo(Duration.ofMillis(50).toNanos());
+        assertThat(backOff.delayInNanos(Long.MAX_VALUE)).isEqualTo(Duration.ofMillis(50).toNanos());
+    }
+
+    @Test
+    public void testThatTheJitterStaysInRange() {
+        ExponentialBackOff backOff = new ExponentialBackOff(Duration.ofMillis(100), Duration.ofSeconds(10), 0.5);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(backOff.delayInNanos(1))
+                    .isBetween(Duration.ofMillis(50).toNanos(), Duration.ofMillis(150).toNanos());
+        }
+    }
+
+    @Test
+    public void testWithoutBackOff() {
+        assertThat(ExponentialBackOff.NONE.delayInNanos(1)).isEqualTo(0);
+        assertThat(ExponentialBackOff.NONE.delayInNanos(100)).isEqualTo(0);
+    }
+}
@@ -0,0 +1,128 @@
+package io.smallrye.reactive.infrastructure;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class DefaultExecutorConfigurationTest {
+
+    private DefaultExecutorConfiguration configuration;
+
+    @After
+    public void cleanup() {
+        if (configuration != null) {
+            configuration.shutdown();
+        }
+    }
+
+    @Test
+    public void testThatThePoolsAreDistinct() throws InterruptedException {
+        configuration = new DefaultExecutorConfiguration(new Properties());
+        assertThat(configuration.getDefaultWorkerExecutor()).isNotSameAs(configuration.getDefaultScheduledExecutor());
+        assertThat(configuration.getDefaultTimer()).isInstanceOf(HashedWheelTimer.class);
+        assertThat(configuration.getDefaultScheduledExecutor()).isInstanceOf(ScheduledThreadPoolExecutor.class);
+
+        AtomicReference<String> worker = new AtomicReference<>();
+        AtomicReference<String> timer = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(2);
+        configuration.getDefaultWorkerExecutor().execute(() -> {
+            worker.set(Thread.currentThread().getName());
+            latch.countDown();
+        });
+        configuration.getDefaultTimer().schedule(() -> {
+            timer.set(Thread.currentThread().getName());
+            latch.countDown();
+        }, 5, TimeUnit.MILLISECONDS);
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(worker.get()).startsWith("smallrye-reactive-worker-");
+        // Expired timers are not dispatched to the workers
+        assertThat(timer.get()).startsWith("smallrye-reactive-timer-worker-");
+    }
+
+    @Test
+    public void testThatTimersFireWhenTheWorkersAreBlocked() throws InterruptedException {
+        Properties properties = new Properties();
+        properties.setProperty(DefaultExecutorConfiguration.WORKER_SIZE, "1");
+        configuration = new DefaultExecutorConfiguration(properties);
+
+        CountDownLatch release = new CountDownLatch(1);
+        configuration.getDefaultWorkerExecutor().execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        CountDownLatch fired = new CountDownLatch(1);
+        configuration.getDefaultTimer().schedule(fired::countDown, 10, TimeUnit.MILLISECONDS);
+        try {
+            assertThat(fired.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void testThatTheBoundedQueueRejectsAndCountsTheTasks() throws InterruptedException {
+        Properties properties = new Properties();
+        properties.setProperty(DefaultExecutorConfiguration.WORKER_POOL, "fixed");
+        properties.setProperty(DefaultExecutorConfiguration.WORKER_SIZE, "1");
+        properties.setProperty(DefaultExecutorConfiguration.WORKER_QUEUE_SIZE, "1");
+        configuration = new DefaultExecutorConfiguration(properties);
+
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        configuration.getDefaultWorkerExecutor().execute(() -> {
+            blocked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        // Fills the queue
+        configuration.getDefaultWorkerExecutor().execute(() -> {
+        });
+
+        try {
+            configuration.getDefaultWorkerExecutor().execute(() -> {
+            });
+            fail("Exception expected");
+        } catch (RejectedExecutionException e) {
+            // Expected
+        }
+        assertThat(configuration.getRejectedTaskCount()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPoolType() {
+        Properties properties = new Properties();
+        properties.setProperty(DefaultExecutorConfiguration.WORKER_POOL, "unknown");
+        configuration = new DefaultExecutorConfiguration(properties);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSize() {
+        Properties properties = new Properties();
+        properties.setProperty(DefaultExecutorConfiguration.SCHEDULER_SIZE, "-1");
+        configuration = new DefaultExecutorConfiguration(properties);
+    }
+
+    @Test
+    public void testThatTheDefaultPoolsAreDistinct() {
+        assertThat(Infrastructure.getDefaultExecutor()).isNotSameAs(Infrastructure.getDefaultWorkerPool());
+        assertThat(Infrastructure.getRejectedTaskCount()).isGreaterThanOrEqualTo(0);
+    }
+}
@@ -0,0 +1,110 @@
+package io.smallrye.reactive.infrastructure;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class HashedWheelTimerTest {
+
+    private ExecutorService dispatcher;
+    private HashedWheelTimer timer;
+
+    @Before
+    public void init() {
+        dispatcher = Executors.newFixedThreadPool(2);
+        timer = new HashedWheelTimer(1, TimeUnit.MILLISECONDS, 8, dispatcher, Thread::new);
+    }
+
+    @After
+    public void cleanup() {
+        timer.shutdownNow();
+        dispatcher.shutdownNow();
+    }
+
+    @Test
+    public void testThatTasksDoNotRunBeforeTheirDelay() throws Exception {
+        long begin = System.nanoTime();
+        ScheduledFuture<Long> future = timer.schedule(System::nanoTime, 50, TimeUnit.MILLISECONDS);
+        long end = future.get(5, TimeUnit.SECONDS);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(end - begin)).isGreaterThanOrEqualTo(50);
+        assertThat(timer.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void testTasksSpanningSeveralRoundsOfTheWheel() throws Exception {
+        // The wheel has 8 buckets of 1 ms, so a 30 ms task needs several rounds
+        CountDownLatch latch = new CountDownLatch(3);
+        timer.schedule(latch::countDown, 30, TimeUnit.MILLISECONDS);
+        timer.schedule(latch::countDown, 3, TimeUnit.MILLISECONDS);
+        timer.schedule(latch::countDown, 0, TimeUnit.MILLISECONDS);
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void testThatCancelledTasksAreReleasedWithoutWaitingForTheirDelay() throws InterruptedException {
+        AtomicInteger executed = new AtomicInteger();
+        for (int i = 0; i < 10000; i++) {
+            ScheduledFuture<?> future = timer.schedule(executed::incrementAndGet, 1, TimeUnit.HOURS);
+            assertThat(future.cancel(false)).isTrue();
+            assertThat(future.isCancelled()).isTrue();
+        }
+        await().until(() -> timer.size() == 0);
+        assertThat(executed).hasValue(0);
+    }
+
+    @Test
+    public void testPeriodicTasks() {
+        AtomicInteger fixedRate = new AtomicInteger();
+        AtomicInteger fixedDelay = new AtomicInteger();
+        ScheduledFuture<?> rate = timer.scheduleAtFixedRate(fixedRate::incrementAndGet, 0, 5, TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> delay = timer.scheduleWithFixedDelay(fixedDelay::incrementAndGet, 0, 5,
+                TimeUnit.MILLISECONDS);
+        await().until(() -> fixedRate.get() > 5 && fixedDelay.get() > 5);
+
+        rate.cancel(false);
+        delay.cancel(false);
+        await().until(() -> timer.size() == 0);
+    }
+
+    @Test
+    public void testThatTheTimerResumesAfterBeingIdle() throws Exception {
+        assertThat(timer.schedule(() -> 1, 5, TimeUnit.MILLISECONDS).get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        Thread.sleep(50);
+        assertThat(timer.schedule(() -> 2, 5, TimeUnit.MILLISECONDS).get(5, TimeUnit.SECONDS)).isEqualTo(2);
+    }
+
+    @Test
+    public void testShutdown() throws InterruptedException {
+        timer.schedule(() -> {
+        }, 1, TimeUnit.HOURS);
+        assertThat(timer.isShutdown()).isFalse();
+        timer.shutdown();
+        assertThat(timer.isShutdown()).isTrue();
+        assertThat(timer.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(timer.isTerminated()).isTrue();
+        assertThat(timer.shutdownNow()).hasSize(1);
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void testThatTasksAreRejectedAfterShutdown() {
+        timer.shutdown();
+        timer.schedule(() -> {
+        }, 1, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void testThatTheDefaultTimerIsAHashedWheelTimer() {
+        assertThat(Infrastructure.getDefaultTimer()).isInstanceOf(HashedWheelTimer.class);
+    }
+}
@@ -0,0 +1,139 @@
+package io.smallrye.reactive.infrastructure;
+
+import io.reactivex.Flowable;
+import io.smallrye.reactive.Multi;
+import io.smallrye.reactive.Uni;
+import org.junit.After;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class InfrastructureTest {
+
+    @After
+    public void cleanup() {
+        Infrastructure.initialize();
+    }
+
+    @Test
+    public void testThatTheExecutorsAreCreatedOnFirstUse() {
+        Infrastructure.shutdown();
+        assertThat(Infrastructure.isInitialized()).isFalse();
+        assertThat(Infrastructure.getRejectedTaskCount()).isEqualTo(0);
+
+        assertThat(Uni.createFrom().item(1).map(i -> i + 1).await().indefinitely()).isEqualTo(2);
+        assertThat(Infrastructure.isInitialized()).isFalse();
+
+        assertThat(Infrastructure.getDefaultTimer()).isNotNull();
+        assertThat(Infrastructure.isInitialized()).isTrue();
+    }
+
+    @Test
+    public void testInitializeAndShutdown() {
+        Infrastructure.initialize();
+        assertThat(Infrastructure.isInitialized()).isTrue();
+        Executor executor = Infrastructure.getDefaultExecutor();
+        assertThat(Infrastructure.getDefaultExecutor()).isSameAs(executor);
+
+        Infrastructure.shutdown();
+        assertThat(Infrastructure.isInitialized()).isFalse();
+        try {
+            executor.execute(() -> {
+            });
+            fail("Exception expected");
+        } catch (RejectedExecutionException e) {
+            // Expected, the executor is shut down.
+        }
+
+        Executor recreated = Infrastructure.getDefaultExecutor();
+        assertThat(recreated).isNotSameAs(executor);
+        assertThat(Uni.createFrom().item(1).subscribeOn(recreated).await().indefinitely()).isEqualTo(1);
+    }
+
+    @Test
+    public void testThatAssemblingAPipelineDoesNotCreateTheExecutors() {
+        Infrastructure.shutdown();
+        Uni<Integer> uni = Uni.createFrom().item(1)
+                .onItem().delayIt().by(Duration.ofMillis(10))
+                .onNoItem().after(Duration.ofSeconds(5)).fail()
+                .onFailure().retry().withBackOff(Duration.ofMillis(10)).atMost(3)
+                .hedge().after(Duration.ofSeconds(5)).atMost(2);
+        Multi.createFrom().ticks().every(Duration.ofMillis(10)).group().intoLists().every(Duration.ofMillis(10))
+                .transform().byTakingItemsFor(Duration.ofMillis(10));
+        assertThat(uni).isNotNull();
+        assertThat(Infrastructure.isInitialized()).isFalse();
+
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            Uni<Integer> delayed = Uni.createFrom().item(2).onItem().delayIt().onExecutor(executor)
+                    .by(Duration.ofMillis(10));
+            assertThat(delayed.await().indefinitely()).isEqualTo(2);
+            assertThat(Infrastructure.isInitialized()).isFalse();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testThatPipelinesAssembledBeforeShutdownUseTheNewExecutors() {
+        Infrastructure.initialize();
+        Uni<Integer> uni = Uni.createFrom().item(1).onItem().delayIt().by(Duration.ofMillis(10))
+                .onNoItem().after(Duration.ofSeconds(5)).fail();
+        Infrastructure.shutdown();
+        assertThat(uni.await().indefinitely()).isEqualTo(1);
+    }
+
+    /**
+     * Guards the startup cost: loads the classes in an isolated class loader, as a new process would, and checks that
+     * creating and awaiting a synchronous {@link Uni} neither creates the executors nor starts a thread.
+     */
+    @Test
+    public void testThatStartingUpDoesNotCreateThreads() throws Exception {
+        URL[] urls = {
+                Infrastructure.class.getProtectionDomain().getCodeSource().getLocation(),
+                Startup.class.getProtectionDomain().getCodeSource().getLocation(),
+                Publisher.class.getProtectionDomain().getCodeSource().getLocation(),
+                Flowable.class.getProtectionDomain().getCodeSource().getLocation()
+        };
+        Set<Thread> before = Thread.getAllStackTraces().keySet();
+        try (URLClassLoader loader = new URLClassLoader(urls, null)) {
+            @SuppressWarnings("unchecked")
+            Callable<Object> startup = (Callable<Object>) loader.loadClass(Startup.class.getName())
+                    .getDeclaredConstructor().newInstance();
+            assertThat(startup.call()).isEqualTo(2);
+
+            Class<?> infrastructure = loader.loadClass(Infrastructure.class.getName());
+            assertThat(infrastructure).isNotSameAs(Infrastructure.class);
+            Method initialized = infrastructure.getDeclaredMethod("isInitialized");
+            initialized.setAccessible(true);
+            assertThat(initialized.invoke(null)).isEqualTo(false);
+        }
+
+        Set<Thread> started = new HashSet<>(Thread.getAllStackTraces().keySet());
+        started.removeAll(before);
+        assertThat(started.stream().map(Thread::getName).collect(Collectors.toList()))
+                .noneMatch(name -> name.startsWith("smallrye-reactive-"));
+    }
+
+    public static class Startup implements Callable<Object> {
+        @Override
+        public Object call() {
+            return Uni.createFrom().item(1).map(i -> i + 1).await().indefinitely();
+        }
+    }
+}
@@ -48,6 +48,30 @@ public class UniInterceptorTest {
         assertThat(Infrastructure.getUniInterceptors().get(1)).isEqualTo(interceptor2);
     }
 
+    @Test
+    public void testThatInstancesAreReturnedAsIsWithoutInterceptors() {
+        assertThat(Infrastructure.getUniInterceptors()).isEmpty();
+        Uni<Integer> uni = Uni.createFrom().item(1);
+        UniSubscriber<Integer> subscriber = new UniSubscriber<Integer>() {
+            @Override
+            public void onSubscribe(UniSubscription subscription) {
+                // Ignored
+            }
+
+            @Override
+            public void onItem(Integer item) {
+                // Ignored
+            }
+
+            @Override
+            public void onFailure(Throwable failure) {
+                // Ignored
+            }
+        };
+        assertThat(Infrastructure.onUniCreation(uni)).isSameAs(uni);
+        assertThat(Infrastructure.onUniSubscription(uni, subscriber)).isSameAs(subscriber);
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testCreationInterception() {
@@ -0,0 +1,70 @@
+package io.smallrye.reactive.infrastructure;
+
+import org.junit.Test;
+
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class VirtualThreadsTest {
+
+    private static boolean isJava21OrLater() {
+        String version = System.getProperty("java.specification.version");
+        return !version.startsWith("1.") && Integer.parseInt(version) >= 21;
+    }
+
+    @Test
+    public void testDetection() throws Exception {
+        assertThat(VirtualThreads.isAvailable()).isEqualTo(isJava21OrLater());
+        assertThat(VirtualThreads.isVirtual(Thread.currentThread())).isFalse();
+
+        if (VirtualThreads.isAvailable()) {
+            ExecutorService executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+            try {
+                assertThat(executor.submit(() -> VirtualThreads.isVirtual(Thread.currentThread()))
+                        .get(5, TimeUnit.SECONDS)).isTrue();
+            } finally {
+                executor.shutdown();
+            }
+        } else {
+            try {
+                VirtualThreads.newVirtualThreadPerTaskExecutor();
+                fail("Exception expected");
+            } catch (UnsupportedOperationException e) {
+                // Expected
+            }
+        }
+    }
+
+    @Test
+    public void testTheVirtualThreadMode() {
+        Properties properties = new Properties();
+        properties.setProperty(DefaultExecutorConfiguration.VIRTUAL_THREADS, "true");
+        DefaultExecutorConfiguration configuration = new DefaultExecutorConfiguration(properties);
+        try {
+            if (VirtualThreads.isAvailable()) {
+                assertThat(configuration.getDefaultBlockingExecutor())
+                        .isNotSameAs(configuration.getDefaultWorkerExecutor());
+            } else {
+                // Falls back to the worker pool
+                assertThat(configuration.getDefaultBlockingExecutor())
+                        .isSameAs(configuration.getDefaultWorkerExecutor());
+            }
+        } finally {
+            configuration.shutdown();
+        }
+    }
+
+    @Test
+    public void testThatTheBlockingExecutorIsTheWorkerPoolByDefault() {
+        DefaultExecutorConfiguration configuration = new DefaultExecutorConfiguration(new Properties());
+        try {
+            assertThat(configuration.getDefaultBlockingExecutor()).isSameAs(configuration.getDefaultWorkerExecutor());
+        } finally {
+            configuration.shutdown();
+        }
+    }
+}
@@ -2,9 +2,14 @@ package io.smallrye.reactive.operators;
 
 import io.smallrye.reactive.Multi;
 import org.junit.Test;
+import org.reactivestreams.Subscription;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -214,4 +219,88 @@ public class MultiCreateFromItemsTest {
                 .assertHasFailedWith(IllegalArgumentException.class, "");
     }
 
+    @Test
+    public void testThatTheIteratorIsOnlyAdvancedOnRequest() {
+        AtomicInteger produced = new AtomicInteger();
+        Multi<Integer> multi = Multi.createFrom().iterable(() -> new Iterator<Integer>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                return produced.incrementAndGet();
+            }
+        });
+
+        MultiAssertSubscriber<Integer> subscriber = multi.subscribe().withSubscriber(MultiAssertSubscriber.create());
+        assertThat(produced).hasValue(0);
+
+        subscriber.request(10);
+        subscriber.assertNotTerminated().assertReceived(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        assertThat(produced).hasValue(10);
+
+        subscriber.cancel();
+        subscriber.request(10);
+        assertThat(produced).hasValue(10);
+        assertThat(subscriber.items()).hasSize(10);
+    }
+
+    @Test
+    public void testThatTheStreamIsOnlyConsumedOnRequest() {
+        AtomicInteger produced = new AtomicInteger();
+        Multi<Integer> multi = Multi.createFrom()
+                .deferredItems(() -> Stream.generate(produced::incrementAndGet).limit(50_000_000));
+
+        MultiAssertSubscriber<Integer> subscriber = multi.subscribe().withSubscriber(MultiAssertSubscriber.create(3));
+        subscriber.assertNotTerminated().assertReceived(1, 2, 3);
+        assertThat(produced.get()).isLessThanOrEqualTo(4);
+
+        subscriber.cancel();
+        subscriber.request(10);
+        assertThat(subscriber.items()).hasSize(3);
+    }
+
+    @Test
+    public void testCancellationFromOnItemStopsTheIteration() {
+        AtomicInteger produced = new AtomicInteger();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        List<Integer> items = new ArrayList<>();
+        Multi.createFrom().deferredItems(() -> Stream.generate(produced::incrementAndGet))
+                .subscribe().with(subscription::set, i -> {
+                    items.add(i);
+                    if (i == 5) {
+                        subscription.get().cancel();
+                    }
+                }, f -> {
+                }, () -> {
+                });
+        subscription.get().request(Long.MAX_VALUE);
+
+        assertThat(items).containsExactly(1, 2, 3, 4, 5);
+        assertThat(produced).hasValue(5);
+    }
+
+    @Test
+    public void testCreationFromArrayWithBackPressure() {
+        Multi.createFrom().items(1, 2, 3, 4, 5)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create())
+                .assertHasNotReceivedAnyItem()
+                .request(2)
+                .assertReceived(1, 2)
+                .assertNotTerminated()
+                .request(3)
+                .assertReceived(1, 2, 3, 4, 5)
+                .assertCompletedSuccessfully();
+    }
+
+    @Test
+    public void testCreationFromEmptyArray() {
+        Multi.createFrom().items()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create())
+                .assertCompletedSuccessfully()
+                .assertHasNotReceivedAnyItem();
+    }
+
 }
@@ -33,4 +33,32 @@ public class MultiCreateFromRangeTest {
         Multi.createFrom().range(1, -1);
     }
 
+    @Test
+    public void testRangeWithUnboundedRequest() {
+        MultiAssertSubscriber<Integer> ts = MultiAssertSubscriber.create(Long.MAX_VALUE);
+        Multi.createFrom().range(-2, 3).subscribe().withSubscriber(ts)
+                .assertReceived(-2, -1, 0, 1, 2)
+                .assertCompletedSuccessfully();
+    }
+
+    @Test
+    public void testRangeCancellation() {
+        MultiAssertSubscriber<Integer> ts = MultiAssertSubscriber.create();
+        Multi.createFrom().range(0, Integer.MAX_VALUE).subscribe().withSubscriber(ts)
+                .request(2)
+                .assertReceived(0, 1)
+                .cancel()
+                .request(10)
+                .assertReceived(0, 1)
+                .assertNotTerminated();
+    }
+
+    @Test
+    public void testRangeEndingAtMaxValue() {
+        MultiAssertSubscriber<Integer> ts = MultiAssertSubscriber.create(Long.MAX_VALUE);
+        Multi.createFrom().range(Integer.MAX_VALUE - 2, Integer.MAX_VALUE).subscribe().withSubscriber(ts)
+                .assertReceived(Integer.MAX_VALUE - 2, Integer.MAX_VALUE - 1)
+                .assertCompletedSuccessfully();
+    }
+
 }
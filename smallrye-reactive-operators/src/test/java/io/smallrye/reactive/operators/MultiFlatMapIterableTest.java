@@ -0,0 +1,147 @@
+package io.smallrye.reactive.operators;
+
+import io.smallrye.reactive.Multi;
+import io.smallrye.reactive.helpers.queues.Queues;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MultiFlatMapIterableTest {
+
+    @Test
+    public void testThatIterablesAreDrainedDirectly() {
+        Multi<Integer> multi = Multi.createFrom().range(1, 4)
+                .onItem().flatMap().iterable(i -> Arrays.asList(i, i))
+                .concatenateResults();
+        assertThat(multi).isInstanceOf(MultiFlatMapIterable.class);
+
+        multi.subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertCompletedSuccessfully()
+                .assertReceived(1, 1, 2, 2, 3, 3);
+    }
+
+    @Test
+    public void testWithEmptyIterables() {
+        Multi.createFrom().range(1, 7)
+                .onItem().flatMap().iterable(i -> i % 2 == 0 ? Collections.singletonList(i) : Collections.emptyList())
+                .mergeResults()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertCompletedSuccessfully()
+                .assertReceived(2, 4, 6);
+    }
+
+    @Test
+    public void testWithBackPressure() {
+        AtomicInteger requests = new AtomicInteger();
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(1, 4)
+                .on().request(n -> requests.addAndGet((int) n))
+                .onItem().flatMap().iterable(i -> Arrays.asList(i, i, i))
+                .concatenateResults()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(0));
+
+        subscriber.assertHasNotReceivedAnyItem().assertNotTerminated();
+        subscriber.request(2);
+        subscriber.assertNotTerminated().assertReceived(1, 1);
+        // The upstream items are prefetched, regardless of the concurrency
+        assertThat(requests).hasValue(Queues.BUFFER_S);
+        subscriber.request(5);
+        subscriber.assertNotTerminated().assertReceived(1, 1, 1, 2, 2, 2, 3);
+        subscriber.request(5);
+        subscriber.assertCompletedSuccessfully().assertReceived(1, 1, 1, 2, 2, 2, 3, 3, 3);
+    }
+
+    @Test
+    public void testWithAsynchronousUpstream() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            List<Integer> list = Multi.createFrom().range(0, 1000)
+                    .emitOn(executor)
+                    .onItem().flatMap().iterable(i -> Arrays.asList(i, i + 1))
+                    .mergeResults(16)
+                    .collect().asList().await().indefinitely();
+            assertThat(list).hasSize(2000).startsWith(0, 1, 1, 2).endsWith(999, 1000);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testWithMapperReturningNull() {
+        Multi.createFrom().range(1, 4)
+                .onItem().flatMap().<Integer>iterable(i -> null)
+                .mergeResults()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertHasFailedWith(NullPointerException.class, "`null`")
+                .assertHasNotReceivedAnyItem();
+    }
+
+    @Test
+    public void testWithIterableContainingNull() {
+        Multi.createFrom().range(1, 4)
+                .onItem().flatMap().iterable(i -> Arrays.asList(i, null))
+                .mergeResults()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertHasFailedWith(IllegalArgumentException.class, "`null`")
+                .assertReceived(1);
+    }
+
+    @Test
+    public void testWithFailingIteratorAndCollectedFailures() {
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(1, 4)
+                .onItem().flatMap().iterable(i -> i != 2 ? Collections.singletonList(i) : () -> new Iterator<Integer>() {
+                    @Override
+                    public boolean hasNext() {
+                        throw new IllegalStateException("boom");
+                    }
+
+                    @Override
+                    public Integer next() {
+                        return null;
+                    }
+                })
+                .collectFailures()
+                .mergeResults()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10));
+
+        subscriber.assertHasFailedWith(IllegalStateException.class, "boom").assertReceived(1, 3);
+    }
+
+    @Test
+    public void testWithFailingMapperAndCollectedFailures() {
+        Multi.createFrom().range(1, 4)
+                .onItem().flatMap().iterable(i -> {
+                    if (i == 2) {
+                        throw new IllegalStateException("boom-mapper");
+                    }
+                    return Collections.singletonList(i);
+                })
+                .collectFailures()
+                .mergeResults()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertReceived(1, 3)
+                .assertHasFailedWith(IllegalStateException.class, "boom-mapper");
+    }
+
+    @Test
+    public void testCancellation() {
+        AtomicInteger cancellations = new AtomicInteger();
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(1, 1000)
+                .on().cancellation(cancellations::incrementAndGet)
+                .onItem().flatMap().iterable(i -> Arrays.asList(i, i, i))
+                .concatenateResults()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(2));
+
+        subscriber.cancel();
+        subscriber.request(10);
+        subscriber.assertNotTerminated().assertReceived(1, 1);
+        assertThat(cancellations).hasValue(1);
+    }
+}
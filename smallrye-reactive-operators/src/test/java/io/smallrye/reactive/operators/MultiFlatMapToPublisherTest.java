@@ -11,6 +11,7 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Iterator;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -438,4 +439,163 @@ public class MultiFlatMapToPublisherTest {
         assertThat(list).hasSize(6).containsExactly(1, 2, 2, 3, 3, 4);
     }
 
+    @Test
+    public void testFlatMapWithBackPressure() {
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(1, 4)
+                .onItem().flatMap().publisher(i -> Multi.createFrom().items(i, i))
+                .withRequests(1)
+                .mergeResults()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(0));
+
+        subscriber.assertNotTerminated()
+                .assertHasNotReceivedAnyItem();
+
+        subscriber.request(3);
+        subscriber.assertNotTerminated();
+        assertThat(subscriber.items()).hasSize(3);
+
+        subscriber.request(10);
+        subscriber.assertCompletedSuccessfully();
+        assertThat(subscriber.items()).hasSize(6).containsExactlyInAnyOrder(1, 1, 2, 2, 3, 3);
+    }
+
+    @Test
+    public void testFlatMapCancellationPropagatesToInnerStreams() {
+        AtomicInteger cancelled = new AtomicInteger();
+        MultiAssertSubscriber<Long> subscriber = Multi.createFrom().range(1, 3)
+                .onItem().flatMap().publisher(i -> Multi.createFrom().<Long>nothing()
+                        .on().cancellation(cancelled::incrementAndGet))
+                .mergeResults()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10));
+
+        subscriber.assertNotTerminated();
+        subscriber.cancel();
+
+        assertThat(cancelled).hasValue(2);
+    }
+
+    @Test
+    public void testConcatMapPreservesOrderingWithAsynchronousInnerStreams() {
+        List<Integer> list = Multi.createFrom().range(1, 6)
+                .onItem().flatMap().publisher(i -> Uni.createFrom()
+                        .completionStage(CompletableFuture.supplyAsync(() -> i)).toMulti())
+                .concatenateResults()
+                .collect().asList().await().indefinitely();
+
+        assertThat(list).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    public void testFlatMapWithFusedInnerStreamsAndBackPressure() {
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 3)
+                .onItem().flatMap().iterable(i -> Arrays.asList(i, i, i))
+                .concatenateResults()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(2));
+
+        subscriber.assertNotTerminated().assertReceived(0, 0);
+        subscriber.request(5);
+        subscriber.assertNotTerminated().assertReceived(0, 0, 0, 1, 1, 1, 2);
+        subscriber.request(5);
+        subscriber.assertCompletedSuccessfully().assertReceived(0, 0, 0, 1, 1, 1, 2, 2, 2);
+    }
+
+    @Test
+    public void testFlatMapWithFailingFusedInnerStream() {
+        Multi.createFrom().range(0, 3)
+                .onItem().flatMap().iterable(i -> () -> new Iterator<Integer>() {
+                    @Override
+                    public boolean hasNext() {
+                        return true;
+                    }
+
+                    @Override
+                    public Integer next() {
+                        throw new IllegalStateException("boom");
+                    }
+                })
+                .concatenateResults()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertHasFailedWith(IllegalStateException.class, "boom")
+                .assertHasNotReceivedAnyItem();
+    }
+
+    @Test
+    public void testEagerConcatMapPreservesOrderingWithConcurrency() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        List<Integer> list = Multi.createFrom().range(1, 11)
+                .onItem().flatMap().publisher(i -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    return Uni.createFrom().completionStage(CompletableFuture.supplyAsync(() -> {
+                        try {
+                            // The first items are the slowest ones
+                            Thread.sleep((11 - i) * 5);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        inFlight.decrementAndGet();
+                        return i;
+                    })).toMulti();
+                })
+                .concatenateResults(4)
+                .collect().asList().await().indefinitely();
+
+        assertThat(list).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        assertThat(maxInFlight).hasValueBetween(2, 4);
+    }
+
+    @Test
+    public void testEagerConcatMapWithBackPressure() {
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 3)
+                .onItem().flatMap().publisher(i -> Multi.createFrom().items(i, i, i))
+                .withRequests(2)
+                .concatenateResults(3)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(2));
+
+        subscriber.assertNotTerminated().assertReceived(0, 0);
+        subscriber.request(5);
+        subscriber.assertNotTerminated().assertReceived(0, 0, 0, 1, 1, 1, 2);
+        subscriber.request(5);
+        subscriber.assertCompletedSuccessfully().assertReceived(0, 0, 0, 1, 1, 1, 2, 2, 2);
+    }
+
+    @Test
+    public void testEagerConcatMapWithInnerFailure() {
+        Multi.createFrom().range(0, 5)
+                .onItem().flatMap().publisher(i -> i == 2
+                        ? Multi.createFrom().<Integer>failure(new IOException("boom"))
+                        : Multi.createFrom().items(i, i))
+                .concatenateResults(3)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE))
+                .assertHasFailedWith(IOException.class, "boom");
+    }
+
+    @Test
+    public void testEagerConcatMapWithFailuresAndDelay() {
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 5)
+                .onItem().flatMap().publisher(i -> i == 2
+                        ? Multi.createFrom().<Integer>failure(new IOException("boom"))
+                        : Multi.createFrom().items(i, i))
+                .collectFailures()
+                .concatenateResults(3)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertHasFailedWith(IOException.class, "boom")
+                .assertReceived(0, 0, 1, 1, 3, 3, 4, 4);
+    }
+
+    @Test
+    public void testEagerConcatMapCancellationPropagatesToInnerStreams() {
+        AtomicInteger cancelled = new AtomicInteger();
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 5)
+                .onItem().flatMap().publisher(i -> Multi.createFrom().<Integer>nothing()
+                        .on().cancellation(cancelled::incrementAndGet))
+                .concatenateResults(2)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10));
+
+        subscriber.assertNotTerminated();
+        subscriber.cancel();
+
+        assertThat(cancelled).hasValue(2);
+    }
 }
@@ -0,0 +1,146 @@
+package io.smallrye.reactive.operators;
+
+import io.smallrye.reactive.CompositeException;
+import io.smallrye.reactive.Multi;
+import io.smallrye.reactive.Uni;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MultiFlatMapToUniTest {
+
+    @Test
+    public void testThatUniAreSubscribedDirectly() {
+        Multi<Integer> multi = Multi.createFrom().range(1, 4)
+                .onItem().flatMap().uni(i -> Uni.createFrom().item(i + 1))
+                .mergeResults();
+        assertThat(multi).isInstanceOf(MultiFlatMapToUni.class);
+
+        multi.subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertCompletedSuccessfully()
+                .assertReceived(2, 3, 4);
+    }
+
+    @Test
+    public void testThatNullItemsAreSkipped() {
+        Multi.createFrom().range(1, 7)
+                .onItem().flatMap().uni(i -> Uni.createFrom().item(i % 2 == 0 ? i : null))
+                .concatenateResults()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertCompletedSuccessfully()
+                .assertReceived(2, 4, 6);
+    }
+
+    @Test
+    public void testOrderingWithConcurrency() {
+        List<Integer> list = Multi.createFrom().range(1, 11)
+                .onItem().flatMap().completionStage(i -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        Thread.sleep((11 - i) * 5);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return i;
+                }))
+                .concatenateResults(4)
+                .collect().asList().await().indefinitely();
+
+        assertThat(list).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    }
+
+    @Test
+    public void testWithBackPressure() {
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onItem().flatMap().uni(i -> Uni.createFrom().item(i))
+                .mergeResults(4)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(0));
+
+        subscriber.assertHasNotReceivedAnyItem().assertNotTerminated();
+        subscriber.request(2);
+        subscriber.assertReceived(0, 1).assertNotTerminated();
+        subscriber.request(20);
+        subscriber.assertCompletedSuccessfully().assertReceived(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    public void testWithFailure() {
+        Multi.createFrom().range(0, 5)
+                .onItem().flatMap().uni(i -> i == 2
+                        ? Uni.createFrom().<Integer>failure(new IOException("boom"))
+                        : Uni.createFrom().item(i))
+                .concatenateResults()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertHasFailedWith(IOException.class, "boom")
+                .assertReceived(0, 1);
+    }
+
+    @Test
+    public void testWithFailuresCollected() {
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 5)
+                .onItem().flatMap().uni(i -> i % 2 == 1
+                        ? Uni.createFrom().<Integer>failure(new IOException("boom-" + i))
+                        : Uni.createFrom().item(i))
+                .collectFailures()
+                .mergeResults()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10));
+
+        subscriber.assertHasFailedWith(CompositeException.class, "boom-1")
+                .assertReceived(0, 2, 4);
+        assertThat(subscriber.failures().get(0)).hasMessageContaining("boom-3");
+    }
+
+    @Test
+    public void testWithMapperReturningNull() {
+        Multi.createFrom().range(0, 5)
+                .onItem().flatMap().<Integer>uni(i -> null)
+                .mergeResults()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertHasFailedWith(NullPointerException.class, "`null`");
+    }
+
+    @Test
+    public void testCancellationPropagatesToInnerUnis() {
+        AtomicInteger cancelled = new AtomicInteger();
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onItem().flatMap().uni(i -> Uni.createFrom().<Integer>nothing()
+                        .on().cancellation(cancelled::incrementAndGet))
+                .mergeResults(3)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10));
+
+        subscriber.assertNotTerminated();
+        subscriber.cancel();
+
+        assertThat(cancelled).hasValue(3);
+    }
+
+    @Test
+    public void testThatOnlyThePendingUnisAreCancelled() {
+        AtomicInteger cancelled = new AtomicInteger();
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onItem().flatMap().uni(i -> {
+                    Uni<Integer> uni = i % 2 == 0 ? Uni.createFrom().item(i) : Uni.createFrom().nothing();
+                    return uni.on().cancellation(cancelled::incrementAndGet);
+                })
+                .mergeResults(10)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10));
+
+        subscriber.assertReceived(0, 2, 4, 6, 8).assertNotTerminated();
+        subscriber.cancel();
+
+        assertThat(cancelled).hasValue(5);
+    }
+
+    @Test
+    public void testTestWith() {
+        Multi.createFrom().range(0, 10)
+                .onItem().testWith(i -> Uni.createFrom().item(i % 3 == 0))
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertCompletedSuccessfully()
+                .assertReceived(0, 3, 6, 9);
+    }
+}
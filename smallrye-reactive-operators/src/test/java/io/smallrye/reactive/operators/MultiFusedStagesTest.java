@@ -0,0 +1,114 @@
+package io.smallrye.reactive.operators;
+
+import io.smallrye.reactive.Multi;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MultiFusedStagesTest {
+
+    @Test
+    public void testThatConsecutiveStagesAreFused() {
+        Multi<Integer> source = Multi.createFrom().range(1, 10);
+        Multi<String> multi = source
+                .map(i -> i + 1)
+                .onItem().filterWith(i -> i % 2 == 0)
+                .onItem().consume(i -> {
+                })
+                .map(i -> Integer.toString(i));
+
+        assertThat(multi).isInstanceOf(MultiFusedStages.class);
+        assertThat(((MultiFusedStages<?, ?>) multi).numberOfStages()).isEqualTo(4);
+        assertThat(((MultiFusedStages<?, ?>) multi).upstream()).isSameAs(source);
+    }
+
+    @Test
+    public void testThatASingleStageIsNotFused() {
+        Multi<Integer> multi = Multi.createFrom().range(1, 10).map(i -> i + 1);
+        assertThat(multi).isInstanceOf(MultiMapOnResult.class);
+    }
+
+    @Test
+    public void testFusedStages() {
+        List<Integer> consumed = new CopyOnWriteArrayList<>();
+        Multi.createFrom().range(1, 10)
+                .map(i -> i + 1)
+                .onItem().filterWith(i -> i % 2 == 0)
+                .onItem().consume(consumed::add)
+                .map(i -> i * 10)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertCompletedSuccessfully()
+                .assertReceived(20, 40, 60, 80, 100);
+
+        assertThat(consumed).containsExactly(2, 4, 6, 8, 10);
+    }
+
+    @Test
+    public void testFusedStagesWithBackPressure() {
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(1, 10)
+                .onItem().filterWith(i -> i % 3 == 0)
+                .map(i -> i * 2)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(0));
+
+        subscriber.assertNotTerminated().assertHasNotReceivedAnyItem();
+
+        subscriber.request(1);
+        subscriber.assertNotTerminated().assertReceived(6);
+
+        subscriber.request(5);
+        subscriber.assertCompletedSuccessfully().assertReceived(6, 12, 18);
+    }
+
+    @Test
+    public void testFusedStagesWithMapperReturningNull() {
+        Multi.createFrom().range(1, 10)
+                .map(i -> i + 1)
+                .map(i -> i == 3 ? null : i)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertHasFailedWith(NullPointerException.class, "`null`")
+                .assertReceived(2);
+    }
+
+    @Test
+    public void testFusedStagesWithFailingPredicate() {
+        Multi.createFrom().range(1, 10)
+                .map(i -> i + 1)
+                .onItem().filterWith(i -> {
+                    if (i == 4) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return true;
+                })
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertHasFailedWith(IllegalStateException.class, "boom")
+                .assertReceived(2, 3);
+    }
+
+    @Test
+    public void testFusedCast() {
+        Multi.createFrom().<Object>items(1, 2, "three")
+                .onItem().consume(x -> {
+                })
+                .onItem().castTo(Integer.class)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertHasFailedWith(ClassCastException.class, null)
+                .assertReceived(1, 2);
+    }
+
+    @Test
+    public void testThatFusedStagesCanBeSubscribedMultipleTimes() {
+        Multi<Integer> multi = Multi.createFrom().range(1, 4)
+                .map(i -> i + 1)
+                .map(i -> i * 2);
+
+        multi.subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertCompletedSuccessfully()
+                .assertReceived(4, 6, 8);
+        multi.subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertCompletedSuccessfully()
+                .assertReceived(4, 6, 8);
+    }
+}
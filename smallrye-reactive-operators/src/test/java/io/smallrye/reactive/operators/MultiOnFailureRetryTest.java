@@ -1,10 +1,12 @@
 package io.smallrye.reactive.operators;
 
 import io.smallrye.reactive.Multi;
+import io.smallrye.reactive.RetryBudget;
 import io.smallrye.reactive.groups.MultiRetry;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -119,4 +121,45 @@ public class MultiOnFailureRetryTest {
                 .assertReceived(1, 2, 3, 4);
     }
 
+    @Test
+    public void testRetryWithBackOff() {
+        MultiAssertSubscriber<Integer> subscriber = MultiAssertSubscriber.create(20);
+
+        failing.onFailure().retry().withBackOff(Duration.ofMillis(10), Duration.ofMillis(20)).atMost(2)
+                .subscribe().withSubscriber(subscriber);
+
+        subscriber.await()
+                .assertReceived(1, 2, 3, 1, 2, 3, 1, 2, 3)
+                .assertHasFailedWith(IOException.class, "boom");
+        assertThat(numberOfSubscriptions).hasValue(3);
+    }
+
+    @Test
+    public void testCancellationDuringTheBackOff() throws InterruptedException {
+        MultiAssertSubscriber<Integer> subscriber = MultiAssertSubscriber.create(20);
+
+        failing.onFailure().retry().withBackOff(Duration.ofMillis(50)).atMost(5)
+                .subscribe().withSubscriber(subscriber);
+        subscriber.assertReceived(1, 2, 3);
+        subscriber.cancel();
+
+        Thread.sleep(200);
+        assertThat(numberOfSubscriptions).hasValue(1);
+        subscriber.assertNotTerminated();
+    }
+
+    @Test
+    public void testRetryWithABudget() {
+        RetryBudget budget = RetryBudget.of(1, Duration.ofMinutes(1));
+        MultiAssertSubscriber<Integer> subscriber = MultiAssertSubscriber.create(20);
+
+        failing.onFailure().retry().withBudget(budget).atMost(5)
+                .subscribe().withSubscriber(subscriber);
+
+        subscriber
+                .assertReceived(1, 2, 3, 1, 2, 3)
+                .assertHasFailedWith(IOException.class, "boom");
+        assertThat(numberOfSubscriptions).hasValue(2);
+    }
+
 }
@@ -7,12 +7,17 @@ import org.junit.Test;
 
 import java.io.IOException;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Iterator;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
@@ -49,8 +54,6 @@ public class MultiReceiveItemOnTest {
         Multi.createFrom().item(1).subscribeOn(null);
     }
 
-    // TODO Rejected execution does not forward a failure, it's caught by RX
-
     @Test
     public void testThatItemsAreDispatchedOnTheRightThread() {
         Set<String> itemThread = ConcurrentHashMap.newKeySet();
@@ -118,5 +121,133 @@ public class MultiReceiveItemOnTest {
                 .assertReceived(1, 2, 3, 4);
     }
 
+    @Test
+    public void testThatRejectedExecutionIsPropagated() {
+        executor.shutdownNow();
+        Multi.createFrom().items(1, 2, 3, 4)
+                .emitOn(executor)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(4))
+                .await()
+                .assertHasFailedWith(RejectedExecutionException.class, null)
+                .assertHasNotReceivedAnyItem();
+    }
+
+    @Test
+    public void testEmitOnWithBackPressure() {
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 1000)
+                .emitOn(executor)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(0));
+
+        subscriber.request(10);
+        await().until(() -> subscriber.items().size() == 10);
+        subscriber.assertNotTerminated();
+
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.await().assertCompletedSuccessfully();
+        assertThat(subscriber.items()).hasSize(1000);
+    }
+
+    @Test
+    public void testEmitOnFollowedByEmitOn() {
+        Set<String> itemThread = ConcurrentHashMap.newKeySet();
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10_000)
+                .emitOn(executor)
+                .emitOn(executor)
+                .onItem().consume(i -> itemThread.add(Thread.currentThread().getName()))
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE))
+                .await()
+                .assertCompletedSuccessfully();
 
+        assertThat(subscriber.items()).hasSize(10_000);
+        assertThat(itemThread).allSatisfy(s -> assertThat(s).startsWith("test-"));
+        int current = -1;
+        for (Integer i : subscriber.items()) {
+            assertThat(i).isEqualTo(current + 1);
+            current = i;
+        }
+    }
+
+    @Test
+    public void testEmitOnWithIteratorFailure() {
+        Iterable<Integer> iterable = () -> new Iterator<Integer>() {
+            int count;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                if (count == 2) {
+                    throw new IllegalStateException("boom");
+                }
+                return count++;
+            }
+        };
+
+        Multi.createFrom().iterable(iterable)
+                .emitOn(executor)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .await()
+                .assertHasFailedWith(IllegalStateException.class, "boom")
+                .assertReceived(0, 1);
+    }
+
+    @Test
+    public void testEmitOnInsideFlatMap() {
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10)
+                .onItem().flatMap().publisher(i -> Multi.createFrom().range(0, 100).emitOn(executor))
+                .mergeResults(4)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE))
+                .await()
+                .assertCompletedSuccessfully();
+
+        assertThat(subscriber.items()).hasSize(1000);
+    }
+
+    @Test
+    public void testEmitOnWithPrefetch() {
+        List<Long> requests = new CopyOnWriteArrayList<>();
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 100)
+                .on().request(requests::add)
+                .emitOn(executor, 16)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE))
+                .await()
+                .assertCompletedSuccessfully();
+
+        assertThat(subscriber.items()).hasSize(100);
+        assertThat(requests).startsWith(16L, 12L).allMatch(n -> n == 16L || n == 12L);
+    }
+
+    @Test
+    public void testThatNoHopIsNeededWhenAlreadyOnTheExecutor() {
+        ExecutorService single = Executors.newSingleThreadExecutor();
+        AtomicInteger tasks = new AtomicInteger();
+        Executor counting = command -> {
+            tasks.incrementAndGet();
+            single.execute(command);
+        };
+
+        try {
+            MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10_000)
+                    .emitOn(counting)
+                    .map(i -> i) // prevent the fusion between the two stages
+                    .emitOn(counting)
+                    .subscribe().withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE))
+                    .await()
+                    .assertCompletedSuccessfully();
+
+            assertThat(subscriber.items()).hasSize(10_000);
+            // One task per stage, the following drains are executed in place
+            assertThat(tasks).hasValueLessThanOrEqualTo(4);
+        } finally {
+            single.shutdownNow();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThatPrefetchMustBePositive() {
+        Multi.createFrom().item(1).emitOn(executor, 0);
+    }
 }
@@ -208,4 +208,37 @@ public class MultiSkipTest {
         Multi.createFrom().item(1).transform().bySkippingItemsFor(Duration.ofMillis(-1));
     }
 
+    @Test
+    public void testSkipWhileWithFailingPredicate() {
+        Multi.createFrom().range(1, 10).transform().bySkippingItemsWhile(i -> {
+            if (i == 3) {
+                throw new IllegalStateException("boom");
+            }
+            return true;
+        })
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertHasFailedWith(IllegalStateException.class, "boom")
+                .assertHasNotReceivedAnyItem();
+    }
+
+    @Test
+    public void testSkipWithBackPressure() {
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(1, 10).transform()
+                .bySkippingFirstItems(5)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(0));
+
+        subscriber.assertNotTerminated()
+                .assertHasNotReceivedAnyItem();
+
+        subscriber.request(2);
+
+        subscriber.assertNotTerminated()
+                .assertReceived(6, 7);
+
+        subscriber.request(10);
+
+        subscriber.assertCompletedSuccessfully()
+                .assertReceived(6, 7, 8, 9);
+    }
+
 }
@@ -11,6 +11,8 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class MultiTakeTest {
 
@@ -221,4 +223,43 @@ public class MultiTakeTest {
         Multi.createFrom().item(1).transform().byTakingItemsFor(Duration.ofMillis(-1));
     }
 
+    @Test
+    public void testTakeDoesNotRequestMoreThanNeeded() {
+        List<Long> requests = new CopyOnWriteArrayList<>();
+        Multi.createFrom().range(1, 1000)
+                .on().request(requests::add)
+                .transform().byTakingFirstItems(3)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE))
+                .assertCompletedSuccessfully()
+                .assertReceived(1, 2, 3);
+
+        assertThat(requests).containsExactly(3L);
+    }
+
+    @Test
+    public void testTakeCancelsUpstreamOnceDone() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Multi.createFrom().range(1, 1000)
+                .on().cancellation(() -> cancelled.set(true))
+                .transform().byTakingFirstItems(2)
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertCompletedSuccessfully()
+                .assertReceived(1, 2);
+
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    public void testTakeWhileWithFailingPredicate() {
+        Multi.createFrom().range(1, 10).transform().byTakingItemsWhile(i -> {
+            if (i == 3) {
+                throw new IllegalStateException("boom");
+            }
+            return true;
+        })
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertHasFailedWith(IllegalStateException.class, "boom")
+                .assertReceived(1, 2);
+    }
+
 }
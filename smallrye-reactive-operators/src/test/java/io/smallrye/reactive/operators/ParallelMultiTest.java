@@ -0,0 +1,174 @@
+package io.smallrye.reactive.operators;
+
+import io.smallrye.reactive.Multi;
+import io.smallrye.reactive.ParallelMulti;
+import org.junit.After;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ParallelMultiTest {
+
+    private ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @After
+    public void cleanup() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testParallelWithoutRunOn() {
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(1, 11)
+                .parallel(3)
+                .map(i -> i * 2)
+                .sequential()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.assertCompletedSuccessfully();
+        assertThat(subscriber.items()).containsExactlyInAnyOrder(2, 4, 6, 8, 10, 12, 14, 16, 18, 20);
+    }
+
+    @Test
+    public void testThatRailsRunConcurrently() {
+        Map<String, AtomicInteger> threads = new ConcurrentHashMap<>();
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 10_000)
+                .parallel(4)
+                .runOn(executor)
+                .map(i -> {
+                    threads.computeIfAbsent(Thread.currentThread().getName(), k -> new AtomicInteger())
+                            .incrementAndGet();
+                    return i + 1;
+                })
+                .filter(i -> i % 2 == 0)
+                .sequential()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.await().assertCompletedSuccessfully();
+        assertThat(subscriber.items()).hasSize(5_000).doesNotHaveDuplicates().allMatch(i -> i % 2 == 0);
+        assertThat(threads).hasSizeGreaterThan(1);
+        assertThat(threads.keySet()).allMatch(name -> name.startsWith("pool-"));
+        // No single thread handles almost all the items
+        assertThat(threads.values()).allMatch(count -> count.get() < 9_000);
+    }
+
+    @Test
+    public void testThatRailsAreNotDrainedInPlaceByOtherRails() {
+        Map<String, AtomicInteger> items = new ConcurrentHashMap<>();
+        Multi.createFrom().range(0, 10_000)
+                .parallel(4)
+                .runOn(executor)
+                .map(i -> {
+                    items.computeIfAbsent(Thread.currentThread().getName(), k -> new AtomicInteger())
+                            .incrementAndGet();
+                    return i;
+                })
+                .sequential()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE))
+                .await()
+                .assertCompletedSuccessfully();
+
+        assertThat(items).hasSizeGreaterThan(1);
+        assertThat(items.values()).allMatch(count -> count.get() < 9_000);
+    }
+
+    @Test
+    public void testFlatMapOnRails() {
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 100)
+                .parallel(2)
+                .runOn(executor)
+                .flatMap(i -> Multi.createFrom().items(i, i))
+                .sequential()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE));
+
+        subscriber.await().assertCompletedSuccessfully();
+        List<Integer> expected = IntStream.range(0, 100).boxed()
+                .flatMap(i -> IntStream.of(i, i).boxed())
+                .collect(Collectors.toList());
+        assertThat(subscriber.items()).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    public void testWithBackPressure() {
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 1000)
+                .parallel(4)
+                .map(i -> i)
+                .sequential()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(0));
+
+        subscriber.assertHasNotReceivedAnyItem().assertNotTerminated();
+        subscriber.request(10);
+        assertThat(subscriber.items()).hasSize(10);
+        subscriber.assertNotTerminated();
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.assertCompletedSuccessfully();
+        assertThat(subscriber.items()).hasSize(1000).doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void testFailureInARail() {
+        Multi.createFrom().range(0, 100)
+                .parallel(4)
+                .runOn(executor)
+                .map(i -> {
+                    if (i == 50) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return i;
+                })
+                .sequential()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE))
+                .await()
+                .assertHasFailedWith(IllegalStateException.class, "boom");
+    }
+
+    @Test
+    public void testUpstreamFailure() {
+        Multi.createFrom().<Integer>failure(new Exception("boom"))
+                .parallel(4)
+                .runOn(executor)
+                .map(i -> i)
+                .sequential()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(Long.MAX_VALUE))
+                .await()
+                .assertHasFailedWith(Exception.class, "boom");
+    }
+
+    @Test
+    public void testCancellation() {
+        MultiAssertSubscriber<Integer> subscriber = Multi.createFrom().range(0, 1000)
+                .parallel(2)
+                .sequential()
+                .subscribe().withSubscriber(MultiAssertSubscriber.create(5));
+
+        subscriber.cancel();
+        subscriber.request(10);
+        assertThat(subscriber.items()).hasSize(5);
+        subscriber.assertNotTerminated();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testInvalidNumberOfSubscribers() {
+        ParallelMulti<Integer> parallel = Multi.createFrom().range(0, 10).parallel(2);
+        MultiAssertSubscriber<Integer> subscriber = MultiAssertSubscriber.create(10);
+        parallel.subscribe(new Subscriber[] { subscriber });
+        subscriber.assertHasFailedWith(IllegalArgumentException.class, "subscribers");
+    }
+
+    @Test
+    public void testInvalidParallelism() {
+        assertThatThrownBy(() -> Multi.createFrom().range(0, 10).parallel(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -6,6 +6,7 @@ import io.reactivex.Maybe;
 import io.reactivex.Single;
 import io.smallrye.reactive.Uni;
 import org.junit.Test;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -193,4 +194,35 @@ public class UniAdaptFromTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testCreatingFromAnInstanceWithAToPublisherMethod() {
+        for (int i = 0; i < 3; i++) {
+            Uni<Integer> uni = Uni.createFrom().converterOf(new Source(i));
+            assertThat(uni.await().indefinitely()).isEqualTo(i);
+        }
+    }
+
+    @Test
+    public void testThatUnsupportedInstancesAreRejected() {
+        for (int i = 0; i < 2; i++) {
+            try {
+                Uni.createFrom().converterOf("hello");
+                fail("Exception expected");
+            } catch (RuntimeException e) {
+                assertThat(e).hasMessageContaining(String.class.getName()).hasMessageContaining("no adapter found");
+            }
+        }
+    }
+
+    public static class Source {
+        private final int value;
+
+        Source(int value) {
+            this.value = value;
+        }
+
+        public Publisher<Integer> toPublisher() {
+            return Flowable.just(value);
+        }
+    }
+}
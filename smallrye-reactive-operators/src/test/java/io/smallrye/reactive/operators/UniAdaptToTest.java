@@ -4,6 +4,7 @@ import io.reactivex.*;
 import io.reactivex.subscribers.TestSubscriber;
 import io.smallrye.reactive.Uni;
 import org.junit.Test;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -289,4 +290,62 @@ public class UniAdaptToTest {
         assertThat(stage2).isCompletedWithValue(null);
         assertThat(stage3).isCompletedExceptionally();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testThatTheConversionIsReusedForTheSameClass() {
+        for (int i = 0; i < 3; i++) {
+            Single<Integer> single = Uni.createFrom().item(i).adapt().to(Single.class);
+            single.test().assertValue(i);
+            Maybe<Integer> maybe = Uni.createFrom().item(i).adapt().to(Maybe.class);
+            maybe.test().assertValue(i);
+        }
+    }
+
+    @Test
+    public void testCreatingAnInstanceUsingAFromPublisherMethod() {
+        for (int i = 0; i < 3; i++) {
+            Wrapper wrapper = Uni.createFrom().item(i).adapt().to(Wrapper.class);
+            assertThat(Flowable.fromPublisher(wrapper.publisher).blockingFirst()).isEqualTo(i);
+        }
+    }
+
+    @Test
+    public void testThatFailuresFromTheFromPublisherMethodArePropagated() {
+        try {
+            Uni.createFrom().item(1).adapt().to(FailingWrapper.class);
+            fail("Exception expected");
+        } catch (IllegalStateException e) {
+            assertThat(e).hasMessage("boom");
+        }
+    }
+
+    @Test
+    public void testThatUnsupportedClassesAreRejected() {
+        for (int i = 0; i < 2; i++) {
+            try {
+                Uni.createFrom().item(1).adapt().to(String.class);
+                fail("Exception expected");
+            } catch (IllegalArgumentException e) {
+                assertThat(e).hasMessageContaining(String.class.getName()).hasMessageContaining("no adapter found");
+            }
+        }
+    }
+
+    public static class Wrapper {
+        final Publisher<?> publisher;
+
+        private Wrapper(Publisher<?> publisher) {
+            this.publisher = publisher;
+        }
+
+        public static Wrapper fromPublisher(Publisher<?> publisher) {
+            return new Wrapper(publisher);
+        }
+    }
+
+    public static class FailingWrapper {
+        public static FailingWrapper fromPublisher(Publisher<?> publisher) {
+            throw new IllegalStateException("boom");
+        }
+    }
+}
@@ -7,6 +7,9 @@ import org.junit.Test;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -126,4 +129,39 @@ public class UniAwaitTest {
         Uni.createFrom().nothing().await().asOptional().atMost(Duration.ofMillis(10));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testAwaitingOnAResolvedChainDoesNotBlock() {
+        // An interrupted thread would fail immediately if the await method was parking the thread.
+        Thread.currentThread().interrupt();
+        try {
+            assertThat(Uni.createFrom().item(1)
+                    .map(i -> i + 1)
+                    .onItem().mapToUni(i -> Uni.createFrom().item(i * 2))
+                    .await().indefinitely()).isEqualTo(4);
+        } finally {
+            assertThat(Thread.interrupted()).isTrue();
+        }
+    }
+
+    @Test(timeout = 5000)
+    public void testAwaitingFromAForkJoinWorkerDoesNotStarveThePool() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            // The item is emitted by another task of the same pool, which needs a compensation thread
+            Integer result = pool.submit(() -> Uni.createFrom().item(1)
+                    .subscribeOn(pool)
+                    .await().indefinitely()).get(5, TimeUnit.SECONDS);
+            assertThat(result).isEqualTo(1);
+
+            try {
+                pool.submit(() -> Uni.createFrom().nothing().await().atMost(Duration.ofMillis(50)))
+                        .get(5, TimeUnit.SECONDS);
+                fail("Exception expected");
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(TimeoutException.class);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
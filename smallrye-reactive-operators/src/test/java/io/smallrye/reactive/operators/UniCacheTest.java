@@ -13,6 +13,8 @@ import java.util.List;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 public class UniCacheTest {
 
     private static void race(Runnable candidate1, Runnable candidate2, Executor s) {
@@ -267,4 +269,69 @@ public class UniCacheTest {
         uni.subscribe().withSubscriber(subscriber);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testManyConcurrentSubscribers() throws InterruptedException {
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        AtomicInteger subscriptions = new AtomicInteger();
+        Uni<Integer> cached = Uni.createFrom().completionStage(future)
+                .on().subscription(s -> subscriptions.incrementAndGet())
+                .cache();
+
+        int count = 1000;
+        List<UniAssertSubscriber<Integer>> subscribers = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch latch = new CountDownLatch(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                executor.execute(() -> {
+                    UniAssertSubscriber<Integer> subscriber = UniAssertSubscriber.create();
+                    cached.subscribe().withSubscriber(subscriber);
+                    if (index % 2 == 0) {
+                        subscriber.cancel();
+                    } else {
+                        subscribers.add(subscriber);
+                    }
+                    if (index == count / 2) {
+                        future.complete(42);
+                    }
+                    latch.countDown();
+                });
+            }
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(subscriptions).hasValue(1);
+        assertThat(subscribers).hasSize(count / 2);
+        subscribers.forEach(s -> s.assertCompletedSuccessfully().assertItem(42));
+    }
+
+    @Test
+    public void testThatCancelledSubscribersAreNotNotified() {
+        UnicastProcessor<Integer> processor = UnicastProcessor.create();
+        Uni<Integer> cached = Uni.createFrom().publisher(processor).cache();
+
+        List<UniAssertSubscriber<Integer>> subscribers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            UniAssertSubscriber<Integer> subscriber = UniAssertSubscriber.create();
+            cached.subscribe().withSubscriber(subscriber);
+            subscribers.add(subscriber);
+        }
+        for (int i = 0; i < 10; i += 2) {
+            subscribers.get(i).cancel();
+        }
+
+        processor.onNext(1);
+        processor.onComplete();
+
+        for (int i = 0; i < 10; i++) {
+            if (i % 2 == 0) {
+                subscribers.get(i).assertNoResult().assertNoFailure();
+            } else {
+                subscribers.get(i).assertCompletedSuccessfully().assertItem(1);
+            }
+        }
+    }
+}
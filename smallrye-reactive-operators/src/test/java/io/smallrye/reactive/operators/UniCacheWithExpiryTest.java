@@ -0,0 +1,146 @@
+package io.smallrye.reactive.operators;
+
+import io.smallrye.reactive.CachedUni;
+import io.smallrye.reactive.Uni;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class UniCacheWithExpiryTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThatTtlMustBePositive() {
+        Uni.createFrom().item(1).cache(Duration.ZERO);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThatTtlCannotBeNull() {
+        Uni.createFrom().item(1).cache(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThatRefreshAheadMustBeShorterThanTtl() {
+        Uni.createFrom().item(1).cache(Duration.ofSeconds(1)).withRefreshAhead(Duration.ofSeconds(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThatFailureTtlCannotBeNegative() {
+        Uni.createFrom().item(1).cache(Duration.ofSeconds(1)).withFailureTtl(Duration.ofSeconds(-1));
+    }
+
+    @Test
+    public void testThatItemsAreCachedUntilExpiration() {
+        AtomicInteger count = new AtomicInteger();
+        Uni<Integer> cached = Uni.createFrom().deferredItem(count::incrementAndGet).cache(Duration.ofMillis(200));
+
+        assertThat(cached.await().indefinitely()).isEqualTo(1);
+        assertThat(cached.await().indefinitely()).isEqualTo(1);
+
+        await().until(() -> cached.await().indefinitely() == 2);
+        assertThat(count).hasValue(2);
+    }
+
+    @Test
+    public void testThatFailuresCanUseASpecificTtl() {
+        AtomicInteger count = new AtomicInteger();
+        Uni<Integer> cached = Uni.createFrom().<Integer>deferred(() -> {
+            if (count.incrementAndGet() == 1) {
+                return Uni.createFrom().failure(new IOException("boom"));
+            }
+            return Uni.createFrom().item(count.get());
+        }).cache(Duration.ofMinutes(1)).withFailureTtl(Duration.ZERO);
+
+        UniAssertSubscriber<Integer> subscriber = UniAssertSubscriber.create();
+        cached.subscribe().withSubscriber(subscriber);
+        subscriber.assertFailure(IOException.class, "boom");
+
+        assertThat(cached.await().indefinitely()).isEqualTo(2);
+        assertThat(cached.await().indefinitely()).isEqualTo(2);
+        assertThat(count).hasValue(2);
+    }
+
+    @Test
+    public void testThatConcurrentSubscribersShareTheSameSubscription() {
+        AtomicInteger count = new AtomicInteger();
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        Uni<Integer> cached = Uni.createFrom().deferred(() -> {
+            count.incrementAndGet();
+            return Uni.createFrom().completionStage(future);
+        }).cache(Duration.ofMinutes(1));
+
+        List<UniAssertSubscriber<Integer>> subscribers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            UniAssertSubscriber<Integer> subscriber = UniAssertSubscriber.create();
+            cached.subscribe().withSubscriber(subscriber);
+            subscribers.add(subscriber);
+        }
+        future.complete(23);
+
+        subscribers.forEach(s -> s.assertCompletedSuccessfully().assertItem(23));
+        assertThat(count).hasValue(1);
+    }
+
+    @Test
+    public void testInvalidation() {
+        AtomicInteger count = new AtomicInteger();
+        CachedUni<Integer> cached = Uni.createFrom().deferredItem(count::incrementAndGet).cache(Duration.ofMinutes(1));
+
+        assertThat(cached.await().indefinitely()).isEqualTo(1);
+        assertThat(cached.await().indefinitely()).isEqualTo(1);
+        cached.invalidate();
+        assertThat(cached.await().indefinitely()).isEqualTo(2);
+        assertThat(cached.await().indefinitely()).isEqualTo(2);
+    }
+
+    @Test
+    public void testRefreshAhead() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        CachedUni<Integer> cached = Uni.createFrom().deferred(() -> {
+            count.incrementAndGet();
+            CompletableFuture<Integer> future = new CompletableFuture<>();
+            futures.add(future);
+            return Uni.createFrom().completionStage(future);
+        }).cache(Duration.ofMinutes(1)).withRefreshAhead(Duration.ofMinutes(1).minusMillis(100));
+
+        UniAssertSubscriber<Integer> subscriber = UniAssertSubscriber.create();
+        cached.subscribe().withSubscriber(subscriber);
+        futures.get(0).complete(1);
+        subscriber.assertItem(1);
+
+        // Enter the refresh-ahead window, the stale item is still emitted while refreshing.
+        Thread.sleep(150);
+        assertThat(cached.await().indefinitely()).isEqualTo(1);
+        assertThat(count).hasValue(2);
+        assertThat(cached.await().indefinitely()).isEqualTo(1);
+        assertThat(count).hasValue(2);
+
+        futures.get(1).complete(2);
+        assertThat(cached.await().indefinitely()).isEqualTo(2);
+    }
+
+    @Test
+    public void testThatAFailedRefreshKeepsTheStaleItem() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger();
+        CachedUni<Integer> cached = Uni.createFrom().<Integer>deferred(() -> {
+            if (count.incrementAndGet() == 1) {
+                return Uni.createFrom().item(1);
+            }
+            return Uni.createFrom().failure(new IOException("boom"));
+        }).cache(Duration.ofMinutes(1)).withRefreshAhead(Duration.ofMinutes(1).minusMillis(100));
+
+        assertThat(cached.await().indefinitely()).isEqualTo(1);
+        Thread.sleep(150);
+        assertThat(cached.await().indefinitely()).isEqualTo(1);
+        assertThat(cached.await().indefinitely()).isEqualTo(1);
+        assertThat(count.get()).isGreaterThanOrEqualTo(2);
+    }
+}
@@ -208,4 +208,14 @@ public class UniCreateFromCompletionStageTest {
         ts.assertFailure(NullPointerException.class, "");
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testThatCompletedFuturesAreResolvedAtAssemblyTime() {
+        assertThat(Uni.createFrom().completionStage(CompletableFuture.completedFuture(1)))
+                .isInstanceOf(UniCreateFromKnownItem.class);
+        CompletableFuture<Integer> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IOException("boom"));
+        assertThat(Uni.createFrom().completionStage(failed)).isNotInstanceOf(UniCreateFromKnownItem.class);
+        assertThat(Uni.createFrom().completionStage(new CompletableFuture<>()))
+                .isNotInstanceOf(UniCreateFromKnownItem.class);
+    }
+}
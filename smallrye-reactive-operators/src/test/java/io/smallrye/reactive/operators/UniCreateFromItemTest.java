@@ -1,5 +1,6 @@
 package io.smallrye.reactive.operators;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import io.smallrye.reactive.Uni;
 import org.junit.Test;
 
@@ -90,4 +91,42 @@ public class UniCreateFromItemTest {
         subscriber.assertNoFailure().assertNoResult();
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testThatItemsAreResolvedAtAssemblyTime() {
+        assertThat(Uni.createFrom().item(1)).isInstanceOf(UniCreateFromKnownItem.class);
+        assertThat(Uni.createFrom().optional(Optional.of(1))).isInstanceOf(UniCreateFromKnownItem.class);
+        assertThat(Uni.createFrom().failure(new Exception("boom"))).isInstanceOf(UniCreateFromKnownFailure.class);
+    }
+
+    @Test
+    public void testThatMapperIsCalledForEachSubscriptionOnResolvedItem() {
+        AtomicInteger count = new AtomicInteger();
+        Uni<Integer> uni = Uni.createFrom().item(1).map(i -> i + count.incrementAndGet());
+        assertThat(count).hasValue(0);
+
+        UniAssertSubscriber<Integer> ts = UniAssertSubscriber.create();
+        uni.subscribe().withSubscriber(ts);
+        ts.assertCompletedSuccessfully().assertItem(2);
+        ts = UniAssertSubscriber.create();
+        uni.subscribe().withSubscriber(ts);
+        ts.assertCompletedSuccessfully().assertItem(3);
+    }
+
+    @Test
+    public void testThatMapperIsNotCalledWhenCancelledOnResolvedItem() {
+        AtomicInteger count = new AtomicInteger();
+        UniAssertSubscriber<Integer> ts = new UniAssertSubscriber<>(true);
+        Uni.createFrom().item(1).map(i -> i + count.incrementAndGet()).subscribe().withSubscriber(ts);
+        ts.assertNoResult().assertNoFailure();
+        assertThat(count).hasValue(0);
+    }
+
+    @Test
+    public void testFailingMapperOnResolvedItem() {
+        UniAssertSubscriber<Integer> ts = UniAssertSubscriber.create();
+        Uni.createFrom().item(1).<Integer>map(i -> {
+            throw new IllegalStateException("boom");
+        }).subscribe().withSubscriber(ts);
+        ts.assertFailure(IllegalStateException.class, "boom");
+    }
+}
@@ -0,0 +1,125 @@
+package io.smallrye.reactive.operators;
+
+import io.smallrye.reactive.CompositeException;
+import io.smallrye.reactive.Uni;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UniFusableOperatorTest {
+
+    @Test
+    public void testThatAdjacentSynchronousStagesAreFused() {
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        List<Integer> depths = new ArrayList<>();
+        Uni<Integer> uni = Uni.createFrom().completionStage(future);
+        for (int i = 0; i < 50; i++) {
+            uni = uni.map(x -> {
+                depths.add(new Throwable().getStackTrace().length);
+                return x + 1;
+            });
+        }
+
+        UniAssertSubscriber<Integer> subscriber = UniAssertSubscriber.create();
+        uni.subscribe().withSubscriber(subscriber);
+        future.complete(0);
+
+        subscriber.assertCompletedSuccessfully().assertItem(50);
+        assertThat(depths).hasSize(50);
+        // Each stage would add several frames if the stages were not fused.
+        assertThat(depths.get(49) - depths.get(0)).isLessThan(5);
+    }
+
+    @Test
+    public void testMixingItemAndFailureStages() {
+        List<String> events = new ArrayList<>();
+        UniAssertSubscriber<String> subscriber = UniAssertSubscriber.create();
+        Uni.createFrom().emitter(e -> e.complete(1))
+                .onItem().consume(i -> events.add("item-" + i))
+                .onItem().mapToItem(i -> (Object) ("v" + i))
+                .onItem().castTo(String.class)
+                .onFailure().consume(f -> events.add("failure"))
+                .onItem().ifNull().fail()
+                .subscribe().withSubscriber(subscriber);
+
+        subscriber.assertCompletedSuccessfully().assertItem("v1");
+        assertThat(events).containsExactly("item-1");
+    }
+
+    @Test
+    public void testThatAFailingStageSwitchesToTheFailureStages() {
+        AtomicInteger called = new AtomicInteger();
+        UniAssertSubscriber<Integer> subscriber = UniAssertSubscriber.create();
+        Uni.createFrom().emitter(e -> e.complete(1))
+                .map(i -> {
+                    throw new IllegalStateException("boom");
+                })
+                .map(i -> called.incrementAndGet())
+                .onFailure().mapTo(f -> new IOException(f.getMessage()))
+                .onFailure().consume(f -> called.incrementAndGet())
+                .subscribe().withSubscriber(subscriber);
+
+        subscriber.assertFailure(IOException.class, "boom");
+        assertThat(called).hasValue(1);
+    }
+
+    @Test
+    public void testFailingFailureCallback() {
+        UniAssertSubscriber<Integer> subscriber = UniAssertSubscriber.create();
+        Uni.createFrom().<Integer>emitter(e -> e.fail(new IOException("boom")))
+                .onFailure().consume(f -> {
+                    throw new IllegalStateException("oops");
+                })
+                .map(i -> i + 1)
+                .subscribe().withSubscriber(subscriber);
+
+        subscriber.assertFailure(CompositeException.class, "boom");
+    }
+
+    @Test
+    public void testNullHandlingWithinFusedStages() {
+        UniAssertSubscriber<Integer> subscriber = UniAssertSubscriber.create();
+        Uni.createFrom().emitter(e -> e.complete(1))
+                .map(i -> (Integer) null)
+                .onItem().ifNull().fail()
+                .map(i -> i + 1)
+                .subscribe().withSubscriber(subscriber);
+
+        subscriber.assertCompletedWithFailure();
+        assertThat(subscriber.getFailure()).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    public void testThatFusedChainsCanBeSubscribedSeveralTimes() {
+        AtomicInteger count = new AtomicInteger();
+        Uni<Integer> uni = Uni.createFrom().deferredItem(count::incrementAndGet)
+                .map(i -> i * 10)
+                .onItem().consume(i -> count.incrementAndGet());
+
+        assertThat(uni.await().indefinitely()).isEqualTo(10);
+        assertThat(uni.await().indefinitely()).isEqualTo(30);
+    }
+
+    @Test
+    public void testCancellationStopsTheFusedStages() {
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        AtomicInteger called = new AtomicInteger();
+        UniAssertSubscriber<Integer> subscriber = UniAssertSubscriber.create();
+        Uni.createFrom().completionStage(future)
+                .map(i -> called.incrementAndGet())
+                .onItem().consume(i -> called.incrementAndGet())
+                .subscribe().withSubscriber(subscriber);
+
+        subscriber.cancel();
+        future.complete(1);
+        subscriber.assertNoResult().assertNoFailure();
+        assertThat(called).hasValue(0);
+    }
+}
@@ -0,0 +1,173 @@
+package io.smallrye.reactive.operators;
+
+import io.smallrye.reactive.Uni;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class UniHedgeTest {
+
+    @Test
+    public void testThatAFastUniIsSubscribedOnce() throws InterruptedException {
+        AtomicInteger subscriptions = new AtomicInteger();
+        Uni<Integer> uni = Uni.createFrom().item(1).on().subscription(s -> subscriptions.incrementAndGet());
+
+        UniAssertSubscriber<Integer> subscriber = uni.hedge().after(Duration.ofMillis(10)).atMost(3)
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+        subscriber.assertCompletedSuccessfully().assertItem(1);
+        Thread.sleep(50);
+        assertThat(subscriptions).hasValue(1);
+    }
+
+    @Test
+    public void testThatTheFirstItemWinsAndTheOtherAttemptsAreCancelled() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        AtomicInteger cancellations = new AtomicInteger();
+        CompletableFuture<String> slow = new CompletableFuture<>();
+        Uni<String> uni = Uni.createFrom().deferred(() -> {
+            if (subscriptions.incrementAndGet() == 1) {
+                return Uni.createFrom().completionStage(slow).on().cancellation(cancellations::incrementAndGet);
+            }
+            return Uni.createFrom().item("fast");
+        });
+
+        UniAssertSubscriber<String> subscriber = uni.hedge().after(Duration.ofMillis(20)).atMost(2)
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+        subscriber.await().assertCompletedSuccessfully().assertItem("fast");
+        assertThat(subscriptions).hasValue(2);
+        assertThat(cancellations).hasValue(1);
+
+        slow.complete("slow");
+        subscriber.assertItem("fast");
+    }
+
+    @Test
+    public void testThatTheNumberOfAttemptsIsBounded() throws InterruptedException {
+        AtomicInteger subscriptions = new AtomicInteger();
+        AtomicInteger cancellations = new AtomicInteger();
+        Uni<Integer> uni = Uni.createFrom().<Integer>nothing()
+                .on().subscription(s -> subscriptions.incrementAndGet())
+                .on().cancellation(cancellations::incrementAndGet);
+
+        UniAssertSubscriber<Integer> subscriber = uni.hedge().after(Duration.ofMillis(10)).atMost(3)
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+        await().until(() -> subscriptions.get() == 3);
+        Thread.sleep(100);
+        assertThat(subscriptions).hasValue(3);
+        subscriber.assertNotCompleted();
+
+        subscriber.cancel();
+        assertThat(cancellations).hasValue(3);
+    }
+
+    @Test
+    public void testThatTheFirstFailureWins() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        Uni<String> uni = Uni.createFrom().deferred(() -> {
+            if (subscriptions.incrementAndGet() == 1) {
+                return Uni.createFrom().nothing();
+            }
+            return Uni.createFrom().failure(new IOException("boom"));
+        });
+
+        uni.hedge().after(Duration.ofMillis(10)).atMost(2)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .await()
+                .assertFailure(IOException.class, "boom");
+    }
+
+    @Test
+    public void testThatCancellingBeforeTheDelayPreventsTheHedging() throws InterruptedException {
+        AtomicInteger subscriptions = new AtomicInteger();
+        Uni<Integer> uni = Uni.createFrom().<Integer>nothing().on().subscription(s -> subscriptions.incrementAndGet());
+
+        UniAssertSubscriber<Integer> subscriber = uni.hedge().after(Duration.ofMillis(20)).atMost(2)
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+        subscriber.cancel();
+        Thread.sleep(100);
+        assertThat(subscriptions).hasValue(1);
+    }
+
+    @Test
+    public void testHedgingAtAnObservedPercentile() {
+        AtomicBoolean slow = new AtomicBoolean();
+        Uni<Integer> uni = Uni.createFrom().deferred(() -> {
+            if (slow.compareAndSet(true, false)) {
+                return Uni.createFrom().nothing();
+            }
+            return Uni.createFrom().item(1);
+        });
+        Uni<Integer> hedged = uni.hedge().atPercentile(0.95, Duration.ofMinutes(10)).atMost(2);
+        for (int i = 0; i < UniHedged.LatencyTracker.SAMPLES; i++) {
+            assertThat(hedged.await().indefinitely()).isEqualTo(1);
+        }
+
+        // The observed latency is used instead of the initial delay
+        slow.set(true);
+        assertThat(hedged.await().atMost(Duration.ofSeconds(5))).isEqualTo(1);
+    }
+
+    @Test
+    public void testThatWinningHedgesDoNotPullTheDelayDown() {
+        // Every 7th call, the first attempt takes 50 ms, so the p95 of the latency is 50 ms.
+        // The other attempts take 5 ms, so the hedges win on the slow calls.
+        AtomicInteger calls = new AtomicInteger();
+        AtomicInteger attempts = new AtomicInteger();
+        Uni<Integer> uni = Uni.createFrom().deferred(() -> {
+            boolean first = attempts.getAndIncrement() == 0;
+            long latency = first && calls.get() % 7 == 0 ? 50 : 5;
+            return Uni.createFrom().item(1).onItem().delayIt().by(Duration.ofMillis(latency));
+        });
+        UniHedged<Integer> hedged = new UniHedged<>(uni, Duration.ofMillis(30), 0.95, 2, null);
+
+        for (int i = 0; i < 100; i++) {
+            calls.set(i);
+            attempts.set(0);
+            assertThat(hedged.await().indefinitely()).isEqualTo(1);
+        }
+
+        // Measuring the winning hedges from their own start would record ~5 ms and collapse the delay to the
+        // latency of the fast calls.
+        assertThat(hedged.delayInNanos()).isBetween(Duration.ofMillis(30).toNanos(), Duration.ofMillis(80).toNanos());
+    }
+
+    @Test
+    public void testLatencyTrackerPercentile() {
+        UniHedged.LatencyTracker tracker = new UniHedged.LatencyTracker(0.9);
+        for (int i = 1; i < UniHedged.LatencyTracker.MINIMUM_SAMPLES; i++) {
+            tracker.record(i * 10);
+        }
+        assertThat(tracker.percentile()).isEqualTo(-1);
+        for (int i = UniHedged.LatencyTracker.MINIMUM_SAMPLES; i <= UniHedged.LatencyTracker.SAMPLES; i++) {
+            tracker.record(i * 10);
+        }
+        assertThat(tracker.percentile()).isEqualTo(1160);
+        // The ring buffer only keeps the latest samples
+        for (int i = 0; i < UniHedged.LatencyTracker.SAMPLES; i++) {
+            tracker.record(5);
+        }
+        assertThat(tracker.percentile()).isEqualTo(5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThatThePercentileMustBeValid() {
+        Uni.createFrom().item(1).hedge().atPercentile(1, Duration.ofMillis(10));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThatTheDelayMustBeSet() {
+        Uni.createFrom().item(1).hedge().atMost(2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThatTheNumberOfAttemptsMustBePositive() {
+        Uni.createFrom().item(1).hedge().after(Duration.ofMillis(10)).atMost(0);
+    }
+}
@@ -0,0 +1,162 @@
+package io.smallrye.reactive.operators;
+
+import io.smallrye.reactive.Uni;
+import io.smallrye.reactive.UniMemoizer;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class UniMemoizerTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThatLoaderCannotBeNull() {
+        Uni.memoize().<String, String>using(null, 10, Duration.ofSeconds(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThatMaximumSizeMustBePositive() {
+        Uni.memoize().<String, String>using(k -> Uni.createFrom().item(k), 0, Duration.ofSeconds(1));
+    }
+
+    @Test
+    public void testThatConcurrentLookupsAreCoalesced() {
+        Map<String, CompletableFuture<String>> futures = new ConcurrentHashMap<>();
+        AtomicInteger loads = new AtomicInteger();
+        UniMemoizer<String, String> memoizer = Uni.memoize().using(k -> {
+            loads.incrementAndGet();
+            return Uni.createFrom().completionStage(futures.computeIfAbsent(k, x -> new CompletableFuture<>()));
+        }, 10, Duration.ofMinutes(1));
+
+        List<UniAssertSubscriber<String>> subscribers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            UniAssertSubscriber<String> subscriber = UniAssertSubscriber.create();
+            memoizer.get("a").subscribe().withSubscriber(subscriber);
+            subscribers.add(subscriber);
+        }
+        UniAssertSubscriber<String> other = UniAssertSubscriber.create();
+        memoizer.get("b").subscribe().withSubscriber(other);
+
+        assertThat(loads).hasValue(2);
+        futures.get("a").complete("A");
+        futures.get("b").complete("B");
+        subscribers.forEach(s -> s.assertCompletedSuccessfully().assertItem("A"));
+        other.assertCompletedSuccessfully().assertItem("B");
+
+        assertThat(memoizer.get("a").await().indefinitely()).isEqualTo("A");
+        assertThat(loads).hasValue(2);
+
+        assertThat(memoizer.requestCount()).isEqualTo(7);
+        assertThat(memoizer.loadCount()).isEqualTo(2);
+        assertThat(memoizer.hitCount()).isEqualTo(5);
+        UniMemoizer.EntryStatistics statistics = memoizer.statistics("a");
+        assertThat(statistics.requestCount()).isEqualTo(6);
+        assertThat(statistics.loadCount()).isEqualTo(1);
+        assertThat(statistics.hitCount()).isEqualTo(5);
+        assertThat(memoizer.statistics("missing")).isNull();
+    }
+
+    @Test
+    public void testThatFailuresAreNotMemoized() {
+        AtomicInteger loads = new AtomicInteger();
+        UniMemoizer<String, String> memoizer = Uni.memoize().using(k -> {
+            if (loads.incrementAndGet() == 1) {
+                return Uni.createFrom().failure(new IOException("boom"));
+            }
+            return Uni.createFrom().item(k);
+        }, 10, Duration.ofMinutes(1));
+
+        UniAssertSubscriber<String> subscriber = UniAssertSubscriber.create();
+        memoizer.get("a").subscribe().withSubscriber(subscriber);
+        subscriber.assertFailure(IOException.class, "boom");
+
+        assertThat(memoizer.get("a").await().indefinitely()).isEqualTo("a");
+        assertThat(memoizer.get("a").await().indefinitely()).isEqualTo("a");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    public void testTimeBasedExpiration() {
+        AtomicInteger loads = new AtomicInteger();
+        UniMemoizer<String, Integer> memoizer = Uni.memoize()
+                .using(k -> Uni.createFrom().item(loads.incrementAndGet()), 10, Duration.ofMillis(100));
+
+        assertThat(memoizer.get("a").await().indefinitely()).isEqualTo(1);
+        assertThat(memoizer.get("a").await().indefinitely()).isEqualTo(1);
+        await().until(() -> memoizer.get("a").await().indefinitely() == 2);
+    }
+
+    @Test
+    public void testSizeBasedEvictionKeepsRecentlyAccessedKeys() {
+        AtomicInteger loads = new AtomicInteger();
+        UniMemoizer<Integer, Integer> memoizer = Uni.memoize().using(k -> {
+            loads.incrementAndGet();
+            return Uni.createFrom().item(k);
+        }, 3, Duration.ofMinutes(1));
+
+        memoizer.get(1).await().indefinitely();
+        memoizer.get(2).await().indefinitely();
+        memoizer.get(3).await().indefinitely();
+        assertThat(memoizer.size()).isEqualTo(3);
+
+        // The sweep gives every accessed key a second chance, then evicts the oldest one
+        memoizer.get(4).await().indefinitely();
+        assertThat(memoizer.size()).isEqualTo(3);
+        assertThat(memoizer.evictionCount()).isEqualTo(1);
+        assertThat(memoizer.statistics(1)).isNull();
+
+        // Access 2, so 3 is evicted next
+        memoizer.get(2).await().indefinitely();
+        memoizer.get(5).await().indefinitely();
+        assertThat(memoizer.statistics(2)).isNotNull();
+        assertThat(memoizer.statistics(3)).isNull();
+        assertThat(memoizer.evictionCount()).isEqualTo(2);
+        assertThat(loads).hasValue(5);
+    }
+
+    @Test
+    public void testInvalidation() {
+        AtomicInteger loads = new AtomicInteger();
+        UniMemoizer<String, Integer> memoizer = Uni.memoize()
+                .using(k -> Uni.createFrom().item(loads.incrementAndGet()), 10, Duration.ofMinutes(1));
+
+        Uni<Integer> uni = memoizer.get("a");
+        assertThat(uni.await().indefinitely()).isEqualTo(1);
+        memoizer.invalidate("a");
+        assertThat(memoizer.size()).isEqualTo(0);
+        assertThat(uni.await().indefinitely()).isEqualTo(2);
+        memoizer.get("b").await().indefinitely();
+        memoizer.invalidateAll();
+        assertThat(memoizer.size()).isEqualTo(0);
+        assertThat(uni.await().indefinitely()).isEqualTo(4);
+    }
+
+    @Test
+    public void testThatRepeatedInvalidationsDoNotBreakTheEviction() {
+        UniMemoizer<Integer, Integer> memoizer = Uni.memoize().using(k -> Uni.createFrom().item(k), 3,
+                Duration.ofMinutes(1));
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(memoizer.get(0).await().indefinitely()).isEqualTo(0);
+            memoizer.invalidate(0);
+        }
+        assertThat(memoizer.size()).isEqualTo(0);
+
+        for (int i = 1; i <= 4; i++) {
+            memoizer.get(i).await().indefinitely();
+        }
+        assertThat(memoizer.size()).isEqualTo(3);
+        assertThat(memoizer.evictionCount()).isEqualTo(1);
+        assertThat(memoizer.statistics(1)).isNull();
+        assertThat(memoizer.statistics(4)).isNotNull();
+    }
+}
@@ -1,10 +1,16 @@
 package io.smallrye.reactive.operators;
 
+import io.smallrye.reactive.RetryBudget;
 import io.smallrye.reactive.Uni;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
 public class UniOnFailureRetryTest {
 
     @Test(expected = IllegalArgumentException.class)
@@ -80,4 +86,94 @@ public class UniOnFailureRetryTest {
                 .subscribe().withSubscriber(UniAssertSubscriber.create())
                 .assertItem(1);
     }
+
+    @Test
+    public void testRetryWithBackOff() {
+        AtomicInteger count = new AtomicInteger();
+        Uni<Integer> uni = Uni.createFrom().deferredItem(() -> {
+            int i = count.getAndIncrement();
+            if (i < 3) {
+                throw new RuntimeException("boom");
+            }
+            return i;
+        });
+
+        long begin = System.nanoTime();
+        int result = uni.onFailure().retry().withBackOff(Duration.ofMillis(20)).withJitter(0).atMost(3)
+                .await().indefinitely();
+        long elapsed = Duration.ofNanos(System.nanoTime() - begin).toMillis();
+
+        assertThat(result).isEqualTo(3);
+        // 20 + 40 + 80
+        assertThat(elapsed).isGreaterThanOrEqualTo(140);
+    }
+
+    @Test
+    public void testThatTheLastFailureIsPropagatedWithBackOff() {
+        AtomicInteger count = new AtomicInteger();
+        UniAssertSubscriber<Object> subscriber = Uni.createFrom()
+                .deferredFailure(() -> new IOException("boom-" + count.incrementAndGet()))
+                .onFailure().retry().withBackOff(Duration.ofMillis(5), Duration.ofMillis(10)).atMost(2)
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        subscriber.await().assertFailure(IOException.class, "boom-3");
+    }
+
+    @Test
+    public void testCancellationDuringTheBackOff() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger();
+        UniAssertSubscriber<Object> subscriber = Uni.createFrom()
+                .deferredFailure(() -> {
+                    count.incrementAndGet();
+                    return new IOException("boom");
+                })
+                .onFailure().retry().withBackOff(Duration.ofMillis(50)).atMost(5)
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        assertThat(count).hasValue(1);
+        subscriber.cancel();
+        Thread.sleep(200);
+        assertThat(count).hasValue(1);
+        subscriber.assertNotCompleted();
+    }
+
+    @Test
+    public void testThatTheBudgetIsSharedAndLimitsTheRetries() {
+        RetryBudget budget = RetryBudget.of(3, Duration.ofMinutes(1));
+        AtomicInteger count = new AtomicInteger();
+        Uni<Object> uni = Uni.createFrom()
+                .deferredFailure(() -> {
+                    count.incrementAndGet();
+                    return new IOException("boom");
+                })
+                .onFailure().retry().withBudget(budget).atMost(2);
+
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertFailure(IOException.class, "boom");
+        assertThat(count).hasValue(3);
+        assertThat(budget.available()).isEqualTo(1);
+
+        uni.subscribe().withSubscriber(UniAssertSubscriber.create()).assertFailure(IOException.class, "boom");
+        // One retry left in the budget
+        assertThat(count).hasValue(5);
+        assertThat(budget.available()).isEqualTo(0);
+    }
+
+    @Test
+    public void testThatTheBudgetIsRefilled() {
+        RetryBudget budget = RetryBudget.of(2, Duration.ofMillis(100));
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isFalse();
+        await().until(budget::tryAcquire);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThatTheMaxBackOffCannotBeLowerThanTheInitialBackOff() {
+        Uni.createFrom().nothing().onFailure().retry().withBackOff(Duration.ofSeconds(2), Duration.ofSeconds(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThatTheJitterMustBeValid() {
+        Uni.createFrom().nothing().onFailure().retry().withJitter(1.5);
+    }
 }
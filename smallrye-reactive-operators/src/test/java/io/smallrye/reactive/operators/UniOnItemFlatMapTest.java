@@ -133,4 +133,42 @@ public class UniOnItemFlatMapTest {
         test.assertNotCompleted();
         assertThat(cancelled).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testFlatMapOnResolvedItemWithAsyncInner() {
+        UniAssertSubscriber<Integer> test = UniAssertSubscriber.create();
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        Uni.createFrom().item(1)
+                .onItem().mapToUni(v -> Uni.createFrom().completionStage(future))
+                .subscribe().withSubscriber(test);
+        test.assertNotCompleted();
+        future.complete(2);
+        test.assertCompletedSuccessfully().assertItem(2);
+    }
+
+    @Test
+    public void testCancellationOnResolvedItemWithAsyncInner() {
+        UniAssertSubscriber<Integer> test = UniAssertSubscriber.create();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Uni.createFrom().item(1)
+                .onItem().mapToUni(v -> Uni.createFrom().<Integer>nothing().on().cancellation(() -> cancelled.set(true)))
+                .subscribe().withSubscriber(test);
+        test.cancel();
+        test.assertNoResult().assertNoFailure();
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    public void testFlatMapOnResolvedFailure() {
+        UniAssertSubscriber<Integer> test = UniAssertSubscriber.create();
+        AtomicBoolean called = new AtomicBoolean();
+        Uni.createFrom().<Integer>failure(new IOException("boom"))
+                .onItem().mapToUni(v -> {
+                    called.set(true);
+                    return Uni.createFrom().item(2);
+                })
+                .subscribe().withSubscriber(test);
+        test.assertFailure(IOException.class, "boom");
+        assertThat(called).isFalse();
+    }
+}
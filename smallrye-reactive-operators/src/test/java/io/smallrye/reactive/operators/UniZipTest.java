@@ -1,8 +1,10 @@
 package io.smallrye.reactive.operators;
 
 import io.smallrye.reactive.CompositeException;
+import io.smallrye.reactive.Multi;
 import io.smallrye.reactive.TimeoutException;
 import io.smallrye.reactive.Uni;
+import io.smallrye.reactive.groups.UniAndGroupIterable;
 import io.smallrye.reactive.tuples.Tuple2;
 import io.smallrye.reactive.tuples.Tuple3;
 import io.smallrye.reactive.tuples.Tuple4;
@@ -11,6 +13,10 @@ import org.junit.Test;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -108,4 +114,144 @@ public class UniZipTest {
         assertThat(subscriber.getItem().asList()).containsExactly(1, 1, 2, 3);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testWithALargeNumberOfUnis() {
+        List<Uni<Integer>> unis = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            unis.add(Uni.createFrom().item(i));
+        }
+
+        UniAndGroupIterable<Object> group = Uni.combine().all().unis(unis);
+        List<?> list = group.combinedWith(l -> l).await().indefinitely();
+        assertThat(list).hasSize(5000);
+        assertThat(list.get(0)).isEqualTo(0);
+        assertThat(list.get(4999)).isEqualTo(4999);
+    }
+
+    @Test
+    public void testCombiningIntoAnArray() {
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        UniAndGroupIterable<Object> group = Uni.combine().all()
+                .unis(Uni.createFrom().completionStage(future), Uni.createFrom().item(2), Uni.createFrom().item(3));
+        UniAssertSubscriber<Integer> subscriber = group
+                .combinedWithArray(items -> (Integer) items[0] * 100 + (Integer) items[1] * 10 + (Integer) items[2])
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        subscriber.assertNotCompleted();
+        future.complete(1);
+        subscriber.assertCompletedSuccessfully().assertItem(123);
+    }
+
+    @Test
+    public void testCollectingFailuresWithArrayCombinator() {
+        UniAndGroupIterable<Object> group = Uni.combine().all()
+                .unis(Uni.createFrom().failure(new IOException("boom-1")), Uni.createFrom().item(2),
+                        Uni.createFrom().failure(new IOException("boom-2")));
+        UniAssertSubscriber<Object> subscriber = group.collectFailures()
+                .combinedWithArray(items -> items)
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        subscriber.assertFailure(CompositeException.class, "boom-1");
+        assertThat(((CompositeException) subscriber.getFailure()).getCauses()).hasSize(2);
+    }
+
+    @Test
+    public void testThatTheConcurrencyIsBounded() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger max = new AtomicInteger();
+        List<CompletableFuture<Integer>> subscribed = new ArrayList<>();
+        List<Uni<Integer>> unis = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            CompletableFuture<Integer> future = new CompletableFuture<>();
+            unis.add(Uni.createFrom().completionStage(future)
+                    .on().subscription(s -> {
+                        subscribed.add(future);
+                        max.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    })
+                    .on().termination((x, f, c) -> inFlight.decrementAndGet()));
+        }
+
+        UniAndGroupIterable<Object> group = Uni.combine().all().unis(unis);
+        UniAssertSubscriber<List<?>> subscriber = group.usingConcurrencyOf(3)
+                .<List<?>>combinedWith(l -> l)
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        assertThat(inFlight).hasValue(3);
+        // Always complete the most recently subscribed uni, the items must still be combined in the order of the unis
+        while (subscribed.size() < 10 || inFlight.get() > 0) {
+            for (int i = subscribed.size() - 1; i >= 0; i--) {
+                if (!subscribed.get(i).isDone()) {
+                    subscribed.get(i).complete(i);
+                    break;
+                }
+            }
+        }
+        subscriber.assertCompletedSuccessfully();
+        assertThat(new ArrayList<Object>(subscriber.getItem())).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(max).hasValue(3);
+    }
+
+    @Test
+    public void testBoundedConcurrencyWithALargeNumberOfSynchronousUnis() {
+        List<Uni<Integer>> unis = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            unis.add(Uni.createFrom().item(i));
+        }
+
+        UniAndGroupIterable<Object> group = Uni.combine().all().unis(unis);
+        Object[] items = group.usingConcurrencyOf(1).combinedWithArray(a -> a).await().indefinitely();
+        assertThat(items).hasSize(10000);
+        assertThat(items[9999]).isEqualTo(9999);
+    }
+
+    @Test
+    public void testThatFailuresStopTheSubscriptionsWhenBounded() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        List<Uni<Integer>> unis = new ArrayList<>();
+        unis.add(Uni.createFrom().failure(new IOException("boom")));
+        for (int i = 0; i < 5; i++) {
+            unis.add(Uni.createFrom().item(i).on().subscription(s -> subscriptions.incrementAndGet()));
+        }
+
+        UniAndGroupIterable<Object> group = Uni.combine().all().unis(unis);
+        group.usingConcurrencyOf(1).combinedWith(l -> l)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailure(IOException.class, "boom");
+        assertThat(subscriptions).hasValue(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThatConcurrencyMustBePositive() {
+        Uni.combine().all().unis(Uni.createFrom().item(1), Uni.createFrom().item(2)).usingConcurrencyOf(0);
+    }
+
+    @Test
+    public void testStreamingTheItemsAsTheyCome() {
+        CompletableFuture<Integer> first = new CompletableFuture<>();
+        CompletableFuture<Integer> second = new CompletableFuture<>();
+        Multi<Object> multi = Uni.combine().all()
+                .unis(Uni.createFrom().completionStage(first), Uni.createFrom().completionStage(second),
+                        Uni.createFrom().item(3))
+                .toMulti();
+
+        MultiAssertSubscriber<Object> subscriber = multi.subscribe().withSubscriber(MultiAssertSubscriber.create(10));
+        subscriber.assertReceived(3).assertNotTerminated();
+        second.complete(2);
+        subscriber.assertReceived(3, 2).assertNotTerminated();
+        first.complete(1);
+        subscriber.assertReceived(3, 2, 1).assertCompletedSuccessfully();
+    }
+
+    @Test
+    public void testStreamingWithCollectedFailures() {
+        Multi<Object> multi = Uni.combine().all()
+                .unis(Uni.createFrom().failure(new IOException("boom")), Uni.createFrom().item(2))
+                .collectFailures()
+                .usingConcurrencyOf(1)
+                .toMulti();
+
+        multi.subscribe().withSubscriber(MultiAssertSubscriber.create(10))
+                .assertReceived(2)
+                .assertHasFailedWith(IOException.class, "boom");
+    }
+}